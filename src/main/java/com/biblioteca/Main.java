@@ -8,6 +8,8 @@ import org.slf4j.LoggerFactory;
 import com.biblioteca.exceptions.LibraryException;
 import com.biblioteca.manager.LibraryManager;
 import com.biblioteca.model.LibraryItem;
+import com.biblioteca.persistence.CheckpointPolicy;
+import com.biblioteca.strategy.AuthorSearchStrategy;
 import com.biblioteca.strategy.IdSearchStrategy;
 import com.biblioteca.strategy.SearchStrategy;
 import com.biblioteca.strategy.TitleSearchStrategy;
@@ -76,14 +78,18 @@ public class Main {
         // Logging dell'avvio del sistema
         logger.info("Starting Library Management System");
 
+        // Ottenimento dell'istanza singleton del manager
+        LibraryManager manager = LibraryManager.getInstance();
+
         // Utilizzo try-with-resources per gestione automatica dello Scanner
         try (Scanner scanner = new Scanner(System.in)) {
-            // Ottenimento dell'istanza singleton del manager
-            LibraryManager manager = LibraryManager.getInstance();
 
             // Caricamento dei dati esistenti dal file di persistenza
             manager.loadFromFile();
 
+            // Checkpoint periodici per limitare la crescita del log delle modifiche
+            manager.startBackgroundCheckpoints(CheckpointPolicy.DEFAULT);
+
             // Esecuzione della dimostrazione automatica del sistema
             demonstrateSystem(manager);
 
@@ -95,6 +101,8 @@ public class Main {
             logger.error("System error: {}", e.getMessage());
             System.err.println("System error occurred. Please check logs.");
         } finally {
+            // Arresto dei checkpoint periodici, attendendo quello eventualmente in corso
+            manager.stopBackgroundCheckpoints();
             // Logging della terminazione del sistema
             logger.info("Library Management System stopped");
         }
@@ -334,6 +342,7 @@ public class Main {
      * 
      * Ricerca per titolo:</strong> Matching parziale case-insensitive
      * Ricerca per ID:</strong> Matching esatto o parziale con cifre
+     * Ricerca per autore:</strong> Matching per prefisso del nome o di una sua parola
      *
      * Caratteristiche avanzate:
      * 
@@ -349,6 +358,7 @@ public class Main {
         System.out.println("\n=== Search Items ===");
         System.out.println("1. Search by Title (partial matching supported)");
         System.out.println("2. Search by ID (ISBN/ISSN - partial matching with 3+ digits)");
+        System.out.println("3. Search by Author (name or surname prefix)");
         String choice = getValidatedInput("Search type: ", scanner);
 
         // Fornisce help contestuale per la ricerca ID
@@ -365,6 +375,7 @@ public class Main {
         SearchStrategy strategy = switch (choice) {
             case "1" -> new TitleSearchStrategy();
             case "2" -> new IdSearchStrategy();
+            case "3" -> new AuthorSearchStrategy();
             default -> {
                 System.out.println("Invalid choice, using title search");
                 yield new TitleSearchStrategy();
@@ -0,0 +1,135 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Indice per prefisso dei nomi degli autori.
+ *
+ * <p>Un autore corrisponde a una query se il suo nome normalizzato, a
+ * partire dall'inizio di una delle sue parole, inizia con la query: "Jos",
+ * "Bloch" e "joshua bl" trovano tutti "Joshua Bloch", "loch" no.</p>
+ *
+ * <p>Per ogni inizio di parola l'indice memorizza in un dizionario ordinato
+ * il suffisso del nome da quella posizione, con la {@link PostingList} degli
+ * autori che lo contengono. I suffissi che iniziano con la query formano un
+ * intervallo contiguo del dizionario: la ricerca individua l'inizio
+ * dell'intervallo in tempo logaritmico e ne visita solo le voci.</p>
+ *
+ * <p><strong>Esempio:</strong> "Joshua Bloch" produce le chiavi
+ * {@code "joshua bloch"} e {@code "bloch"}.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class AuthorPrefixIndex {
+
+    /** Suffissi dei nomi a partire da ogni inizio di parola, con le relative posting list */
+    private final NavigableMap<String, PostingList> suffixes = new TreeMap<>();
+
+    /**
+     * Indicizza l'autore normalizzato di un elemento.
+     *
+     * @param ordinal l'ordinale dell'elemento nell'indice
+     * @param normalizedAuthor l'autore già normalizzato (nullo per gli elementi senza autore)
+     */
+    public void add(int ordinal, String normalizedAuthor) {
+        // Elementi senza autore non producono chiavi
+        if (normalizedAuthor == null) {
+            return;
+        }
+        for (int i = 0; i < normalizedAuthor.length(); i++) {
+            if (isWordStart(normalizedAuthor, i)) {
+                suffixes.computeIfAbsent(normalizedAuthor.substring(i), key -> new PostingList()).add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Restituisce gli elementi il cui autore corrisponde a un prefisso.
+     *
+     * @param normalizedPrefix il prefisso già normalizzato
+     * @return gli ordinali corrispondenti, in ordine crescente (vuota se nessuno)
+     */
+    public PostingList find(String normalizedPrefix) {
+        List<PostingList> lists = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : range(normalizedPrefix)) {
+            lists.add(entry.getValue());
+        }
+        return lists.isEmpty() ? new PostingList() : PostingList.union(lists);
+    }
+
+    /**
+     * Stima per eccesso il numero di elementi che corrispondono a un prefisso.
+     *
+     * <p>Somma le dimensioni delle posting list dell'intervallo: un autore
+     * con più parole che iniziano con il prefisso viene contato più volte.</p>
+     *
+     * @param normalizedPrefix il prefisso già normalizzato
+     * @return il limite superiore del numero di corrispondenze
+     */
+    public int estimate(String normalizedPrefix) {
+        long estimate = 0;
+        for (Map.Entry<String, PostingList> entry : range(normalizedPrefix)) {
+            estimate += entry.getValue().size();
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Verifica se un autore corrisponde a un prefisso, senza usare l'indice.
+     *
+     * <p>È il criterio applicato dall'indice, usato dalle ricerche lineari
+     * per ottenere gli stessi risultati.</p>
+     *
+     * @param normalizedAuthor l'autore già normalizzato (può essere nullo)
+     * @param normalizedPrefix il prefisso già normalizzato
+     * @return {@code true} se una parola dell'autore inizia una sequenza che
+     *         comincia con il prefisso
+     */
+    public static boolean matches(String normalizedAuthor, String normalizedPrefix) {
+        if (normalizedAuthor == null || normalizedPrefix.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i + normalizedPrefix.length() <= normalizedAuthor.length(); i++) {
+            if (isWordStart(normalizedAuthor, i) && normalizedAuthor.startsWith(normalizedPrefix, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Restituisce le voci del dizionario le cui chiavi iniziano con il prefisso.
+     *
+     * @param normalizedPrefix il prefisso
+     * @return le voci dell'intervallo, in ordine di chiave
+     */
+    private Iterable<Map.Entry<String, PostingList>> range(String normalizedPrefix) {
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+        // Prima chiave maggiore o uguale al prefisso, poi finché le chiavi lo condividono
+        return () -> suffixes.tailMap(normalizedPrefix, true).entrySet().stream()
+                .takeWhile(entry -> entry.getKey().startsWith(normalizedPrefix))
+                .iterator();
+    }
+
+    /**
+     * Verifica se una posizione è l'inizio di una parola.
+     *
+     * @param text il testo normalizzato
+     * @param position la posizione da verificare
+     * @return {@code true} se il carattere è il primo di un token
+     */
+    private static boolean isWordStart(String text, int position) {
+        return TextNormalizer.isTokenChar(text.charAt(position))
+                && (position == 0 || !TextNormalizer.isTokenChar(text.charAt(position - 1)));
+    }
+}
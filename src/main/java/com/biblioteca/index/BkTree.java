@@ -0,0 +1,117 @@
+package com.biblioteca.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.biblioteca.util.EditDistance;
+
+/**
+ * Albero di Burkhard-Keller per la ricerca dei termini entro una distanza di modifica.
+ *
+ * <p>Ogni nodo contiene un termine; i figli sono etichettati con la loro
+ * distanza dal termine del padre. Per la disuguaglianza triangolare, un
+ * termine a distanza al più {@code r} dalla query può trovarsi solo nei
+ * figli con etichetta compresa fra {@code d - r} e {@code d + r}, dove
+ * {@code d} è la distanza fra la query e il termine del nodo: tutti gli
+ * altri sottoalberi vengono esclusi senza essere visitati.</p>
+ *
+ * <p>La distanza usata è quella di Damerau-Levenshtein
+ * ({@link EditDistance#damerauLevenshtein(String, String)}). L'albero
+ * supporta inserimenti incrementali e ignora i termini già presenti.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class BkTree {
+
+    /** Radice dell'albero (nulla finché non viene inserito un termine) */
+    private Node root;
+
+    /** Numero di termini distinti */
+    private int size;
+
+    /**
+     * Inserisce un termine.
+     *
+     * @param term il termine da inserire
+     * @return {@code true} se il termine non era già presente
+     */
+    public boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = EditDistance.damerauLevenshtein(term, node.term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Cerca i termini entro una distanza massima dalla query.
+     *
+     * @param query il termine cercato
+     * @param maxDistance la distanza massima ammessa
+     * @return i termini trovati, in ordine di visita
+     */
+    public List<String> search(String query, int maxDistance) {
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = EditDistance.damerauLevenshtein(query, node.term);
+            if (distance <= maxDistance) {
+                matches.add(node.term);
+            }
+            // Solo i figli compatibili con la disuguaglianza triangolare
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Restituisce il numero di termini distinti.
+     *
+     * @return il numero di termini
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Nodo dell'albero: un termine e i figli per distanza.
+     */
+    private static final class Node {
+
+        private final String term;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+}
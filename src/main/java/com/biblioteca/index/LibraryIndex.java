@@ -0,0 +1,349 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Contenitore degli indici di ricerca della biblioteca.
+ *
+ * <p>Ogni elemento aggiunto riceve un ordinale progressivo, utilizzato come
+ * identificativo compatto in tutte le strutture di indicizzazione. L'indice
+ * mantiene la tabella ordinale → elemento e i dati precalcolati necessari
+ * alle strategie di ricerca per verificare i candidati senza ricalcolarli.</p>
+ *
+ * <p><strong>Strutture mantenute:</strong></p>
+ * <ul>
+ *   <li><strong>Tabella elementi:</strong> Accesso O(1) per ordinale</li>
+ *   <li><strong>Chiavi di ricerca:</strong> {@link SearchKeys} di ogni elemento, per ordinale</li>
+ *   <li><strong>{@link TitleTokenIndex}:</strong> Indice invertito dei token dei titoli</li>
+ *   <li><strong>{@link NGramIndex}:</strong> Indice dei trigrammi dei titoli per frammenti di parola</li>
+ *   <li><strong>ID case-insensitive:</strong> Mappa hash per le corrispondenze esatte in O(1)</li>
+ *   <li><strong>Cifre degli ID:</strong> Forma canonica di ISBN/ISSN e relativo indice di trigrammi</li>
+ *   <li><strong>{@link AuthorPrefixIndex}:</strong> Nomi degli autori per la ricerca per prefisso</li>
+ *   <li><strong>{@link TitleArena}:</strong> Titoli in byte contigui per le scansioni
+ *       vettorizzate, costruiti solo al primo utilizzo</li>
+ *   <li><strong>{@link BkTree}:</strong> Vocabolario dei titoli per la ricerca
+ *       approssimata, costruito solo al primo utilizzo</li>
+ *   <li><strong>Bitmap degli attributi:</strong> {@link RoaringBitmap} per la
+ *       disponibilità e per il tipo, per filtrare senza interrogare gli elementi</li>
+ * </ul>
+ *
+ * <p>L'indice è append-only: gli ordinali rispecchiano l'ordine di inserimento
+ * e quindi l'ordine dei risultati della ricerca lineare. Fa eccezione la
+ * disponibilità, unico attributo modificabile, che va riallineata con
+ * {@link #updateAvailability(LibraryItem)} ad ogni cambio.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class LibraryIndex {
+
+    /** Elementi indicizzati, in ordine di ordinale */
+    private final List<LibraryItem> items = new ArrayList<>();
+
+    /** Chiavi di ricerca normalizzate, allineate per ordinale con {@link #items} */
+    private final List<SearchKeys> keys = new ArrayList<>();
+
+    /** Indice invertito dei token dei titoli */
+    private final TitleTokenIndex titleTokens = new TitleTokenIndex();
+
+    /** Indice dei trigrammi dei titoli normalizzati */
+    private final NGramIndex titleTrigrams = new NGramIndex(3);
+
+    /** Elementi per chiave case-insensitive dell'ID (più ID possono differire solo per maiuscole) */
+    private final Map<String, PostingList> idsByFoldedKey = new HashMap<>();
+
+    /** Indice dei trigrammi di cifre degli ID, per la ricerca parziale */
+    private final NGramIndex idDigitTrigrams = new NGramIndex(3);
+
+    /** Indice per prefisso degli autori normalizzati */
+    private final AuthorPrefixIndex authorPrefixes = new AuthorPrefixIndex();
+
+    /** Titoli in byte contigui (nullo finché nessuna strategia li richiede) */
+    private TitleArena titleArena;
+
+    /** Vocabolario dei titoli per distanza di modifica (nullo finché nessuna strategia lo richiede) */
+    private BkTree titleTermTree;
+
+    /** Ordinali degli elementi disponibili */
+    private final RoaringBitmap availableItems = new RoaringBitmap();
+
+    /** Ordinali degli elementi non disponibili */
+    private final RoaringBitmap unavailableItems = new RoaringBitmap();
+
+    /** Ordinali per chiave case-insensitive del tipo */
+    private final Map<String, RoaringBitmap> itemsByType = new HashMap<>();
+
+    /**
+     * Aggiunge un elemento a tutti gli indici.
+     *
+     * @param item l'elemento da indicizzare
+     * @return l'ordinale assegnato all'elemento
+     */
+    public int add(LibraryItem item) {
+        int ordinal = items.size();
+        // Chiavi precalcolate dall'elemento: nessuna normalizzazione ripetuta
+        SearchKeys itemKeys = SearchKeys.forItem(item);
+
+        items.add(item);
+        keys.add(itemKeys);
+        titleTokens.add(ordinal, itemKeys.getNormalizedTitle());
+        titleTrigrams.add(ordinal, itemKeys.getNormalizedTitle());
+        if (itemKeys.getFoldedId() != null) {
+            idsByFoldedKey.computeIfAbsent(itemKeys.getFoldedId(), key -> new PostingList()).add(ordinal);
+        }
+        idDigitTrigrams.add(ordinal, itemKeys.getIdDigits());
+        authorPrefixes.add(ordinal, itemKeys.getNormalizedAuthor());
+        if (titleArena != null) {
+            titleArena.add(itemKeys.getNormalizedTitle());
+        }
+        if (titleTermTree != null && itemKeys.getNormalizedTitle() != null) {
+            for (String term : TitleTokenIndex.terms(itemKeys.getNormalizedTitle())) {
+                titleTermTree.add(term);
+            }
+        }
+        (item.isAvailable() ? availableItems : unavailableItems).add(ordinal);
+        String typeKey = TextNormalizer.foldCase(item.getType());
+        if (typeKey != null) {
+            itemsByType.computeIfAbsent(typeKey, key -> new RoaringBitmap()).add(ordinal);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Riallinea le bitmap di disponibilità allo stato corrente di un elemento.
+     *
+     * <p>L'ordinale viene individuato tramite la mappa degli ID, confrontando
+     * le istanze; solo per gli elementi senza ID si ricorre a una scansione.</p>
+     *
+     * @param item l'elemento la cui disponibilità è cambiata
+     * @return {@code true} se l'elemento è indicizzato e le bitmap sono state aggiornate
+     */
+    public boolean updateAvailability(LibraryItem item) {
+        int ordinal = ordinalOf(item);
+        if (ordinal < 0) {
+            return false;
+        }
+        boolean available = item.isAvailable();
+        (available ? unavailableItems : availableItems).remove(ordinal);
+        (available ? availableItems : unavailableItems).add(ordinal);
+        return true;
+    }
+
+    /**
+     * Restituisce la bitmap degli elementi con lo stato di disponibilità dato.
+     *
+     * <p>La bitmap è quella mantenuta dall'indice e non va modificata.</p>
+     *
+     * @param available lo stato di disponibilità
+     * @return gli ordinali degli elementi disponibili o non disponibili
+     */
+    public RoaringBitmap getAvailabilityBitmap(boolean available) {
+        return available ? availableItems : unavailableItems;
+    }
+
+    /**
+     * Restituisce la bitmap degli elementi di un tipo, ignorando le maiuscole.
+     *
+     * <p>La bitmap è quella mantenuta dall'indice e non va modificata.</p>
+     *
+     * @param type il tipo dell'elemento (es. "Book", "Magazine")
+     * @return gli ordinali degli elementi del tipo (vuota se nessuno)
+     */
+    public RoaringBitmap getTypeBitmap(String type) {
+        RoaringBitmap bitmap = itemsByType.get(TextNormalizer.foldCase(type));
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+    /**
+     * Restituisce l'elemento associato a un ordinale.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @return l'elemento indicizzato
+     */
+    public LibraryItem get(int ordinal) {
+        return items.get(ordinal);
+    }
+
+    /**
+     * Restituisce il titolo normalizzato di un elemento.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @return il titolo normalizzato (nullo se l'elemento non ha titolo)
+     */
+    public String getNormalizedTitle(int ordinal) {
+        return keys.get(ordinal).getNormalizedTitle();
+    }
+
+    /**
+     * Restituisce gli elementi il cui ID coincide con quello dato, ignorando le maiuscole.
+     *
+     * <p>Equivale a filtrare la collezione con {@code equalsIgnoreCase}, ma
+     * richiede un solo accesso alla mappa hash.</p>
+     *
+     * @param id l'ID da cercare
+     * @return la posting list degli elementi corrispondenti (vuota se nessuno)
+     */
+    public PostingList findById(String id) {
+        return findByFoldedId(TextNormalizer.foldCase(id));
+    }
+
+    /**
+     * Restituisce gli elementi con la chiave case-insensitive dell'ID data.
+     *
+     * @param foldedId la chiave già calcolata con {@link TextNormalizer#foldCase(String)}
+     * @return la posting list degli elementi corrispondenti (vuota se nessuno)
+     */
+    public PostingList findByFoldedId(String foldedId) {
+        PostingList list = idsByFoldedKey.get(foldedId);
+        return list != null ? list : new PostingList();
+    }
+
+    /**
+     * Restituisce le sole cifre dell'ID di un elemento.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @return le cifre dell'ID (nullo se l'elemento non ha ID)
+     */
+    public String getIdDigits(int ordinal) {
+        return keys.get(ordinal).getIdDigits();
+    }
+
+    /**
+     * Cerca l'ordinale di un'istanza indicizzata.
+     *
+     * @param item l'elemento cercato
+     * @return l'ordinale, oppure -1 se l'istanza non è indicizzata
+     */
+    private int ordinalOf(LibraryItem item) {
+        String foldedId = TextNormalizer.foldCase(item.getId());
+        if (foldedId != null) {
+            PostingList candidates = findByFoldedId(foldedId);
+            for (int i = 0; i < candidates.size(); i++) {
+                if (items.get(candidates.get(i)) == item) {
+                    return candidates.get(i);
+                }
+            }
+            return -1;
+        }
+        for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+            if (items.get(ordinal) == item) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Restituisce il numero di elementi indicizzati.
+     *
+     * @return il numero di elementi
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Restituisce una vista read-only degli elementi in ordine di inserimento.
+     *
+     * @return la lista non modificabile degli elementi indicizzati
+     */
+    public List<LibraryItem> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Restituisce l'indice invertito dei token dei titoli.
+     *
+     * @return l'indice dei token
+     */
+    public TitleTokenIndex getTitleTokens() {
+        return titleTokens;
+    }
+
+    /**
+     * Restituisce l'indice dei trigrammi dei titoli.
+     *
+     * @return l'indice dei trigrammi
+     */
+    public NGramIndex getTitleTrigrams() {
+        return titleTrigrams;
+    }
+
+    /**
+     * Restituisce l'indice dei trigrammi di cifre degli ID.
+     *
+     * @return l'indice dei trigrammi di cifre
+     */
+    public NGramIndex getIdDigitTrigrams() {
+        return idDigitTrigrams;
+    }
+
+    /**
+     * Restituisce l'indice per prefisso degli autori.
+     *
+     * @return l'indice degli autori
+     */
+    public AuthorPrefixIndex getAuthorPrefixes() {
+        return authorPrefixes;
+    }
+
+    /**
+     * Restituisce l'autore normalizzato di un elemento.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @return l'autore normalizzato (nullo se l'elemento non ha autore)
+     */
+    public String getNormalizedAuthor(int ordinal) {
+        return keys.get(ordinal).getNormalizedAuthor();
+    }
+
+    /**
+     * Restituisce i titoli normalizzati memorizzati in byte contigui.
+     *
+     * <p>La struttura viene costruita al primo utilizzo a partire dai titoli
+     * già normalizzati e poi mantenuta ad ogni inserimento: le biblioteche
+     * che non la usano non ne pagano la memoria. La costruzione è
+     * sincronizzata, così che ricerche concorrenti ne costruiscano una sola.</p>
+     *
+     * @return i titoli in byte contigui
+     */
+    public synchronized TitleArena getTitleArena() {
+        if (titleArena == null) {
+            TitleArena arena = new TitleArena();
+            for (SearchKeys itemKeys : keys) {
+                arena.add(itemKeys.getNormalizedTitle());
+            }
+            titleArena = arena;
+        }
+        return titleArena;
+    }
+
+    /**
+     * Restituisce il vocabolario dei titoli organizzato per distanza di modifica.
+     *
+     * <p>L'albero viene costruito al primo utilizzo dal dizionario dei token
+     * e poi mantenuto ad ogni inserimento; come per {@link #getTitleArena()},
+     * la costruzione è sincronizzata.</p>
+     *
+     * @return l'albero BK dei token dei titoli
+     */
+    public synchronized BkTree getTitleTermTree() {
+        if (titleTermTree == null) {
+            BkTree tree = new BkTree();
+            for (String term : titleTokens.vocabulary()) {
+                tree.add(term);
+            }
+            titleTermTree = tree;
+        }
+        return titleTermTree;
+    }
+}
@@ -0,0 +1,164 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indice di n-grammi di caratteri per il substring matching.
+ *
+ * <p>Per ogni sequenza di {@code n} caratteri consecutivi di un testo
+ * normalizzato, l'indice mantiene la {@link PostingList} degli elementi che la
+ * contengono. Se un testo contiene la query come sottostringa, contiene anche
+ * tutti i suoi n-grammi: l'intersezione delle relative posting list è quindi
+ * un insieme di candidati che include sempre tutti i risultati corretti.</p>
+ *
+ * <p><strong>Caratteristiche:</strong></p>
+ * <ul>
+ *   <li><strong>Chiavi compatte:</strong> Ogni n-gramma è codificato in un {@code long}
+ *       (16 bit per carattere), senza allocare stringhe</li>
+ *   <li><strong>Query corte:</strong> Le query con meno di {@code n} caratteri
+ *       non possono essere risolte dall'indice</li>
+ *   <li><strong>Verifica obbligatoria:</strong> I candidati devono essere verificati
+ *       con {@code contains}, perché gli n-grammi possono comparire in punti diversi</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class NGramIndex {
+
+    /** Lunghezza massima supportata per un n-gramma codificato in un long */
+    private static final int MAX_GRAM_LENGTH = 4;
+
+    /** Lunghezza degli n-grammi */
+    private final int gramLength;
+
+    /** Posting list per ogni n-gramma codificato */
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * Costruisce un indice di n-grammi della lunghezza specificata.
+     *
+     * @param gramLength la lunghezza degli n-grammi (da 1 a 4)
+     * @throws IllegalArgumentException se la lunghezza non è supportata
+     */
+    public NGramIndex(int gramLength) {
+        if (gramLength < 1 || gramLength > MAX_GRAM_LENGTH) {
+            throw new IllegalArgumentException("Gram length must be between 1 and " + MAX_GRAM_LENGTH);
+        }
+        this.gramLength = gramLength;
+    }
+
+    /**
+     * Indicizza il testo normalizzato di un elemento.
+     *
+     * @param ordinal l'ordinale dell'elemento nell'indice
+     * @param normalizedText il testo già normalizzato (può essere nullo)
+     */
+    public void add(int ordinal, String normalizedText) {
+        // Testi nulli o troppo corti non producono n-grammi
+        if (normalizedText == null) {
+            return;
+        }
+        for (int i = 0; i + gramLength <= normalizedText.length(); i++) {
+            // PostingList ignora i duplicati dello stesso ordinale
+            postings.computeIfAbsent(encode(normalizedText, i), key -> new PostingList()).add(ordinal);
+        }
+    }
+
+    /**
+     * Restituisce gli elementi candidati a contenere la query come sottostringa.
+     *
+     * <p>Le posting list degli n-grammi distinti della query vengono
+     * intersecate partendo dalla più piccola.</p>
+     *
+     * @param normalizedQuery la query già normalizzata
+     * @return la lista dei candidati, oppure {@code null} se la query è più
+     *         corta di un n-gramma e l'indice non può restringere la ricerca
+     */
+    public PostingList candidates(String normalizedQuery) {
+        if (normalizedQuery.length() < gramLength) {
+            return null;
+        }
+
+        // Raccolta delle posting list degli n-grammi distinti
+        Set<Long> grams = new HashSet<>();
+        List<PostingList> lists = new ArrayList<>();
+        for (int i = 0; i + gramLength <= normalizedQuery.length(); i++) {
+            long gram = encode(normalizedQuery, i);
+            if (!grams.add(gram)) {
+                continue;
+            }
+            PostingList list = postings.get(gram);
+            // Un n-gramma assente esclude qualunque elemento
+            if (list == null) {
+                return new PostingList();
+            }
+            lists.add(list);
+        }
+
+        // Intersezione partendo dalla lista più selettiva
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        PostingList result = lists.get(0);
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result = PostingList.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Stima per eccesso il numero di candidati di una query senza intersecare le liste.
+     *
+     * <p>Restituisce la dimensione della posting list più corta fra quelle
+     * degli n-grammi della query: l'intersezione non può essere più grande.
+     * Richiede solo accessi alla mappa ed è adatta alla pianificazione.</p>
+     *
+     * @param normalizedQuery la query già normalizzata
+     * @return il limite superiore dei candidati, oppure {@code -1} se la query
+     *         è più corta di un n-gramma
+     */
+    public int estimateCandidates(String normalizedQuery) {
+        if (normalizedQuery.length() < gramLength) {
+            return -1;
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i + gramLength <= normalizedQuery.length(); i++) {
+            PostingList list = postings.get(encode(normalizedQuery, i));
+            if (list == null) {
+                return 0;
+            }
+            estimate = Math.min(estimate, list.size());
+        }
+        return estimate;
+    }
+
+    /**
+     * Restituisce la lunghezza degli n-grammi di questo indice.
+     *
+     * @return la lunghezza degli n-grammi
+     */
+    public int getGramLength() {
+        return gramLength;
+    }
+
+    /**
+     * Codifica l'n-gramma che inizia alla posizione data in un long.
+     *
+     * @param text il testo sorgente
+     * @param start la posizione iniziale dell'n-gramma
+     * @return la chiave codificata
+     */
+    private long encode(String text, int start) {
+        long key = 0;
+        for (int i = 0; i < gramLength; i++) {
+            key = (key << 16) | text.charAt(start + i);
+        }
+        return key;
+    }
+}
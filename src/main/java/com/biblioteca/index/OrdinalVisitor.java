@@ -0,0 +1,24 @@
+package com.biblioteca.index;
+
+/**
+ * Callback invocata per ogni elemento che corrisponde a una ricerca indicizzata.
+ *
+ * <p>Permette di consumare i risultati senza materializzarli in una lista:
+ * chi riceve gli ordinali può contarli, assegnare un punteggio o fermare
+ * la ricerca non appena ha raccolto abbastanza elementi.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface OrdinalVisitor {
+
+    /**
+     * Riceve l'ordinale di un elemento corrispondente.
+     *
+     * @param ordinal l'ordinale dell'elemento nel {@link LibraryIndex}
+     * @return {@code true} per continuare la ricerca, {@code false} per interromperla
+     */
+    boolean visit(int ordinal);
+}
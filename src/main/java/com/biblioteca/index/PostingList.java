@@ -0,0 +1,187 @@
+package com.biblioteca.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Lista ordinata di posizioni (ordinali) di elementi all'interno di un indice.
+ *
+ * <p>Ogni elemento indicizzato riceve un ordinale progressivo al momento
+ * dell'inserimento in {@link LibraryIndex}. Le posting list memorizzano questi
+ * ordinali in un array di interi primitivi, evitando il boxing e mantenendo
+ * l'ordine di inserimento degli elementi.</p>
+ *
+ * <p><strong>Caratteristiche:</strong></p>
+ * <ul>
+ *   <li><strong>Ordinamento:</strong> Gli ordinali sono sempre crescenti e senza duplicati</li>
+ *   <li><strong>Append-only:</strong> Gli inserimenti avvengono solo in coda</li>
+ *   <li><strong>Intersezione lineare:</strong> Merge di due liste ordinate in O(n + m)</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class PostingList {
+
+    /** Lista vuota condivisa, da non modificare */
+    private static final int[] NO_ORDINALS = new int[0];
+
+    /** Array degli ordinali, valido fino a {@link #size} */
+    private int[] ordinals;
+
+    /** Numero di ordinali effettivamente presenti */
+    private int size;
+
+    /**
+     * Costruisce una posting list vuota.
+     */
+    public PostingList() {
+        this.ordinals = NO_ORDINALS;
+    }
+
+    /**
+     * Costruisce una posting list a partire da un array già ordinato e senza duplicati.
+     *
+     * @param ordinals gli ordinali (l'array viene adottato senza copia)
+     * @param size il numero di ordinali validi nell'array
+     */
+    private PostingList(int[] ordinals, int size) {
+        this.ordinals = ordinals;
+        this.size = size;
+    }
+
+    /**
+     * Aggiunge un ordinale in coda alla lista.
+     *
+     * <p>Poiché gli elementi vengono indicizzati in ordine di inserimento,
+     * l'ordinale è sempre maggiore o uguale all'ultimo presente. Un ordinale
+     * uguale all'ultimo (stesso elemento) viene ignorato.</p>
+     *
+     * @param ordinal l'ordinale da aggiungere
+     * @throws IllegalArgumentException se l'ordinale è minore dell'ultimo inserito
+     */
+    public void add(int ordinal) {
+        if (size > 0) {
+            int last = ordinals[size - 1];
+            // Stesso elemento già presente: nessun duplicato
+            if (last == ordinal) {
+                return;
+            }
+            if (ordinal < last) {
+                throw new IllegalArgumentException("Ordinals must be added in increasing order");
+            }
+        }
+        // Crescita geometrica dell'array interno
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, Math.max(4, size * 2));
+        }
+        ordinals[size++] = ordinal;
+    }
+
+    /**
+     * Restituisce l'ordinale alla posizione specificata.
+     *
+     * @param index la posizione nella lista (0-based)
+     * @return l'ordinale memorizzato in quella posizione
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return ordinals[index];
+    }
+
+    /**
+     * Restituisce il numero di ordinali nella lista.
+     *
+     * @return la dimensione della lista
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica se la lista è vuota.
+     *
+     * @return {@code true} se la lista non contiene ordinali
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Restituisce una copia degli ordinali come array.
+     *
+     * @return un nuovo array con gli ordinali in ordine crescente
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ordinals, size);
+    }
+
+    /**
+     * Calcola l'intersezione di due posting list.
+     *
+     * <p>Esegue un merge lineare delle due liste ordinate. Il risultato
+     * è una nuova lista; gli input non vengono modificati.</p>
+     *
+     * @param first la prima lista
+     * @param second la seconda lista
+     * @return una nuova lista con gli ordinali presenti in entrambe
+     */
+    public static PostingList intersect(PostingList first, PostingList second) {
+        int[] result = new int[Math.min(first.size, second.size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        // Merge delle due sequenze ordinate
+        while (i < first.size && j < second.size) {
+            int a = first.ordinals[i];
+            int b = second.ordinals[j];
+            if (a == b) {
+                result[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new PostingList(result, count);
+    }
+
+    /**
+     * Calcola l'unione di più posting list.
+     *
+     * <p>Concatena tutti gli ordinali, li ordina ed elimina i duplicati.
+     * Se è presente una sola lista, viene restituita direttamente.</p>
+     *
+     * @param lists le liste da unire
+     * @return una lista con tutti gli ordinali presenti in almeno una lista
+     */
+    public static PostingList union(Collection<PostingList> lists) {
+        if (lists.size() == 1) {
+            return lists.iterator().next();
+        }
+        int total = 0;
+        for (PostingList list : lists) {
+            total += list.size;
+        }
+        int[] merged = new int[total];
+        int offset = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.ordinals, 0, merged, offset, list.size);
+            offset += list.size;
+        }
+        Arrays.sort(merged);
+        // Compattazione dei duplicati nella sequenza ordinata
+        int count = 0;
+        for (int k = 0; k < total; k++) {
+            if (count == 0 || merged[count - 1] != merged[k]) {
+                merged[count++] = merged[k];
+            }
+        }
+        return new PostingList(merged, count);
+    }
+}
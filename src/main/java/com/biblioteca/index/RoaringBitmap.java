@@ -0,0 +1,456 @@
+package com.biblioteca.index;
+
+import java.util.Arrays;
+
+/**
+ * Bitmap compressa di ordinali, organizzata a contenitori come Roaring.
+ *
+ * <p>Lo spazio degli ordinali è suddiviso in blocchi di 65.536 valori,
+ * identificati dai 16 bit alti. Ogni blocco non vuoto ha un contenitore
+ * che memorizza i 16 bit bassi nella rappresentazione più compatta per la
+ * sua densità.</p>
+ *
+ * <p><strong>Tipi di contenitore:</strong></p>
+ * <ul>
+ *   <li><strong>Array:</strong> Fino a 4.096 valori, un array ordinato di
+ *       {@code char} (2 byte per valore)</li>
+ *   <li><strong>Bitmap:</strong> Oltre 4.096 valori, 1.024 parole da 64 bit
+ *       (8 KB fissi per blocco)</li>
+ * </ul>
+ *
+ * <p>La conversione fra i due tipi avviene automaticamente quando la
+ * cardinalità di un blocco supera la soglia o vi ridiscende. A differenza di
+ * {@link PostingList}, la bitmap supporta inserimenti e rimozioni in qualunque
+ * ordine: è adatta agli attributi che cambiano nel tempo, come la
+ * disponibilità.</p>
+ *
+ * <p>La classe non è sincronizzata.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class RoaringBitmap {
+
+    /** Cardinalità massima di un contenitore array */
+    private static final int ARRAY_MAX_SIZE = 4_096;
+
+    /** Numero di parole da 64 bit di un contenitore bitmap */
+    private static final int BITMAP_WORDS = 1_024;
+
+    /** Chiavi dei blocchi (16 bit alti), in ordine crescente */
+    private char[] keys = new char[0];
+
+    /** Contenitori dei blocchi, allineati con {@link #keys} */
+    private Container[] containers = new Container[0];
+
+    /** Numero di blocchi non vuoti */
+    private int size;
+
+    /**
+     * Aggiunge un ordinale alla bitmap.
+     *
+     * @param ordinal l'ordinale da aggiungere (non negativo)
+     * @return {@code true} se l'ordinale non era già presente
+     * @throws IllegalArgumentException se l'ordinale è negativo
+     */
+    public boolean add(int ordinal) {
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Ordinal cannot be negative");
+        }
+        char key = highBits(ordinal);
+        int position = findKey(key);
+        if (position < 0) {
+            // Nuovo blocco, inserito mantenendo l'ordine delle chiavi
+            position = -position - 1;
+            insertContainer(position, key, new ArrayContainer());
+        }
+        Container container = containers[position];
+        int before = container.cardinality();
+        containers[position] = container.add(lowBits(ordinal));
+        return containers[position].cardinality() > before;
+    }
+
+    /**
+     * Rimuove un ordinale dalla bitmap.
+     *
+     * @param ordinal l'ordinale da rimuovere
+     * @return {@code true} se l'ordinale era presente
+     */
+    public boolean remove(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int position = findKey(highBits(ordinal));
+        if (position < 0) {
+            return false;
+        }
+        Container container = containers[position];
+        int before = container.cardinality();
+        container = container.remove(lowBits(ordinal));
+        if (container.cardinality() == 0) {
+            // Blocco vuoto: il contenitore viene eliminato
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(containers, position + 1, containers, position, size - position - 1);
+            containers[--size] = null;
+        } else {
+            containers[position] = container;
+        }
+        return container.cardinality() < before;
+    }
+
+    /**
+     * Verifica se un ordinale è presente.
+     *
+     * @param ordinal l'ordinale da verificare
+     * @return {@code true} se l'ordinale è presente
+     */
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int position = findKey(highBits(ordinal));
+        return position >= 0 && containers[position].contains(lowBits(ordinal));
+    }
+
+    /**
+     * Restituisce il numero di ordinali presenti.
+     *
+     * @return la cardinalità della bitmap
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Verifica se la bitmap è vuota.
+     *
+     * @return {@code true} se non contiene ordinali
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calcola l'intersezione di due bitmap.
+     *
+     * <p>Vengono confrontati solo i blocchi presenti in entrambe; ogni coppia
+     * di contenitori è intersecata con l'algoritmo adatto ai rispettivi tipi
+     * (merge di array, filtro di un array sulla bitmap, AND parola per parola).</p>
+     *
+     * @param first la prima bitmap
+     * @param second la seconda bitmap
+     * @return una nuova bitmap con gli ordinali comuni
+     */
+    public static RoaringBitmap and(RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.size && j < second.size) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                Container container = first.containers[i].and(second.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.insertContainer(result.size, first.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Restituisce gli ordinali di una posting list presenti nella bitmap.
+     *
+     * <p>È l'intersezione fra i risultati di una ricerca e un attributo
+     * indicizzato: un test di appartenenza per candidato, senza accedere agli
+     * elementi.</p>
+     *
+     * @param candidates gli ordinali da filtrare
+     * @return gli ordinali presenti sia nella lista sia nella bitmap
+     */
+    public PostingList and(PostingList candidates) {
+        PostingList result = new PostingList();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (contains(candidates.get(i))) {
+                result.add(candidates.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converte la bitmap in una posting list.
+     *
+     * @return gli ordinali presenti, in ordine crescente
+     */
+    public PostingList toPostingList() {
+        PostingList result = new PostingList();
+        for (int i = 0; i < size; i++) {
+            containers[i].appendTo(keys[i] << 16, result);
+        }
+        return result;
+    }
+
+    /**
+     * Cerca la posizione di un blocco.
+     *
+     * @param key la chiave del blocco
+     * @return la posizione, oppure {@code -(punto di inserimento) - 1} se assente
+     */
+    private int findKey(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Inserisce un contenitore in una posizione data.
+     *
+     * @param position la posizione di inserimento
+     * @param key la chiave del blocco
+     * @param container il contenitore
+     */
+    private void insertContainer(int position, char key, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(containers, position, containers, position + 1, size - position);
+        keys[position] = key;
+        containers[position] = container;
+        size++;
+    }
+
+    private static char highBits(int ordinal) {
+        return (char) (ordinal >>> 16);
+    }
+
+    private static char lowBits(int ordinal) {
+        return (char) ordinal;
+    }
+
+    /**
+     * Contenitore dei 16 bit bassi di un blocco.
+     *
+     * <p>Le operazioni che possono cambiare la rappresentazione restituiscono
+     * il contenitore da usare al posto di quello corrente.</p>
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract Container and(Container other);
+
+        abstract void appendTo(int base, PostingList target);
+    }
+
+    /**
+     * Contenitore per blocchi sparsi: array ordinato dei valori.
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return this;
+            }
+            // Superata la soglia: conversione in bitmap
+            if (cardinality == ARRAY_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, cardinality * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                // Merge di due array ordinati
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                // Filtro dei valori sull'altra bitmap
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        void appendTo(int base, PostingList target) {
+            for (int i = 0; i < cardinality; i++) {
+                target.add(base | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Contenitore per blocchi densi: un bit per ciascuno dei 65.536 valori.
+     */
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long word = words[value >>> 6];
+            long updated = word & ~(1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality--;
+            }
+            // Ridiscesa sotto la soglia: conversione in array
+            return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            // AND parola per parola
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer bitmap = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX_SIZE ? bitmap.toArray() : bitmap;
+        }
+
+        @Override
+        void appendTo(int base, PostingList target) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    target.add(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.biblioteca.index;
+
+import java.util.Arrays;
+
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Titoli normalizzati codificati in Latin-1 e memorizzati in un unico array di byte.
+ *
+ * <p>I titoli vengono accodati uno dopo l'altro, nell'ordine degli ordinali:
+ * il titolo dell'ordinale {@code o} occupa i byte da {@link #getStart(int)}
+ * (incluso) a {@link #getEnd(int)} (escluso). Una memoria contigua permette
+ * di cercare una query in tutti i titoli con un'unica scansione sequenziale,
+ * adatta alle istruzioni SIMD, invece di una scansione per ogni stringa.</p>
+ *
+ * <p><strong>Casi particolari:</strong></p>
+ * <ul>
+ *   <li><strong>Titoli nulli:</strong> Occupano un intervallo vuoto</li>
+ *   <li><strong>Titoli non Latin-1:</strong> Occupano un intervallo vuoto e il loro
+ *       ordinale viene registrato in {@link #getNonLatin1()}, così che possano
+ *       essere verificati come stringhe</li>
+ *   <li><strong>Confini fra titoli:</strong> Non ci sono separatori: chi cerca deve
+ *       scartare le occorrenze a cavallo di due titoli</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class TitleArena {
+
+    /** Capacità iniziale dell'array dei byte */
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    /** Byte dei titoli, validi fino a {@link #length} */
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+    /** Numero di byte utilizzati */
+    private int length;
+
+    /** Posizione finale (esclusa) del titolo di ciascun ordinale */
+    private int[] ends = new int[16];
+
+    /** Numero di titoli memorizzati */
+    private int size;
+
+    /** Ordinali dei titoli non rappresentabili in Latin-1 */
+    private final PostingList nonLatin1 = new PostingList();
+
+    /**
+     * Accoda il titolo normalizzato dell'ordinale successivo.
+     *
+     * @param normalizedTitle il titolo già normalizzato (può essere nullo)
+     */
+    public void add(String normalizedTitle) {
+        int ordinal = size;
+        byte[] encoded = TextNormalizer.toLatin1(normalizedTitle);
+        if (encoded == null && normalizedTitle != null) {
+            nonLatin1.add(ordinal);
+        }
+        if (encoded != null) {
+            ensureCapacity(length + encoded.length);
+            System.arraycopy(encoded, 0, bytes, length, encoded.length);
+            length += encoded.length;
+        }
+        if (size == ends.length) {
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        ends[size++] = length;
+    }
+
+    /**
+     * Restituisce l'array dei byte dei titoli.
+     *
+     * <p>L'array è condiviso, può essere più lungo di {@link #getLength()} e
+     * non deve essere modificato.</p>
+     *
+     * @return i byte dei titoli
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Restituisce il numero di byte utilizzati.
+     *
+     * @return la lunghezza complessiva dei titoli memorizzati
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Restituisce la posizione iniziale del titolo di un ordinale.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @return la posizione del primo byte del titolo
+     */
+    public int getStart(int ordinal) {
+        return ordinal == 0 ? 0 : ends[ordinal - 1];
+    }
+
+    /**
+     * Restituisce la posizione finale (esclusa) del titolo di un ordinale.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @return la posizione successiva all'ultimo byte del titolo
+     */
+    public int getEnd(int ordinal) {
+        return ends[ordinal];
+    }
+
+    /**
+     * Restituisce il numero di titoli memorizzati.
+     *
+     * @return il numero di titoli
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Restituisce gli ordinali dei titoli non rappresentabili in Latin-1.
+     *
+     * @return la posting list dei titoli da verificare come stringhe
+     */
+    public PostingList getNonLatin1() {
+        return nonLatin1;
+    }
+
+    /**
+     * Garantisce che l'array dei byte possa contenere la lunghezza richiesta.
+     *
+     * @param required il numero di byte richiesto
+     */
+    private void ensureCapacity(int required) {
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+}
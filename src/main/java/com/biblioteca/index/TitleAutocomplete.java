@@ -0,0 +1,324 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Suggerimenti di completamento dei titoli per la digitazione incrementale.
+ *
+ * <p>I titoli normalizzati sono memorizzati in un trie compresso (radix
+ * tree): ogni arco porta un'etichetta di uno o più caratteri e i nodi con
+ * un solo figlio vengono fusi. Ogni nodo mantiene i migliori
+ * {@value #MAX_SUGGESTIONS} titoli del proprio sottoalbero: un suggerimento
+ * richiede solo la discesa lungo il prefisso digitato, senza visitare il
+ * sottoalbero, con un costo indipendente dal numero di titoli.</p>
+ *
+ * <p><strong>Popolarità:</strong> Il peso di un titolo è il numero di elementi
+ * che lo condividono (es. più copie dello stesso libro). A parità di peso i
+ * titoli sono ordinati alfabeticamente sulla forma normalizzata.</p>
+ *
+ * <p><strong>Aggiornamento incrementale:</strong> Aggiungere un elemento
+ * aumenta il peso del suo titolo e aggiorna le classifiche dei soli nodi sul
+ * percorso del titolo. Poiché i pesi possono solo crescere, un titolo uscito
+ * dalla classifica di un nodo non può rientrarvi senza essere aggiunto di
+ * nuovo, e quindi senza ripassare da quel nodo: le classifiche restano esatte.</p>
+ *
+ * <p>La corrispondenza è case-insensitive e accent-insensitive e riguarda
+ * l'inizio del titolo. La classe non è sincronizzata.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class TitleAutocomplete {
+
+    /** Numero massimo di suggerimenti mantenuti per ogni nodo */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    /** Ordine della classifica: peso decrescente, poi titolo normalizzato */
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong((Suggestion suggestion) -> suggestion.weight).reversed()
+            .thenComparing(suggestion -> suggestion.key);
+
+    /** Radice del trie, con etichetta vuota */
+    private final Node root = new Node("");
+
+    /** Titoli indicizzati per forma normalizzata */
+    private final Map<String, Suggestion> suggestions = new HashMap<>();
+
+    /**
+     * Costruisce i suggerimenti a partire dagli elementi esistenti.
+     *
+     * @param items gli elementi della biblioteca
+     * @return la struttura dei suggerimenti
+     */
+    public static TitleAutocomplete build(Iterable<LibraryItem> items) {
+        TitleAutocomplete autocomplete = new TitleAutocomplete();
+        for (LibraryItem item : items) {
+            autocomplete.add(item.getTitle());
+        }
+        return autocomplete;
+    }
+
+    /**
+     * Aggiunge un titolo, o ne aumenta il peso se già presente.
+     *
+     * <p>Il testo suggerito per una forma normalizzata è quello del primo
+     * titolo aggiunto.</p>
+     *
+     * @param title il titolo (nullo o vuoto viene ignorato)
+     */
+    public void add(String title) {
+        String key = normalizeForSearch(title);
+        if (key == null) {
+            return;
+        }
+        Suggestion suggestion = suggestions.computeIfAbsent(key, k -> new Suggestion(title, k));
+        suggestion.weight++;
+
+        // Aggiornamento delle classifiche lungo il percorso del titolo
+        for (Node node : insert(key)) {
+            node.offer(suggestion);
+        }
+    }
+
+    /**
+     * Restituisce i titoli più popolari che iniziano con un prefisso.
+     *
+     * @param prefix il testo digitato
+     * @param limit il numero massimo di suggerimenti (al più {@value #MAX_SUGGESTIONS})
+     * @return i titoli suggeriti, dal più popolare
+     * @throws IllegalArgumentException se {@code limit} non è positivo
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        String key = prefix == null ? "" : TextNormalizer.normalize(prefix).stripLeading();
+        Node node = find(key);
+        if (node == null) {
+            return List.of();
+        }
+        int count = Math.min(limit, node.size);
+        List<String> titles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            titles.add(node.top[i].title);
+        }
+        return titles;
+    }
+
+    /**
+     * Restituisce il numero di titoli distinti.
+     *
+     * @return il numero di forme normalizzate indicizzate
+     */
+    public int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * Inserisce una chiave nel trie, dividendo gli archi quando necessario.
+     *
+     * @param key la chiave normalizzata
+     * @return i nodi del percorso, dalla radice fino al nodo della chiave
+     */
+    private List<Node> insert(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        path.add(node);
+        while (position < key.length()) {
+            int slot = node.findChild(key.charAt(position));
+            if (slot < 0) {
+                // Nessun arco con questo carattere: nuova foglia con il resto della chiave
+                Node leaf = new Node(key.substring(position));
+                node.insertChild(-slot - 1, leaf);
+                path.add(leaf);
+                return path;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // Chiave divergente a metà arco: divisione in un nodo intermedio
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.insertChild(0, child);
+                // Il sottoalbero del nodo intermedio è quello del figlio originale
+                middle.top = Arrays.copyOf(child.top, child.top.length);
+                middle.size = child.size;
+                node.children[slot] = middle;
+                child = middle;
+            }
+            node = child;
+            position += common;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Cerca il nodo il cui sottoalbero contiene le chiavi con un prefisso.
+     *
+     * @param prefix il prefisso normalizzato
+     * @return il nodo, oppure {@code null} se nessuna chiave ha il prefisso
+     */
+    private Node find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int slot = node.findChild(prefix.charAt(position));
+            if (slot < 0) {
+                return null;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                // Prefisso esaurito, anche a metà arco
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * Normalizza un titolo per l'indicizzazione.
+     *
+     * @param title il titolo
+     * @return la forma normalizzata senza spazi iniziali, oppure {@code null} se vuota
+     */
+    private static String normalizeForSearch(String title) {
+        if (title == null) {
+            return null;
+        }
+        String key = TextNormalizer.normalize(title).stripLeading();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Calcola la lunghezza del prefisso comune fra un'etichetta e una chiave.
+     *
+     * @param label l'etichetta dell'arco
+     * @param key la chiave
+     * @param offset la posizione della chiave da cui confrontare
+     * @return il numero di caratteri coincidenti
+     */
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Titolo indicizzato con il relativo peso.
+     */
+    private static final class Suggestion {
+
+        /** Testo suggerito, nella forma originale */
+        private final String title;
+
+        /** Forma normalizzata, chiave del trie */
+        private final String key;
+
+        /** Numero di elementi con questo titolo */
+        private long weight;
+
+        Suggestion(String title, String key) {
+            this.title = title;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Nodo del trie compresso con la classifica del proprio sottoalbero.
+     */
+    private static final class Node {
+
+        /** Etichetta dell'arco entrante */
+        private String label;
+
+        /** Primo carattere dell'etichetta di ciascun figlio, in ordine crescente */
+        private char[] firstChars = new char[0];
+
+        /** Figli, allineati con {@link #firstChars} */
+        private Node[] children = new Node[0];
+
+        /** Migliori titoli del sottoalbero, in ordine di classifica */
+        private Suggestion[] top = new Suggestion[MAX_SUGGESTIONS];
+
+        /** Numero di titoli in classifica */
+        private int size;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int findChild(char first) {
+            return Arrays.binarySearch(firstChars, first);
+        }
+
+        void insertChild(int slot, Node child) {
+            int count = children.length;
+            char[] chars = new char[count + 1];
+            Node[] nodes = new Node[count + 1];
+            System.arraycopy(firstChars, 0, chars, 0, slot);
+            System.arraycopy(children, 0, nodes, 0, slot);
+            chars[slot] = child.label.charAt(0);
+            nodes[slot] = child;
+            System.arraycopy(firstChars, slot, chars, slot + 1, count - slot);
+            System.arraycopy(children, slot, nodes, slot + 1, count - slot);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        /**
+         * Aggiorna la classifica dopo l'aumento di peso di un titolo del sottoalbero.
+         *
+         * @param suggestion il titolo il cui peso è aumentato
+         */
+        void offer(Suggestion suggestion) {
+            int position = indexOf(suggestion);
+            if (position < 0) {
+                if (size < MAX_SUGGESTIONS) {
+                    position = size++;
+                } else if (RANKING.compare(suggestion, top[size - 1]) < 0) {
+                    // Sostituisce l'ultimo della classifica
+                    position = size - 1;
+                } else {
+                    return;
+                }
+                top[position] = suggestion;
+            }
+            // Risalita fino alla posizione corretta (il peso può solo crescere)
+            while (position > 0 && RANKING.compare(top[position], top[position - 1]) < 0) {
+                Suggestion previous = top[position - 1];
+                top[position - 1] = top[position];
+                top[position] = previous;
+                position--;
+            }
+        }
+
+        private int indexOf(Suggestion suggestion) {
+            for (int i = 0; i < size; i++) {
+                if (top[i] == suggestion) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Indice invertito dei token presenti nei titoli.
+ *
+ * <p>Per ogni token (sequenza massimale di lettere o cifre) del titolo
+ * normalizzato, l'indice mantiene la {@link PostingList} degli elementi che
+ * lo contengono. Il dizionario dei token è ordinato, così che le ricerche per
+ * prefisso si riducano a un intervallo della mappa.</p>
+ *
+ * <p><strong>Correttezza rispetto al substring matching:</strong> se un titolo
+ * contiene la query come sottostringa, ogni token della query compare nel
+ * titolo con un vincolo che dipende dalla sua posizione nella query:</p>
+ * <ul>
+ *   <li><strong>Delimitato su entrambi i lati:</strong> è un token esatto del titolo</li>
+ *   <li><strong>Delimitato solo a sinistra:</strong> è prefisso di un token del titolo</li>
+ *   <li><strong>Delimitato solo a destra:</strong> è suffisso di un token del titolo</li>
+ *   <li><strong>Non delimitato:</strong> è sottostringa di un token del titolo</li>
+ * </ul>
+ *
+ * <p>L'indice restituisce quindi un insieme di candidati che include sempre
+ * tutti i risultati corretti; la verifica finale con {@code contains} spetta
+ * alla strategia di ricerca. I frammenti interni a una parola (es. "rogramm")
+ * sono invece gestiti in modo più efficiente da {@link NGramIndex}.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class TitleTokenIndex {
+
+    /** Dizionario ordinato dei token con le relative posting list */
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+
+    /** Numero totale di token indicizzati, ripetizioni comprese */
+    private long totalTokens;
+
+    /**
+     * Indicizza il titolo normalizzato di un elemento.
+     *
+     * @param ordinal l'ordinale dell'elemento nell'indice
+     * @param normalizedTitle il titolo già normalizzato (può essere nullo)
+     */
+    public void add(int ordinal, String normalizedTitle) {
+        // Titoli nulli non producono token
+        if (normalizedTitle == null) {
+            return;
+        }
+        for (QueryToken token : tokenize(normalizedTitle)) {
+            // PostingList ignora i duplicati dello stesso ordinale
+            postings.computeIfAbsent(token.text(), key -> new PostingList()).add(ordinal);
+            totalTokens++;
+        }
+    }
+
+    /**
+     * Restituisce gli elementi candidati per una query di substring matching.
+     *
+     * <p>Vengono intersecate, partendo dalla più piccola, le posting list dei
+     * token esatti e gli intervalli dei token prefisso. I token non delimitati
+     * a sinistra (suffissi e infissi) non vengono considerati: per questi
+     * casi si vedano {@link NGramIndex} e {@link #vocabularyCandidates(String)}.</p>
+     *
+     * @param normalizedQuery la query già normalizzata
+     * @return la lista dei candidati, oppure {@code null} se la query non
+     *         contiene token delimitati a sinistra
+     */
+    public PostingList candidates(String normalizedQuery) {
+        // Raccolta dei vincoli risolvibili tramite lookup o intervallo
+        List<PostingList> constraints = new ArrayList<>();
+        for (QueryToken token : tokenize(normalizedQuery)) {
+            if (!token.leftBounded()) {
+                continue;
+            }
+            PostingList list = token.rightBounded() ? exact(token.text()) : prefix(token.text());
+            // Un vincolo senza elementi rende vuoto l'intero risultato
+            if (list.isEmpty()) {
+                return list;
+            }
+            constraints.add(list);
+        }
+
+        if (constraints.isEmpty()) {
+            return null;
+        }
+
+        // Intersezione partendo dalla lista più selettiva
+        constraints.sort(Comparator.comparingInt(PostingList::size));
+        PostingList result = constraints.get(0);
+        for (int i = 1; i < constraints.size() && !result.isEmpty(); i++) {
+            result = PostingList.intersect(result, constraints.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Restituisce i candidati cercando nel dizionario il token più lungo della query.
+     *
+     * <p>Il token viene confrontato come suffisso o come infisso di ciascun
+     * termine del dizionario, che resta molto più piccolo della collezione.
+     * È l'ultima risorsa per le query corte prive di token delimitati.</p>
+     *
+     * @param normalizedQuery la query già normalizzata
+     * @return la lista dei candidati, oppure {@code null} se la query non contiene token
+     */
+    public PostingList vocabularyCandidates(String normalizedQuery) {
+        QueryToken longest = null;
+        for (QueryToken token : tokenize(normalizedQuery)) {
+            if (longest == null || token.text().length() > longest.text().length()) {
+                longest = token;
+            }
+        }
+        return longest == null ? null : scanVocabulary(longest);
+    }
+
+    /**
+     * Restituisce la posting list di un token esatto.
+     *
+     * @param token il token normalizzato
+     * @return la posting list del token (vuota se il token non è presente)
+     */
+    public PostingList exact(String token) {
+        PostingList list = postings.get(token);
+        return list != null ? list : new PostingList();
+    }
+
+    /**
+     * Restituisce l'unione delle posting list dei token con il prefisso dato.
+     *
+     * @param prefix il prefisso normalizzato
+     * @return gli elementi che contengono almeno un token con quel prefisso
+     */
+    public PostingList prefix(String prefix) {
+        List<PostingList> lists = new ArrayList<>();
+        // Il dizionario ordinato rende contigui i token con lo stesso prefisso
+        for (Map.Entry<String, PostingList> entry : postings.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            lists.add(entry.getValue());
+        }
+        return lists.isEmpty() ? new PostingList() : PostingList.union(lists);
+    }
+
+    /**
+     * Restituisce i token distinti del dizionario.
+     *
+     * @return una vista ordinata e non modificabile del vocabolario
+     */
+    public NavigableSet<String> vocabulary() {
+        return Collections.unmodifiableNavigableSet(postings.navigableKeySet());
+    }
+
+    /**
+     * Restituisce il numero di token distinti nel dizionario.
+     *
+     * @return la dimensione del vocabolario
+     */
+    public int vocabularySize() {
+        return postings.size();
+    }
+
+    /**
+     * Restituisce il numero totale di token indicizzati.
+     *
+     * <p>Ogni occorrenza viene contata, anche se ripetuta nello stesso titolo:
+     * diviso per il numero di elementi fornisce la lunghezza media dei titoli
+     * usata dal ranking.</p>
+     *
+     * @return il numero totale di token
+     */
+    public long getTotalTokens() {
+        return totalTokens;
+    }
+
+    /**
+     * Suddivide un testo normalizzato nei suoi termini.
+     *
+     * <p>Applica le stesse regole di tokenizzazione dell'indice, così che i
+     * termini di una query possano essere confrontati con il dizionario.</p>
+     *
+     * @param normalizedText il testo già normalizzato
+     * @return i termini nell'ordine in cui compaiono (ripetizioni comprese)
+     */
+    public static List<String> terms(String normalizedText) {
+        List<String> terms = new ArrayList<>();
+        for (QueryToken token : tokenize(normalizedText)) {
+            terms.add(token.text());
+        }
+        return terms;
+    }
+
+    /**
+     * Cerca nel dizionario i token compatibili con un token della query.
+     *
+     * @param token il token della query
+     * @return l'unione delle posting list dei token compatibili
+     */
+    private PostingList scanVocabulary(QueryToken token) {
+        List<PostingList> lists = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            String term = entry.getKey();
+            boolean matches;
+            if (token.leftBounded()) {
+                matches = token.rightBounded() ? term.equals(token.text()) : term.startsWith(token.text());
+            } else {
+                matches = token.rightBounded() ? term.endsWith(token.text()) : term.contains(token.text());
+            }
+            if (matches) {
+                lists.add(entry.getValue());
+            }
+        }
+        return lists.isEmpty() ? new PostingList() : PostingList.union(lists);
+    }
+
+    /**
+     * Suddivide un testo normalizzato in token, annotando i delimitatori.
+     *
+     * @param text il testo normalizzato
+     * @return la lista dei token nell'ordine in cui compaiono
+     */
+    static List<QueryToken> tokenize(String text) {
+        List<QueryToken> tokens = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            // Salto dei separatori
+            if (!TextNormalizer.isTokenChar(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && TextNormalizer.isTokenChar(text.charAt(i))) {
+                i++;
+            }
+            tokens.add(new QueryToken(text.substring(start, i), start > 0, i < length));
+        }
+        return tokens;
+    }
+
+    /**
+     * Token estratto da un testo, con l'indicazione dei separatori adiacenti.
+     *
+     * @param text il testo del token
+     * @param leftBounded {@code true} se il token è preceduto da un separatore
+     * @param rightBounded {@code true} se il token è seguito da un separatore
+     */
+    record QueryToken(String text, boolean leftBounded, boolean rightBounded) {
+    }
+}
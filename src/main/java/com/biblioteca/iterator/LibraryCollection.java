@@ -1,6 +1,7 @@
 package com.biblioteca.iterator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -78,6 +79,19 @@ public class LibraryCollection implements Iterable<LibraryItem> {
         items.add(item);
     }
 
+    /**
+     * Aggiunge più elementi alla collezione con un solo inserimento.
+     *
+     * <p>Gli elementi vengono aggiunti in coda, nell'ordine ricevuto; la lista
+     * interna viene ingrandita una sola volta per l'intero gruppo.</p>
+     *
+     * @param newItems gli elementi da aggiungere (nessuno deve essere nullo)
+     */
+    public void addAll(Collection<? extends LibraryItem> newItems) {
+        // Aggiunta in blocco alla lista interna
+        items.addAll(newItems);
+    }
+
     /**
      * Rimuove un elemento dalla collezione.
      *
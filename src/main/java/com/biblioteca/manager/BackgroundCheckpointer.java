@@ -0,0 +1,89 @@
+package com.biblioteca.manager;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.biblioteca.exceptions.LibraryException;
+import com.biblioteca.persistence.CheckpointPolicy;
+
+/**
+ * Esecuzione periodica dei checkpoint del {@link LibraryManager} su un thread dedicato.
+ *
+ * <p>Un thread daemon controlla le soglie della {@link CheckpointPolicy} a
+ * intervalli regolari ed esegue {@link LibraryManager#checkpoint()} quando
+ * una di esse è raggiunta. Un checkpoint fallito viene registrato e ritentato
+ * al controllo successivo: il log resta valido e nessuna modifica va persa.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+final class BackgroundCheckpointer implements AutoCloseable {
+
+    /** Logger per il tracciamento delle operazioni e debugging */
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundCheckpointer.class);
+
+    /** Intervallo massimo fra due controlli delle soglie */
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /** Manager di cui eseguire i checkpoint */
+    private final LibraryManager manager;
+
+    /** Soglie dei checkpoint */
+    private final CheckpointPolicy policy;
+
+    /** Thread dei controlli periodici */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Avvia i controlli periodici delle soglie.
+     *
+     * @param manager il manager di cui eseguire i checkpoint
+     * @param policy le soglie dei checkpoint
+     */
+    BackgroundCheckpointer(LibraryManager manager, CheckpointPolicy policy) {
+        this.manager = manager;
+        this.policy = policy;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "library-checkpointer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollNanos = Math.min(MAX_POLL_INTERVAL.toNanos(), policy.maxInterval().toNanos());
+        scheduler.scheduleWithFixedDelay(this::checkpointIfDue, pollNanos, pollNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Esegue un checkpoint se una delle soglie è stata raggiunta.
+     */
+    private void checkpointIfDue() {
+        try {
+            if (policy.isDue(manager.getLogSize(), manager.getTimeSinceLastCheckpoint())) {
+                manager.checkpoint();
+            }
+        } catch (LibraryException | RuntimeException e) {
+            // Il thread deve sopravvivere: il checkpoint verrà ritentato
+            logger.error("Background checkpoint failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Interrompe i controlli periodici, attendendo il termine di un checkpoint in corso.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Background checkpoint still running after shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
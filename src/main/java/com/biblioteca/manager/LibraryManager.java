@@ -1,15 +1,26 @@
 package com.biblioteca.manager;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +29,31 @@ import com.biblioteca.exceptions.BookNotFoundException;
 import com.biblioteca.exceptions.InvalidDataException;
 import com.biblioteca.exceptions.LibraryException;
 import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.TitleAutocomplete;
 import com.biblioteca.iterator.LibraryCollection;
+import com.biblioteca.model.AvailabilityListener;
+import com.biblioteca.model.Book;
 import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.Magazine;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.persistence.CheckpointPolicy;
+import com.biblioteca.persistence.LogRecord;
+import com.biblioteca.persistence.MappedTextFile;
+import com.biblioteca.persistence.SnapshotFile;
+import com.biblioteca.persistence.SnapshotRecord;
+import com.biblioteca.persistence.WriteAheadLog;
+import com.biblioteca.query.Query;
+import com.biblioteca.query.QueryPlanner;
+import com.biblioteca.ranking.Bm25Scorer;
+import com.biblioteca.ranking.ScoredItem;
+import com.biblioteca.ranking.TopKCollector;
+import com.biblioteca.strategy.IndexedSearchStrategy;
+import com.biblioteca.strategy.ParallelSearchStrategy;
+import com.biblioteca.strategy.SearchBudget;
+import com.biblioteca.strategy.SearchContext;
 import com.biblioteca.strategy.SearchStrategy;
+import com.biblioteca.util.TextNormalizer;
 
 /**
  * Manager centrale per tutte le operazioni del sistema bibliotecario.
@@ -49,7 +82,9 @@ import com.biblioteca.strategy.SearchStrategy;
  * <ul>
  *   <li><strong>LibraryCollection:</strong> Per l'iterazione e gestione ordinata</li>
  *   <li><strong>HashMap:</strong> Per l'accesso rapido per ID (O(1))</li>
- *   <li><strong>File system:</strong> Per la persistenza dei dati</li>
+ *   <li><strong>LibraryIndex:</strong> Indici di ricerca aggiornati ad ogni inserimento</li>
+ *   <li><strong>File system:</strong> Per la persistenza dei dati: uno snapshot
+ *       completo e un log delle modifiche successive ({@link WriteAheadLog})</li>
  * </ul>
  *
  * <p><strong>Gestione degli errori:</strong></p>
@@ -60,6 +95,12 @@ import com.biblioteca.strategy.SearchStrategy;
  *   <li>Rollback automatico in caso di errori</li>
  * </ul>
  *
+ * <p><strong>Concorrenza:</strong> Le ricerche acquisiscono il lock in lettura
+ * e possono procedere in parallelo, anche dai thread virtuali delle ricerche
+ * asincrone ({@link #searchAsync(SearchStrategy, String, Duration)}); gli
+ * inserimenti, i cambi di disponibilità e il caricamento da file acquisiscono
+ * il lock in scrittura.</p>
+ *
  * @author Sistema Biblioteca
  * @version 1.0
  * @since 1.0
@@ -78,8 +119,56 @@ public class LibraryManager {
     /** Mappa per accesso rapido agli elementi per ID (O(1) lookup) */
     private final Map<String, LibraryItem> itemsById;
 
-    /** Percorso del file per la persistenza dei dati */
-    private final String dataFilePath = "data/library.txt";
+    /** Indici di ricerca usati dalle strategie indicizzate */
+    private final LibraryIndex index;
+
+    /** Directory dei file di persistenza */
+    private String dataDirectory = "data";
+
+    /** Percorso dello snapshot binario per la persistenza dei dati */
+    private String dataFilePath = "data/library.dat";
+
+    /** Percorso del file di dati testuale delle versioni precedenti, letto solo per l'importazione */
+    private String legacyDataFilePath = "data/library.txt";
+
+    /** Percorso del log delle modifiche successive all'ultimo snapshot */
+    private String logFilePath = "data/library.wal";
+
+    /** Percorso del segmento di log chiuso da un checkpoint e non ancora incluso in uno snapshot */
+    private String rotatedLogFilePath = "data/library.wal.old";
+
+    /** Log delle modifiche (nullo finché la biblioteca non viene caricata da file) */
+    private volatile WriteAheadLog writeAheadLog;
+
+    /** Monitor che serializza i checkpoint */
+    private final Object checkpointMonitor = new Object();
+
+    /** Istante dell'ultimo checkpoint completato, secondo {@link System#nanoTime()} */
+    private volatile long lastCheckpointNanos = System.nanoTime();
+
+    /** Monitor che serializza l'avvio e l'arresto dei checkpoint in background */
+    private final Object checkpointerMonitor = new Object();
+
+    /** Checkpoint periodici in background (nullo se non attivi) */
+    private BackgroundCheckpointer backgroundCheckpointer;
+
+    /** Cache dei risultati delle ricerche più frequenti */
+    private final SearchResultCache resultCache;
+
+    /** Pianificatore delle query composte sugli indici */
+    private final QueryPlanner queryPlanner;
+
+    /** Suggerimenti di completamento dei titoli (nullo finché non vengono richiesti) */
+    private volatile TitleAutocomplete titleAutocomplete;
+
+    /** Lock che separa le ricerche concorrenti dalle modifiche della collezione */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Esecutore delle ricerche asincrone: un thread virtuale per ricerca */
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Dimensione della collezione oltre la quale la ricerca lineare è parallela (disattivata) */
+    private volatile int parallelSearchThreshold = Integer.MAX_VALUE;
 
     /**
      * Costruttore privato per implementare il pattern Singleton.
@@ -93,6 +182,12 @@ public class LibraryManager {
         collection = new LibraryCollection();
         // Inizializzazione della mappa per l'accesso rapido per ID
         itemsById = new HashMap<>();
+        // Inizializzazione degli indici di ricerca
+        index = new LibraryIndex();
+        // Inizializzazione del pianificatore delle query composte
+        queryPlanner = new QueryPlanner(index);
+        // Inizializzazione della cache dei risultati di ricerca
+        resultCache = new SearchResultCache(SearchResultCache.DEFAULT_CAPACITY);
         // Log dell'inizializzazione del sistema
         logger.info("Library Manager initialized");
     }
@@ -113,6 +208,22 @@ public class LibraryManager {
         return instance;
     }
 
+    /**
+     * Imposta la directory dei file di persistenza (snapshot, dati testuali e log).
+     *
+     * <p>Usato dai test per lavorare in una directory temporanea; va invocato
+     * prima di {@link #loadFromFile()}.</p>
+     *
+     * @param directory la directory che contiene i file della biblioteca
+     */
+    void setDataDirectory(String directory) {
+        dataDirectory = directory;
+        dataFilePath = Paths.get(directory, "library.dat").toString();
+        legacyDataFilePath = Paths.get(directory, "library.txt").toString();
+        logFilePath = Paths.get(directory, "library.wal").toString();
+        rotatedLogFilePath = Paths.get(directory, "library.wal.old").toString();
+    }
+
     /**
      * Aggiunge un nuovo libro alla biblioteca.
      *
@@ -124,8 +235,11 @@ public class LibraryManager {
      * <ol>
      *   <li>Controllo duplicati per ISBN</li>
      *   <li>Creazione libro tramite LibraryItemFactory</li>
+     *   <li>Registrazione nel log delle modifiche, se attivo</li>
      *   <li>Aggiunta alla collezione per iterazione</li>
      *   <li>Aggiunta alla mappa per accesso rapido</li>
+     *   <li>Aggiornamento degli indici di ricerca</li>
+     *   <li>Invalidazione delle ricerche in cache che includerebbero il libro</li>
      *   <li>Logging dell'operazione</li>
      * </ol>
      *
@@ -137,6 +251,7 @@ public class LibraryManager {
      */
     public void addBook(String isbn, String title, String author, int pages)
             throws LibraryException {
+        lock.writeLock().lock();
         try {
             // Controllo duplicati: verifica se l'ISBN esiste già
             if (itemsById.containsKey(isbn)) {
@@ -146,10 +261,16 @@ public class LibraryManager {
             // Creazione del libro tramite Factory pattern con validazione
             LibraryItem book = LibraryItemFactory.createBook(isbn, title, author, pages);
 
+            // Registrazione nel log prima di modificare lo stato in memoria
+            logMutation(new LogRecord.AddBook(isbn, title, author, pages));
+
             // Aggiunta alla collezione per supportare l'iterazione
             collection.addItem(book);
             // Aggiunta alla mappa per accesso rapido O(1)
             itemsById.put(isbn, book);
+            // Aggiornamento degli indici di ricerca e della cache
+            index.add(book);
+            register(book);
 
             // Logging dell'operazione completata con successo
             logger.info("Added book: {} by {}", title, author);
@@ -161,6 +282,8 @@ public class LibraryManager {
             // Gestione errori imprevisti con wrapping in LibraryException
             logger.error("Unexpected error adding book: {}", e.getMessage());
             throw new LibraryException("Failed to add book", e);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -175,7 +298,8 @@ public class LibraryManager {
      * <ol>
      *   <li>Controllo duplicati per ISSN</li>
      *   <li>Creazione rivista tramite LibraryItemFactory</li>
-     *   <li>Aggiunta alla collezione e alla mappa</li>
+     *   <li>Registrazione nel log delle modifiche, se attivo</li>
+     *   <li>Aggiunta alla collezione, alla mappa e agli indici</li>
      *   <li>Logging dell'operazione</li>
      * </ol>
      *
@@ -186,6 +310,7 @@ public class LibraryManager {
      */
     public void addMagazine(String issn, String title, int issueNumber)
             throws LibraryException {
+        lock.writeLock().lock();
         try {
             // Controllo duplicati: verifica se l'ISSN esiste già
             if (itemsById.containsKey(issn)) {
@@ -195,9 +320,14 @@ public class LibraryManager {
             // Creazione della rivista tramite Factory pattern con validazione
             LibraryItem magazine = LibraryItemFactory.createMagazine(issn, title, issueNumber);
 
+            // Registrazione nel log prima di modificare lo stato in memoria
+            logMutation(new LogRecord.AddMagazine(issn, title, issueNumber));
+
             // Aggiunta alle strutture dati interne
             collection.addItem(magazine);
             itemsById.put(issn, magazine);
+            index.add(magazine);
+            register(magazine);
 
             // Logging dell'operazione completata
             logger.info("Added magazine: {} Issue #{}", title, issueNumber);
@@ -209,6 +339,55 @@ public class LibraryManager {
             // Gestione errori imprevisti
             logger.error("Unexpected error adding magazine: {}", e.getMessage());
             throw new LibraryException("Failed to add magazine", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aggiunge in blocco un gruppo di elementi alla biblioteca.
+     *
+     * <p>Pensato per i caricamenti di grandi dimensioni, evita i costi per
+     * elemento di {@link #addBook} e {@link #addMagazine}: gli elementi
+     * vengono validati e costruiti in un unico ciclo senza lock, con la
+     * disponibilità già impostata, e poi pubblicati tutti insieme con una
+     * sola acquisizione del lock in scrittura.</p>
+     *
+     * <p><strong>Operazioni eseguite:</strong></p>
+     * <ol>
+     *   <li>Validazione e creazione degli elementi tramite LibraryItemFactory</li>
+     *   <li>Scarto degli ID già presenti o ripetuti nel gruppo</li>
+     *   <li>Registrazione nel log delle modifiche, se attivo</li>
+     *   <li>Aggiunta alla mappa e agli indici, poi alla collezione in un solo inserimento</li>
+     *   <li>Svuotamento unico della cache dei risultati</li>
+     * </ol>
+     *
+     * <p>Gli elementi non validi o duplicati vengono ignorati: il log ne
+     * riporta solo il numero, con il dettaglio di ciascuno a livello debug.</p>
+     *
+     * @param records i dati degli elementi da aggiungere
+     * @return il numero di elementi aggiunti
+     * @throws LibraryException se la registrazione nel log fallisce; in tal
+     *         caso nessun elemento del gruppo viene aggiunto
+     * @throws IllegalArgumentException se il gruppo è nullo
+     */
+    public int addItems(Collection<? extends SnapshotRecord> records) throws LibraryException {
+        if (records == null) {
+            throw new IllegalArgumentException("Records cannot be null");
+        }
+        // Costruzione fuori dal lock: non tocca lo stato del manager
+        List<LibraryItem> items = buildItems(records);
+
+        lock.writeLock().lock();
+        try {
+            int added = publishItems(items);
+            logger.info("Bulk added {} of {} items", added, records.size());
+            return added;
+        } catch (IOException e) {
+            logger.error("Error logging bulk addition: {}", e.getMessage());
+            throw new LibraryException("Failed to add items", e);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -224,7 +403,7 @@ public class LibraryManager {
      */
     public LibraryItem findById(String id) throws BookNotFoundException {
         // Ricerca rapida O(1) nella mappa
-        LibraryItem item = itemsById.get(id);
+        LibraryItem item = readLocked(() -> itemsById.get(id));
         if (item == null) {
             // Lancio eccezione specifica per elemento non trovato
             throw new BookNotFoundException(id);
@@ -239,6 +418,14 @@ public class LibraryManager {
      * algoritmi di ricerca in modo intercambiabile. Delega l'operazione
      * alla strategia fornita.</p>
      *
+     * <p>Le strategie che implementano {@link IndexedSearchStrategy} ricevono
+     * gli indici di ricerca e possono evitare la scansione dell'intera
+     * collezione; le altre ricevono la lista completa degli elementi.</p>
+     *
+     * <p>I risultati delle strategie che forniscono una chiave di cache
+     * ({@link SearchStrategy#cacheKey(String)}) vengono memorizzati in una
+     * cache LRU, invalidata solo dalle modifiche che li riguardano.</p>
+     *
      * @param strategy la strategia di ricerca da utilizzare
      * @param query la stringa di ricerca
      * @return lista di elementi che corrispondono ai criteri di ricerca
@@ -246,8 +433,421 @@ public class LibraryManager {
     public List<LibraryItem> search(SearchStrategy strategy, String query) {
         // Logging della ricerca per debugging
         logger.info("Searching with query: {}", query);
+        return readLocked(() -> cachedSearch(strategy, query, null));
+    }
+
+    /**
+     * Esegue una ricerca con un budget di tempo o di lavoro.
+     *
+     * <p>Pensato per i servizi con obiettivi di latenza: una query patologica
+     * su una collezione molto grande non può superare il budget. Le strategie
+     * consultano il budget ogni {@value SearchContext#CHECK_INTERVAL} elementi
+     * esaminati; se si esaurisce, vengono restituiti gli elementi trovati fino
+     * a quel momento e il risultato è marcato come troncato.</p>
+     *
+     * <p>I risultati completi sono memorizzati e letti dalla stessa cache di
+     * {@link #search(SearchStrategy, String)}; quelli troncati non vengono
+     * memorizzati. Il limite di tempo include l'attesa del lock.</p>
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @param budget i limiti di tempo e di lavoro della ricerca
+     * @return gli elementi trovati e l'indicazione di un eventuale troncamento
+     * @throws IllegalArgumentException se la strategia o il budget sono nulli
+     */
+    public SearchResult search(SearchStrategy strategy, String query, SearchBudget budget) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        // Il tempo a disposizione decorre dalla richiesta
+        SearchContext context = new SearchContext(budget);
+        // Logging della ricerca per debugging
+        logger.info("Budgeted search with query: {}", query);
+
+        List<LibraryItem> items = readLocked(() -> cachedSearch(strategy, query, context));
+        if (context.isTruncated()) {
+            logger.warn("Search budget exhausted for query: {} ({} items examined)", query, context.getWorkDone());
+        }
+        return new SearchResult(items, context.isTruncated());
+    }
+
+    /**
+     * Esegue una ricerca in modo asincrono, senza limite di tempo.
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @return i risultati futuri della ricerca
+     * @throws IllegalArgumentException se la strategia è nulla
+     * @see #searchAsync(SearchStrategy, String, Duration)
+     */
+    public CompletableFuture<List<LibraryItem>> searchAsync(SearchStrategy strategy, String query) {
+        return searchAsync(strategy, query, null);
+    }
+
+    /**
+     * Esegue una ricerca in modo asincrono su un thread virtuale.
+     *
+     * <p>Pensato per il livello di servizio: la ricerca, anche una lunga
+     * scansione non indicizzata, viene eseguita su un thread virtuale dedicato
+     * e non occupa i thread di piattaforma che gestiscono le richieste. I
+     * risultati coincidono con quelli di {@link #search(SearchStrategy, String)}
+     * e condividono la stessa cache.</p>
+     *
+     * <p><strong>Annullamento e scadenza:</strong></p>
+     * <ul>
+     *   <li><strong>Annullamento:</strong> {@code cancel} sul future interrompe la
+     *       ricerca al successivo punto di controllo ({@link SearchContext})</li>
+     *   <li><strong>Scadenza:</strong> Se la ricerca non termina entro il tempo
+     *       indicato, il future viene completato con una
+     *       {@link java.util.concurrent.TimeoutException} e la ricerca interrotta</li>
+     *   <li><strong>Cache:</strong> I risultati delle ricerche interrotte non
+     *       vengono memorizzati</li>
+     * </ul>
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @param timeout il tempo massimo a disposizione, oppure {@code null} per nessun limite
+     * @return i risultati futuri della ricerca
+     * @throws IllegalArgumentException se la strategia è nulla o il tempo non è positivo
+     */
+    public CompletableFuture<List<LibraryItem>> searchAsync(SearchStrategy strategy, String query,
+            Duration timeout) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        // Logging della ricerca per debugging
+        logger.info("Async search with query: {}", query);
+
+        SearchContext context = new SearchContext();
+        CompletableFuture<List<LibraryItem>> future = new CompletableFuture<>();
+        searchExecutor.execute(() -> {
+            try {
+                future.complete(readLocked(() -> cachedSearch(strategy, query, context)));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        if (timeout != null) {
+            future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        // Future annullato o scaduto: la ricerca si interrompe al prossimo controllo
+        future.whenComplete((results, error) -> {
+            if (error != null) {
+                context.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Esegue una ricerca consultando la cache; il chiamante detiene il lock in lettura.
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @param context il contesto della ricerca, oppure {@code null} se non annullabile
+     * @return lista modificabile di elementi che corrispondono ai criteri di ricerca
+     */
+    private List<LibraryItem> cachedSearch(SearchStrategy strategy, String query, SearchContext context) {
+        // Risultati in cache per le strategie che lo consentono
+        String cacheKey = strategy.cacheKey(query);
+        if (cacheKey == null) {
+            return execute(strategy, query, context);
+        }
+        List<LibraryItem> cached = resultCache.get(cacheKey);
+        if (cached == null) {
+            // Una ricerca annullata termina con un'eccezione e non raggiunge la cache
+            cached = execute(strategy, query, context);
+            if (context != null && context.isTruncated()) {
+                // Risultati parziali: non memorizzati
+                return cached;
+            }
+            resultCache.put(cacheKey, strategy, query, cached);
+        }
+        // Copia modificabile, come i risultati di una ricerca non in cache
+        return new ArrayList<>(cached);
+    }
+
+    /**
+     * Esegue una ricerca senza consultare la cache.
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @param context il contesto della ricerca, oppure {@code null} se non annullabile
+     * @return lista di elementi che corrispondono ai criteri di ricerca
+     */
+    private List<LibraryItem> execute(SearchStrategy strategy, String query, SearchContext context) {
+        // Strategie indicizzate: accesso diretto agli indici
+        if (strategy instanceof IndexedSearchStrategy indexedStrategy) {
+            return context == null
+                    ? indexedStrategy.search(index, query)
+                    : indexedStrategy.search(index, query, context);
+        }
+        // Collezioni grandi: esecuzione parallela delle strategie decomponibili
+        List<LibraryItem> items = collection.getItems();
+        SearchStrategy effectiveStrategy = strategy;
+        if (items.size() >= parallelSearchThreshold && strategy.isElementWise()) {
+            effectiveStrategy = new ParallelSearchStrategy(strategy, ForkJoinPool.commonPool(),
+                    parallelSearchThreshold);
+        }
         // Delega alla strategia di ricerca specifica
-        return strategy.search(collection.getItems(), query);
+        return context == null
+                ? effectiveStrategy.search(items, query)
+                : effectiveStrategy.search(items, query, context);
+    }
+
+    /**
+     * Restituisce le statistiche della cache dei risultati di ricerca.
+     *
+     * @return hit, miss, invalidazioni e dimensione attuale della cache
+     */
+    public SearchResultCache.Statistics getSearchCacheStatistics() {
+        return resultCache.getStatistics();
+    }
+
+    /**
+     * Svuota la cache dei risultati di ricerca.
+     */
+    public void clearSearchCache() {
+        resultCache.clear();
+        logger.info("Search cache cleared");
+    }
+
+    /**
+     * Imposta la dimensione della collezione oltre la quale la ricerca è parallela.
+     *
+     * <p>Si applica alle strategie che non usano gli indici e che sono
+     * decomponibili per elemento ({@link SearchStrategy#isElementWise()}),
+     * che vengono eseguite tramite {@link ParallelSearchStrategy}. Per
+     * impostazione predefinita l'esecuzione parallela automatica è disattivata;
+     * resta possibile richiederla per una singola ricerca passando una
+     * {@link ParallelSearchStrategy}.</p>
+     *
+     * @param threshold il numero minimo di elementi per l'esecuzione parallela,
+     *                  oppure {@link Integer#MAX_VALUE} per disattivarla
+     * @throws IllegalArgumentException se la soglia non è positiva
+     */
+    public void setParallelSearchThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.parallelSearchThreshold = threshold;
+        logger.info("Parallel search threshold set to {}", threshold);
+    }
+
+    /**
+     * Suggerisce i titoli che iniziano con il testo digitato.
+     *
+     * <p>Pensato per la digitazione incrementale: la struttura dei
+     * suggerimenti ({@link TitleAutocomplete}) viene costruita dalla
+     * collezione alla prima richiesta e poi aggiornata ad ogni inserimento,
+     * così che ogni suggerimento richieda solo la discesa lungo il prefisso.
+     * I titoli condivisi da più elementi vengono suggeriti per primi.</p>
+     *
+     * @param prefix il testo digitato (case-insensitive e accent-insensitive)
+     * @param limit il numero massimo di suggerimenti (al più {@value TitleAutocomplete#MAX_SUGGESTIONS})
+     * @return i titoli suggeriti, dal più popolare
+     * @throws IllegalArgumentException se {@code limit} non è positivo
+     */
+    public List<String> suggestTitles(String prefix, int limit) {
+        return readLocked(() -> {
+            TitleAutocomplete autocomplete = titleAutocomplete;
+            if (autocomplete == null) {
+                // Costruzione unica anche con più ricerche concorrenti in lettura
+                synchronized (this) {
+                    autocomplete = titleAutocomplete;
+                    if (autocomplete == null) {
+                        autocomplete = TitleAutocomplete.build(collection.getItems());
+                        titleAutocomplete = autocomplete;
+                        logger.info("Title autocomplete built with {} titles", autocomplete.size());
+                    }
+                }
+            }
+            return autocomplete.suggest(prefix, limit);
+        });
+    }
+
+    /**
+     * Esegue una query composta sugli elementi della biblioteca.
+     *
+     * <p>La query viene pianificata da {@link QueryPlanner}: il predicato più
+     * selettivo secondo gli indici produce i candidati, su cui vengono
+     * verificati i predicati rimanenti. Solo le query che nessun indice può
+     * restringere richiedono la scansione dell'intera collezione.</p>
+     *
+     * @param query la query composta da eseguire
+     * @return gli elementi che soddisfano la query, nell'ordine di inserimento
+     * @throws IllegalArgumentException se la query è nulla
+     */
+    public List<LibraryItem> search(Query query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        // Logging della ricerca per debugging
+        logger.info("Searching with composite query: {}", query);
+        return readLocked(() -> queryPlanner.execute(query));
+    }
+
+    /**
+     * Esegue più ricerche con la stessa strategia in un'unica operazione.
+     *
+     * <p>Pensato per i lavori batch (es. riconciliazione di migliaia di ID):
+     * le strategie indicizzate risolvono ogni query con un accesso agli indici,
+     * le altre possono valutare tutte le query con un'unica scansione della
+     * collezione ({@link SearchStrategy#searchAll(List, Collection)}). Le query
+     * ripetute vengono eseguite una sola volta.</p>
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param queries le stringhe di ricerca
+     * @return una mappa da ogni query distinta ai relativi risultati, nell'ordine delle query
+     */
+    public Map<String, List<LibraryItem>> searchAll(SearchStrategy strategy, Collection<String> queries) {
+        // Logging del batch, non delle singole query
+        logger.info("Batch search with {} queries", queries.size());
+        return readLocked(() -> strategy instanceof IndexedSearchStrategy indexedStrategy
+                ? indexedStrategy.searchAll(index, queries)
+                : strategy.searchAll(collection.getItems(), queries));
+    }
+
+    /**
+     * Conta gli elementi che corrispondono a una ricerca.
+     *
+     * <p>Equivale a {@code search(strategy, query).size()} senza costruire la
+     * lista dei risultati. Le strategie che implementano
+     * {@link IndexedSearchStrategy} possono rispondere direttamente dagli
+     * indici.</p>
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @return il numero di elementi che corrispondono ai criteri di ricerca
+     */
+    public int count(SearchStrategy strategy, String query) {
+        // Logging della ricerca per debugging
+        logger.info("Counting matches for query: {}", query);
+        return readLocked(() -> strategy instanceof IndexedSearchStrategy indexedStrategy
+                ? indexedStrategy.count(index, query)
+                : strategy.count(collection.getItems(), query));
+    }
+
+    /**
+     * Esegue una ricerca restituendo una sola pagina di risultati.
+     *
+     * <p>I risultati sono nello stesso ordine di {@link #search(SearchStrategy, String)}.
+     * Con le strategie che implementano {@link IndexedSearchStrategy} la
+     * ricerca si interrompe non appena la pagina è completa: vengono
+     * verificati solo i primi {@code offset + limit + 1} risultati, l'ultimo
+     * dei quali serve solo a stabilire se esiste una pagina successiva. Le
+     * altre strategie producono la lista completa, come una ricerca normale
+     * (cache dei risultati ed esecuzione parallela comprese), da cui viene
+     * estratta la pagina.</p>
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @param offset il numero di risultati da saltare
+     * @param limit il numero massimo di risultati della pagina
+     * @return la pagina di risultati richiesta
+     * @throws IllegalArgumentException se {@code offset} è negativo o {@code limit} non è positivo
+     */
+    public SearchPage searchPage(SearchStrategy strategy, String query, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        // Logging della ricerca per debugging
+        logger.info("Paged search with query: {} (offset {}, limit {})", query, offset, limit);
+
+        lock.readLock().lock();
+        try {
+            // Strategie indicizzate: interruzione appena trovato il primo risultato oltre la pagina
+            if (strategy instanceof IndexedSearchStrategy indexedStrategy) {
+                List<LibraryItem> items = new ArrayList<>(Math.min(limit, index.size()));
+                int[] seen = {0};
+                boolean completed = indexedStrategy.forEachMatch(index, query, ordinal -> {
+                    int position = seen[0]++;
+                    if (position < offset) {
+                        return true;
+                    }
+                    if (items.size() == limit) {
+                        return false;
+                    }
+                    items.add(index.get(ordinal));
+                    return true;
+                });
+                return new SearchPage(items, offset, !completed);
+            }
+
+            // Altre strategie: estrazione della pagina dalla lista completa, in cache o parallela
+            List<LibraryItem> matches = cachedSearch(strategy, query, null);
+            int from = Math.min(offset, matches.size());
+            int to = (int) Math.min((long) from + limit, matches.size());
+            return new SearchPage(new ArrayList<>(matches.subList(from, to)), offset, to < matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Esegue una ricerca restituendo solo i risultati più rilevanti.
+     *
+     * <p>I risultati della strategia vengono ordinati per rilevanza del titolo
+     * rispetto alla query secondo il modello BM25 ({@link Bm25Scorer}); a parità
+     * di punteggio prevale l'ordine di inserimento. Solo i migliori
+     * {@code limit} risultati vengono trattenuti in un heap limitato
+     * ({@link TopKCollector}).</p>
+     *
+     * <p><strong>Costo:</strong></p>
+     * <ul>
+     *   <li><strong>Strategie indicizzate:</strong> I risultati vengono valutati man mano
+     *       che la strategia li produce, senza materializzarli: O(n log k)
+     *       e solo {@code k} oggetti risultato allocati</li>
+     *   <li><strong>Altre strategie:</strong> La lista completa dei risultati viene
+     *       prima ottenuta dalla strategia, poi valutata</li>
+     * </ul>
+     *
+     * @param strategy la strategia di ricerca da utilizzare
+     * @param query la stringa di ricerca
+     * @param limit il numero massimo di risultati da restituire
+     * @return i risultati con il relativo punteggio, dal più rilevante
+     * @throws IllegalArgumentException se {@code limit} non è positivo
+     */
+    public List<ScoredItem> searchRanked(SearchStrategy strategy, String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        // Logging della ricerca per debugging
+        logger.info("Ranked search with query: {} (limit {})", query, limit);
+        if (query == null || query.trim().isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Bm25Scorer scorer = new Bm25Scorer(index, TextNormalizer.normalize(query));
+
+            // Strategie indicizzate: valutazione degli ordinali man mano che vengono prodotti
+            if (strategy instanceof IndexedSearchStrategy indexedStrategy) {
+                TopKCollector collector = new TopKCollector(Math.min(limit, index.size()));
+                indexedStrategy.forEachMatch(index, query, ordinal -> {
+                    collector.offer(ordinal, scorer.score(index.getNormalizedTitle(ordinal)));
+                    return true;
+                });
+                return toScoredItems(collector, index::get);
+            }
+
+            // Altre strategie: valutazione della lista dei risultati
+            List<LibraryItem> matches = strategy.search(collection.getItems(), query);
+            TopKCollector collector = new TopKCollector(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size(); i++) {
+                collector.offer(i, scorer.score(SearchKeys.forItem(matches.get(i)).getNormalizedTitle()));
+            }
+            return toScoredItems(collector, matches::get);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -267,15 +867,21 @@ public class LibraryManager {
     /**
      * Salva tutti i dati della biblioteca su file.
      *
-     * <p>Questo metodo implementa la persistenza dei dati serializzando
-     * tutti gli elementi della collezione in formato testuale. Crea
-     * automaticamente la directory di destinazione se non esiste.</p>
+     * <p>Dopo il caricamento da file ({@link #loadFromFile()}) ogni modifica
+     * è già registrata nel log delle modifiche: il salvataggio si limita a
+     * renderlo persistente su disco, con un costo indipendente dalla
+     * dimensione del catalogo. Lo snapshot completo viene riscritto solo da
+     * {@link #checkpoint()}, oppure qui se il log non è attivo.</p>
+     *
+     * <p>Lo snapshot serializza tutti gli elementi della collezione nel
+     * formato binario di {@link SnapshotFile}. Crea automaticamente la
+     * directory di destinazione se non esiste.</p>
      *
      * <p><strong>Formato di salvataggio:</strong></p>
      * <ul>
-     *   <li>Un elemento per riga</li>
-     *   <li>Campi separati da pipe (|)</li>
-     *   <li>Formato specifico per tipo di elemento</li>
+     *   <li>Intestazione con versione del formato</li>
+     *   <li>Un record per elemento, preceduto dalla sua lunghezza</li>
+     *   <li>Campi specifici per tipo di elemento, compresa la disponibilità</li>
      * </ul>
      *
      * <p><strong>Gestione errori:</strong></p>
@@ -288,46 +894,242 @@ public class LibraryManager {
      * @throws LibraryException se si verifica un errore durante il salvataggio
      */
     public void saveToFile() throws LibraryException {
+        lock.readLock().lock();
         try {
-            // Creazione automatica della directory se non esiste
-            Files.createDirectories(Paths.get("data"));
-
-            // Utilizzo try-with-resources per gestione automatica delle risorse
-            try (PrintWriter writer = new PrintWriter(new FileWriter(dataFilePath))) {
-                // Iterazione attraverso tutti gli elementi della collezione
-                for (LibraryItem item : collection) {
-                    // Serializzazione dell'elemento in formato stringa
-                    writer.println(itemToString(item));
-                }
+            if (writeAheadLog != null) {
+                // Modifiche già registrate nel log: basta renderle persistenti
+                writeAheadLog.sync();
+                logger.info("Library changes synced to log");
+                return;
             }
-
-            // Logging del completamento dell'operazione
-            logger.info("Library data saved to file");
+            List<LibraryItem> items = collection.getItems();
+            writeSnapshot(items, captureAvailability(items));
         } catch (IOException e) {
             // Gestione errori di I/O con logging e wrapping
             logger.error("Error saving to file: {}", e.getMessage());
             throw new LibraryException("Failed to save data", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Riscrive lo snapshot completo e svuota il log delle modifiche.
+     *
+     * <p>Dopo il checkpoint il caricamento non deve più ripetere le modifiche
+     * registrate finora. Le modifiche sono sospese solo per il tempo di
+     * copiare la collezione e ruotare il log: il segmento corrente viene
+     * rinominato atomicamente e le modifiche successive proseguono su un log
+     * nuovo, mentre lo snapshot viene scritto dalla copia senza bloccarle.</p>
+     *
+     * <p><strong>Sequenza su disco:</strong></p>
+     * <ul>
+     *   <li>Rinomina del log corrente in segmento chiuso e apertura di un log vuoto</li>
+     *   <li>Scrittura dello snapshot su un file temporaneo, reso persistente</li>
+     *   <li>Sostituzione atomica dello snapshot precedente</li>
+     *   <li>Eliminazione del segmento chiuso, ora incluso nello snapshot</li>
+     * </ul>
+     *
+     * <p>Un'interruzione in qualunque punto lascia uno snapshot completo e i
+     * segmenti di log che lo seguono: il caricamento li ripete entrambi e le
+     * modifiche già incluse nello snapshot vengono ignorate.</p>
+     *
+     * @throws LibraryException se si verifica un errore durante la scrittura
+     */
+    public void checkpoint() throws LibraryException {
+        synchronized (checkpointMonitor) {
+            try {
+                List<LibraryItem> items;
+                boolean[] availability;
+                boolean rotated;
+                boolean logActive;
+                lock.writeLock().lock();
+                try {
+                    logActive = writeAheadLog != null;
+                    items = List.copyOf(collection.getItems());
+                    availability = captureAvailability(items);
+                    rotated = rotateLog();
+                    if (!rotated) {
+                        // Segmento precedente ancora presente: snapshot scritto a modifiche sospese
+                        writeSnapshot(items, availability);
+                        if (writeAheadLog != null) {
+                            writeAheadLog.reset();
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                if (rotated) {
+                    writeSnapshot(items, availability);
+                }
+                if (logActive) {
+                    Files.deleteIfExists(Paths.get(rotatedLogFilePath));
+                }
+                lastCheckpointNanos = System.nanoTime();
+                logger.info("Library checkpoint completed");
+            } catch (IOException e) {
+                logger.error("Error writing checkpoint: {}", e.getMessage());
+                throw new LibraryException("Failed to write checkpoint", e);
+            }
+        }
+    }
+
+    /**
+     * Avvia i checkpoint periodici in background, sostituendo quelli eventualmente attivi.
+     *
+     * <p>Un thread dedicato esegue {@link #checkpoint()} quando il log supera
+     * la dimensione massima, oppure quando contiene modifiche ed è trascorso
+     * l'intervallo massimo dall'ultimo checkpoint: il tempo di ripristino al
+     * caricamento resta così limitato.</p>
+     *
+     * @param policy le soglie dei checkpoint
+     * @throws IllegalArgumentException se le soglie sono nulle
+     */
+    public void startBackgroundCheckpoints(CheckpointPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Checkpoint policy cannot be null");
         }
+        synchronized (checkpointerMonitor) {
+            stopBackgroundCheckpoints();
+            backgroundCheckpointer = new BackgroundCheckpointer(this, policy);
+            logger.info("Background checkpoints started (max log size: {} bytes, max interval: {})",
+                    policy.maxLogBytes(), policy.maxInterval());
+        }
+    }
+
+    /**
+     * Interrompe i checkpoint periodici, attendendo il termine di quello in corso.
+     *
+     * <p>L'attesa avviene su un monitor dedicato: le altre operazioni del
+     * manager non restano bloccate durante l'arresto.</p>
+     */
+    public void stopBackgroundCheckpoints() {
+        synchronized (checkpointerMonitor) {
+            if (backgroundCheckpointer != null) {
+                backgroundCheckpointer.close();
+                backgroundCheckpointer = null;
+                logger.info("Background checkpoints stopped");
+            }
+        }
+    }
+
+    /**
+     * Restituisce la dimensione attuale del log delle modifiche.
+     *
+     * @return la dimensione del log in byte (0 se il log non è attivo)
+     * @throws LibraryException se la dimensione non può essere letta
+     */
+    long getLogSize() throws LibraryException {
+        WriteAheadLog log = writeAheadLog;
+        try {
+            return log != null ? log.size() : 0;
+        } catch (IOException e) {
+            throw new LibraryException("Failed to read log size", e);
+        }
+    }
+
+    /**
+     * Restituisce il tempo trascorso dall'ultimo checkpoint completato.
+     *
+     * @return il tempo trascorso (dalla creazione del manager se non ce ne sono stati)
+     */
+    Duration getTimeSinceLastCheckpoint() {
+        return Duration.ofNanos(System.nanoTime() - lastCheckpointNanos);
+    }
+
+    /**
+     * Chiude il log corrente come segmento in attesa di snapshot e ne apre uno vuoto.
+     *
+     * <p>Deve essere invocato con il lock in scrittura, così che nessuna
+     * modifica venga registrata durante la rotazione.</p>
+     *
+     * @return {@code true} se il log è stato ruotato o non è attivo; {@code false}
+     *         se un checkpoint precedente interrotto ha lasciato un segmento chiuso
+     * @throws IOException se la rinomina o l'apertura del nuovo log falliscono
+     */
+    private boolean rotateLog() throws IOException {
+        if (writeAheadLog == null) {
+            return true;
+        }
+        Path rotated = Paths.get(rotatedLogFilePath);
+        if (Files.exists(rotated)) {
+            return false;
+        }
+        // In caso di errore il log resta chiuso: le modifiche successive falliscono invece di andare perse
+        writeAheadLog.close();
+        Files.move(Paths.get(logFilePath), rotated, StandardCopyOption.ATOMIC_MOVE);
+        writeAheadLog = WriteAheadLog.open(Paths.get(logFilePath));
+        return true;
+    }
+
+    /**
+     * Legge lo stato di disponibilità degli elementi.
+     *
+     * <p>La disponibilità cambia sull'elemento stesso: viene letta insieme
+     * alla copia della collezione perché lo snapshot sia coerente con il log.</p>
+     *
+     * @param items gli elementi da salvare
+     * @return la disponibilità di ciascun elemento, nello stesso ordine
+     */
+    private static boolean[] captureAvailability(List<LibraryItem> items) {
+        boolean[] availability = new boolean[items.size()];
+        for (int i = 0; i < availability.length; i++) {
+            availability[i] = items.get(i).isAvailable();
+        }
+        return availability;
+    }
+
+    /**
+     * Scrive lo snapshot completo della collezione in formato binario.
+     *
+     * <p>Lo snapshot viene scritto su un file temporaneo, reso persistente e
+     * poi sostituito atomicamente a quello precedente: un'interruzione non
+     * lascia mai uno snapshot parziale.</p>
+     *
+     * @param items gli elementi da salvare
+     * @param availability la disponibilità di ciascun elemento, nello stesso ordine
+     * @throws IOException se si verifica un errore di scrittura
+     */
+    private void writeSnapshot(List<LibraryItem> items, boolean[] availability) throws IOException {
+        // Creazione automatica della directory se non esiste
+        Files.createDirectories(Paths.get(dataDirectory));
+        Path target = Paths.get(dataFilePath);
+        Path temporary = Paths.get(dataFilePath + ".tmp");
+
+        int written = SnapshotFile.write(temporary, items, availability);
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // Logging del completamento dell'operazione
+        logger.info("Library data saved to file ({} items)", written);
     }
 
     /**
      * Carica i dati della biblioteca da file.
      *
      * <p>Questo metodo implementa il caricamento dei dati deserializzando
-     * gli elementi dal formato testuale. Gestisce sia formati legacy che
-     * nuovi formati per retrocompatibilità.</p>
+     * gli elementi dallo snapshot binario. In sua assenza importa il file
+     * testuale delle versioni precedenti, di cui gestisce sia i formati legacy
+     * che quelli nuovi per retrocompatibilità; il checkpoint successivo lo
+     * sostituisce con uno snapshot binario.</p>
      *
      * <p><strong>Caratteristiche del caricamento:</strong></p>
      * <ul>
      *   <li>Controllo esistenza file</li>
-     *   <li>Parsing riga per riga</li>
+     *   <li>Lettura a blocchi dello snapshot binario</li>
+     *   <li>Importazione del file testuale mappato in memoria, con le righe
+     *       interpretate in parallelo e gli elementi pubblicati in blocco</li>
      *   <li>Gestione formati legacy</li>
      *   <li>Recupero da errori di parsing</li>
+     *   <li>Ripetizione delle modifiche registrate nel log dopo lo snapshot</li>
+     *   <li>Apertura del log per le modifiche successive</li>
      * </ul>
      *
      * <p><strong>Comportamento:</strong></p>
      * <ul>
-     *   <li>Se il file non esiste, inizia con biblioteca vuota</li>
+     *   <li>Se nessun file di dati esiste, inizia con biblioteca vuota (più le modifiche del log)</li>
+     *   <li>Uno snapshot binario illeggibile interrompe il caricamento con un errore</li>
+     *   <li>Un record incompleto in coda al log (es. dopo un'interruzione) viene scartato</li>
      *   <li>Ignora righe con errori di parsing</li>
      *   <li>Continua il caricamento anche in presenza di errori</li>
      * </ul>
@@ -335,22 +1137,38 @@ public class LibraryManager {
      * @throws LibraryException se si verifica un errore critico durante il caricamento
      */
     public void loadFromFile() throws LibraryException {
+        lock.writeLock().lock();
         try {
-            // Controllo esistenza del file di dati
-            if (!Files.exists(Paths.get(dataFilePath))) {
+            // Le modifiche ripetute durante il caricamento non vanno registrate di nuovo
+            if (writeAheadLog != null) {
+                writeAheadLog.close();
+                writeAheadLog = null;
+            }
+
+            // Controllo esistenza dei file di dati
+            if (Files.exists(Paths.get(dataFilePath))) {
+                List<SnapshotRecord> records = new ArrayList<>();
+                SnapshotFile.read(Paths.get(dataFilePath), records::add);
+                int loaded = publishItems(buildItems(records));
+                logger.info("Loaded {} items from snapshot", loaded);
+            } else if (!Files.exists(Paths.get(legacyDataFilePath))) {
                 logger.info("Data file not found, starting with empty library");
-                return; // Inizia con biblioteca vuota se il file non esiste
+            } else {
+                logger.info("Importing legacy text data file {}", legacyDataFilePath);
+                // Parsing parallelo delle righe, poi pubblicazione in blocco degli elementi
+                List<LibraryItem> parsed = MappedTextFile.parseLines(Paths.get(legacyDataFilePath),
+                        LibraryManager::parseItemFromString);
+                int imported = publishItems(parsed);
+                logger.info("Imported {} items from legacy text data file", imported);
             }
 
-            // Utilizzo try-with-resources per gestione automatica delle risorse
-            try (BufferedReader reader = new BufferedReader(new FileReader(dataFilePath))) {
-                String line;
-                // Lettura e parsing riga per riga
-                while ((line = reader.readLine()) != null) {
-                    // Parsing di ogni riga in un elemento bibliotecario
-                    parseItemFromString(line);
-                }
+            // Modifiche successive all'ultimo snapshot: prima il segmento chiuso da un checkpoint interrotto
+            int replayed = WriteAheadLog.replay(Paths.get(rotatedLogFilePath), this::applyLogRecord)
+                    + WriteAheadLog.replay(Paths.get(logFilePath), this::applyLogRecord);
+            if (replayed > 0) {
+                logger.info("Replayed {} log records", replayed);
             }
+            writeAheadLog = WriteAheadLog.open(Paths.get(logFilePath));
 
             // Logging del completamento dell'operazione
             logger.info("Library data loaded from file");
@@ -358,54 +1176,44 @@ public class LibraryManager {
             // Gestione errori di I/O con logging e wrapping
             logger.error("Error loading from file: {}", e.getMessage());
             throw new LibraryException("Failed to load data", e);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     /**
-     * Converte un elemento bibliotecario in rappresentazione stringa per la persistenza.
+     * Valida e costruisce gli elementi di un gruppo, con la disponibilità già impostata.
      *
-     * <p>Questo metodo privato serializza un LibraryItem in formato testuale
-     * utilizzando il pattern matching di Java per gestire i diversi tipi
-     * di elementi. Il formato è ottimizzato per la lettura e il parsing.</p>
-     *
-     * <p><strong>Formati di output:</strong></p>
-     * <ul>
-     *   <li><strong>Book:</strong> Type|ID|Title|Author|Pages|Available</li>
-     *   <li><strong>Magazine:</strong> Type|ID|Title|IssueNumber|Available</li>
-     *   <li><strong>Generic:</strong> Type|ID|Title|Available (fallback)</li>
-     * </ul>
+     * <p>Gli elementi non sono ancora collegati al manager: impostarne la
+     * disponibilità non genera notifiche né modifiche al log. I dati non
+     * validi vengono scartati e conteggiati in un unico warning.</p>
      *
-     * <p><strong>Caratteristiche:</strong></p>
-     * <ul>
-     *   <li>Utilizza pattern matching per type safety</li>
-     *   <li>Formato pipe-separated per facilità di parsing</li>
-     *   <li>Include tutti i dati necessari per la ricostruzione</li>
-     * </ul>
-     *
-     * @param item l'elemento da serializzare (non deve essere nullo)
-     * @return la rappresentazione stringa dell'elemento
-     * @throws IllegalArgumentException se l'elemento è nullo
+     * @param records i dati degli elementi
+     * @return gli elementi validi, nell'ordine dei dati
      */
-    private String itemToString(LibraryItem item) {
-        // Validazione input: l'elemento non può essere nullo
-        if (item == null) {
-            throw new IllegalArgumentException("Item cannot be null");
+    private static List<LibraryItem> buildItems(Collection<? extends SnapshotRecord> records) {
+        List<LibraryItem> items = new ArrayList<>(records.size());
+        int rejected = 0;
+        for (SnapshotRecord record : records) {
+            try {
+                LibraryItem item = switch (record) {
+                    case null -> throw new InvalidDataException("Record cannot be null");
+                    case SnapshotRecord.BookEntry book ->
+                            LibraryItemFactory.createBook(book.isbn(), book.title(), book.author(), book.pages());
+                    case SnapshotRecord.MagazineEntry magazine ->
+                            LibraryItemFactory.createMagazine(magazine.issn(), magazine.title(), magazine.issueNumber());
+                };
+                item.setAvailable(record.available());
+                items.add(item);
+            } catch (InvalidDataException e) {
+                rejected++;
+                logger.debug("Rejected item {}: {}", record, e.getMessage());
+            }
         }
-
-        // Utilizzo pattern matching per serializzazione type-safe
-        return switch (item) {
-            // Serializzazione specifica per libri con tutti i campi
-            case com.biblioteca.model.Book book -> String.format("%s|%s|%s|%s|%d|%s",
-                    item.getType(), item.getId(), item.getTitle(),
-                    book.getAuthor(), book.getPages(), item.isAvailable());
-            // Serializzazione specifica per riviste con numero edizione
-            case com.biblioteca.model.Magazine magazine -> String.format("%s|%s|%s|%d|%s",
-                    item.getType(), item.getId(), item.getTitle(),
-                    magazine.getIssueNumber(), item.isAvailable());
-            // Fallback per tipi non riconosciuti (estensibilità futura)
-            default -> String.format("%s|%s|%s|%s",
-                    item.getType(), item.getId(), item.getTitle(), item.isAvailable());
-        };
+        if (rejected > 0) {
+            logger.warn("Rejected {} invalid items", rejected);
+        }
+        return items;
     }
 
     /**
@@ -416,6 +1224,10 @@ public class LibraryManager {
      * Include gestione robusta degli errori per continuare il caricamento anche
      * in presenza di righe malformate.</p>
      *
+     * <p>L'elemento viene solo costruito, con la disponibilità già impostata,
+     * senza modificare lo stato del manager: il metodo può essere invocato in
+     * parallelo sulle righe di blocchi diversi del file.</p>
+     *
      * <p><strong>Formati supportati:</strong></p>
      * <ul>
      *   <li><strong>Book (nuovo):</strong> Book|ID|Title|Author|Pages|Available</li>
@@ -433,8 +1245,9 @@ public class LibraryManager {
      * </ul>
      *
      * @param line la riga di testo da parsare
+     * @return l'elemento costruito, oppure {@code null} se la riga va ignorata
      */
-    private void parseItemFromString(String line) {
+    private static LibraryItem parseItemFromString(String line) {
         // Splitting della riga utilizzando pipe come separatore
         String[] parts = line.split("\\|");
 
@@ -454,21 +1267,20 @@ public class LibraryManager {
                         int pages = Integer.parseInt(parts[4]);
                         boolean available = Boolean.parseBoolean(parts[5]);
 
-                        // Creazione libro con tutti i dati
-                        addBook(id, title, author, pages);
-                        // Impostazione dello stato di disponibilità
-                        LibraryItem item = findById(id);
+                        // Creazione libro con tutti i dati e stato di disponibilità
+                        LibraryItem item = LibraryItemFactory.createBook(id, title, author, pages);
                         item.setAvailable(available);
+                        return item;
                     } else {
                         // Formato legacy: Book|ID|Title|Available - utilizza valori default
                         logger.warn("Loading book with legacy format, using default values: {}", line);
-                        addBook(id, title, "Unknown Author", 100);
-                        LibraryItem item = findById(id);
+                        LibraryItem item = LibraryItemFactory.createBook(id, title, "Unknown Author", 100);
                         // Impostazione disponibilità se presente
                         if (parts.length > 3) {
                             boolean available = Boolean.parseBoolean(parts[3]);
                             item.setAvailable(available);
                         }
+                        return item;
                     }
                 } else if ("Magazine".equals(type)) {
                     // Gestione specifica per riviste
@@ -477,21 +1289,20 @@ public class LibraryManager {
                         int issueNumber = Integer.parseInt(parts[3]);
                         boolean available = Boolean.parseBoolean(parts[4]);
 
-                        // Creazione rivista con tutti i dati
-                        addMagazine(id, title, issueNumber);
-                        // Impostazione dello stato di disponibilità
-                        LibraryItem item = findById(id);
+                        // Creazione rivista con tutti i dati e stato di disponibilità
+                        LibraryItem item = LibraryItemFactory.createMagazine(id, title, issueNumber);
                         item.setAvailable(available);
+                        return item;
                     } else {
                         // Formato legacy: Magazine|ID|Title|Available - utilizza valori default
                         logger.warn("Loading magazine with legacy format, using default values: {}", line);
-                        addMagazine(id, title, 1); // Numero edizione default = 1
-                        LibraryItem item = findById(id);
+                        LibraryItem item = LibraryItemFactory.createMagazine(id, title, 1); // Numero edizione default = 1
                         // Impostazione disponibilità se presente
                         if (parts.length > 3) {
                             boolean available = Boolean.parseBoolean(parts[3]);
                             item.setAvailable(available);
                         }
+                        return item;
                     }
                 }
             } catch (LibraryException | NumberFormatException e) {
@@ -499,7 +1310,91 @@ public class LibraryManager {
                 logger.warn("Failed to parse item: {} - Error: {}", line, e.getMessage());
             }
         }
-        // Nota: righe con meno di 3 campi vengono silenziosamente ignorate
+        // Nota: righe con meno di 3 campi o di tipo sconosciuto vengono silenziosamente ignorate
+        return null;
+    }
+
+    /**
+     * Pubblica in blocco elementi già costruiti.
+     *
+     * <p>Deve essere invocato con il lock in scrittura. Gli elementi con un ID
+     * già presente vengono ignorati; gli altri vengono registrati nel log,
+     * se attivo, e aggiunti alla mappa e agli indici, poi alla collezione con
+     * un solo inserimento. La cache dei risultati viene svuotata una sola
+     * volta per l'intero gruppo e i suggerimenti dei titoli vengono
+     * ricostruiti al prossimo utilizzo.</p>
+     *
+     * <p>Se la registrazione nel log fallisce, il log viene riportato allo
+     * stato precedente e nessun elemento del gruppo viene pubblicato.</p>
+     *
+     * @param items gli elementi da pubblicare, con la disponibilità già impostata
+     * @return il numero di elementi pubblicati
+     * @throws IOException se la registrazione nel log fallisce
+     */
+    private int publishItems(List<LibraryItem> items) throws IOException {
+        // Scarto dei duplicati, rispetto alla biblioteca e all'interno del gruppo
+        List<LibraryItem> accepted = new ArrayList<>(items.size());
+        for (LibraryItem item : items) {
+            if (itemsById.putIfAbsent(item.getId(), item) == null) {
+                accepted.add(item);
+            } else {
+                logger.debug("Skipping item with duplicate ID: {}", item.getId());
+            }
+        }
+        if (accepted.size() < items.size()) {
+            logger.warn("Skipped {} items with duplicate IDs", items.size() - accepted.size());
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        // Registrazione nel log prima della pubblicazione, con poche scritture per l'intero gruppo
+        if (writeAheadLog != null) {
+            List<LogRecord> records = new ArrayList<>(accepted.size());
+            for (LibraryItem item : accepted) {
+                addLogRecords(item, records);
+            }
+            try {
+                writeAheadLog.appendAll(records);
+            } catch (IOException e) {
+                // Il log è stato ripristinato: nessun elemento del gruppo viene aggiunto
+                for (LibraryItem item : accepted) {
+                    itemsById.remove(item.getId());
+                }
+                throw e;
+            }
+        }
+
+        AvailabilityListener listener = this::onAvailabilityChanged;
+        for (LibraryItem item : accepted) {
+            index.add(item);
+            item.setAvailabilityListener(listener);
+        }
+        collection.addAll(accepted);
+
+        resultCache.clear();
+        titleAutocomplete = null;
+        return accepted.size();
+    }
+
+    /**
+     * Prepara i record di log dell'aggiunta di un elemento e, se non disponibile, del suo stato.
+     *
+     * @param item l'elemento aggiunto
+     * @param records i record a cui aggiungere quelli dell'elemento
+     */
+    private static void addLogRecords(LibraryItem item, List<LogRecord> records) {
+        switch (item) {
+            case Book book -> records.add(new LogRecord.AddBook(
+                    book.getId(), book.getTitle(), book.getAuthor(), book.getPages()));
+            case Magazine magazine -> records.add(new LogRecord.AddMagazine(
+                    magazine.getId(), magazine.getTitle(), magazine.getIssueNumber()));
+            default -> throw new IllegalArgumentException("Unsupported item type: " + item.getType());
+        }
+        // Gli elementi aggiunti sono disponibili: solo lo stato contrario va registrato
+        if (!item.isAvailable()) {
+            records.add(new LogRecord.Availability(item.getId(), false));
+        }
     }
 
     /**
@@ -513,4 +1408,119 @@ public class LibraryManager {
     public int getTotalItems() {
         return collection.size();
     }
+
+    /**
+     * Collega un elemento appena aggiunto alle strutture che ne seguono le modifiche.
+     *
+     * <p>Registra il manager come observer della disponibilità dell'elemento e
+     * invalida le ricerche in cache che lo includerebbero.</p>
+     *
+     * @param item l'elemento appena aggiunto
+     */
+    private void register(LibraryItem item) {
+        item.setAvailabilityListener(this::onAvailabilityChanged);
+        resultCache.itemAdded(item);
+        if (titleAutocomplete != null) {
+            titleAutocomplete.add(item.getTitle());
+        }
+    }
+
+    /**
+     * Reagisce al cambio di disponibilità di un elemento della biblioteca.
+     *
+     * <p>Il cambio viene registrato nel log prima di aggiornare indice e
+     * cache. Se la registrazione fallisce, l'elemento torna allo stato
+     * precedente senza nuove notifiche e l'errore viene propagato al
+     * chiamante di {@link LibraryItem#setAvailable(boolean)}.</p>
+     *
+     * @param item l'elemento modificato
+     * @throws UncheckedIOException se non è possibile registrare il cambio nel log
+     */
+    private void onAvailabilityChanged(LibraryItem item) {
+        lock.writeLock().lock();
+        try {
+            try {
+                logMutation(new LogRecord.Availability(item.getId(), item.isAvailable()));
+            } catch (IOException e) {
+                // Il cambio non è persistente: ripristino dello stato senza notificare di nuovo
+                item.setAvailabilityListener(null);
+                item.setAvailable(!item.isAvailable());
+                item.setAvailabilityListener(this::onAvailabilityChanged);
+                logger.error("Error logging availability change: {}", e.getMessage());
+                throw new UncheckedIOException("Failed to log availability change", e);
+            }
+            index.updateAvailability(item);
+            resultCache.availabilityChanged(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registra una modifica nel log, se attivo.
+     *
+     * @param record la modifica da registrare
+     * @throws IOException se si verifica un errore di scrittura
+     */
+    private void logMutation(LogRecord record) throws IOException {
+        if (writeAheadLog != null) {
+            writeAheadLog.append(record);
+        }
+    }
+
+    /**
+     * Ripete una modifica registrata nel log durante il caricamento.
+     *
+     * <p>Le modifiche già incluse nello snapshot (es. per un'interruzione fra
+     * la scrittura dello snapshot e lo svuotamento del log) vengono ignorate.</p>
+     *
+     * @param record la modifica da ripetere
+     */
+    private void applyLogRecord(LogRecord record) {
+        try {
+            switch (record) {
+                case LogRecord.AddBook book -> addBook(book.isbn(), book.title(), book.author(), book.pages());
+                case LogRecord.AddMagazine magazine ->
+                        addMagazine(magazine.issn(), magazine.title(), magazine.issueNumber());
+                case LogRecord.Availability availability ->
+                        findById(availability.id()).setAvailable(availability.available());
+            }
+        } catch (LibraryException e) {
+            logger.warn("Skipping log record {}: {}", record, e.getMessage());
+        }
+    }
+
+    /**
+     * Esegue un'operazione di sola lettura detenendo il lock in lettura.
+     *
+     * @param action l'operazione da eseguire
+     * @param <T> il tipo del risultato
+     * @return il risultato dell'operazione
+     */
+    private <T> T readLocked(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Converte il contenuto di un {@link TopKCollector} nella lista dei risultati.
+     *
+     * @param collector il raccoglitore con i risultati migliori
+     * @param resolver la funzione che associa a ogni posizione il relativo elemento
+     * @return i risultati dal più rilevante
+     */
+    private List<ScoredItem> toScoredItems(TopKCollector collector, IntFunction<LibraryItem> resolver) {
+        double[] scores = new double[collector.size()];
+        int[] positions = new int[collector.size()];
+        int count = collector.drain(scores, positions);
+        List<ScoredItem> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(new ScoredItem(resolver.apply(positions[i]), scores[i]));
+        }
+        return results;
+    }
 }
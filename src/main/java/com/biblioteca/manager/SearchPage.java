@@ -0,0 +1,32 @@
+package com.biblioteca.manager;
+
+import java.util.List;
+
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Pagina di risultati di una ricerca paginata.
+ *
+ * <p>Contiene gli elementi della pagina richiesta e l'indicazione della
+ * presenza di ulteriori risultati, così che l'interfaccia possa offrire la
+ * pagina successiva senza conoscere il numero totale di corrispondenze.</p>
+ *
+ * @param items gli elementi della pagina, nell'ordine di inserimento
+ * @param offset la posizione del primo elemento della pagina fra tutti i risultati
+ * @param hasMore {@code true} se esistono risultati oltre questa pagina
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public record SearchPage(List<LibraryItem> items, int offset, boolean hasMore) {
+
+    /**
+     * Restituisce la posizione da cui richiedere la pagina successiva.
+     *
+     * @return l'offset della pagina successiva
+     */
+    public int nextOffset() {
+        return offset + items.size();
+    }
+}
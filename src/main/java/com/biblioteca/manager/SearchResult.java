@@ -0,0 +1,23 @@
+package com.biblioteca.manager;
+
+import java.util.List;
+
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Risultati di una ricerca eseguita con un budget di tempo o di lavoro.
+ *
+ * <p>Se il budget si esaurisce prima della fine della ricerca, gli elementi
+ * sono quelli trovati fino a quel momento e il risultato è marcato come
+ * troncato: il chiamante può mostrarli come parziali o ripetere la ricerca
+ * con un budget maggiore.</p>
+ *
+ * @param items gli elementi trovati, nell'ordine di inserimento
+ * @param truncated {@code true} se la ricerca è stata interrotta per esaurimento del budget
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public record SearchResult(List<LibraryItem> items, boolean truncated) {
+}
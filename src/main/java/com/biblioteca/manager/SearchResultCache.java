@@ -0,0 +1,202 @@
+package com.biblioteca.manager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.SearchStrategy;
+
+/**
+ * Cache LRU dei risultati di ricerca con invalidazione mirata.
+ *
+ * <p>Memorizza i risultati di {@code LibraryManager.search} sotto la chiave
+ * fornita dalla strategia ({@link SearchStrategy#cacheKey(String)}), che
+ * combina il tipo di strategia e la query normalizzata. Raggiunta la
+ * capacità massima viene rimossa la voce usata meno di recente.</p>
+ *
+ * <p><strong>Invalidazione mirata:</strong></p>
+ * <ul>
+ *   <li><strong>Nuovo elemento:</strong> Vengono rimosse solo le voci la cui
+ *       strategia considera l'elemento una corrispondenza della propria query</li>
+ *   <li><strong>Cambio di disponibilità:</strong> Vengono rimosse le voci che
+ *       contengono l'elemento o la cui query ora lo trova</li>
+ * </ul>
+ *
+ * <p>Per ogni voce la verifica consiste nell'eseguire la strategia sul solo
+ * elemento modificato: il costo di un aggiornamento è proporzionale al
+ * numero di voci, non alla dimensione della collezione.</p>
+ *
+ * <p>Tutti i metodi sono sincronizzati: la cache può essere usata da più
+ * thread contemporaneamente.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class SearchResultCache {
+
+    /** Capacità predefinita, in numero di query */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /** Voci in ordine di accesso: la prima è la meno recente */
+    private final LinkedHashMap<String, Entry> entries;
+
+    /** Numero di richieste soddisfatte dalla cache */
+    private long hits;
+
+    /** Numero di richieste non presenti in cache */
+    private long misses;
+
+    /** Numero di voci rimosse perché rese obsolete da una modifica */
+    private long invalidations;
+
+    /**
+     * Costruisce una cache con la capacità specificata.
+     *
+     * @param capacity il numero massimo di query memorizzate
+     * @throws IllegalArgumentException se la capacità non è positiva
+     */
+    public SearchResultCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        // LinkedHashMap in ordine di accesso con rimozione automatica della voce più vecchia
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Restituisce i risultati memorizzati per una chiave.
+     *
+     * @param key la chiave di cache
+     * @return i risultati (lista non modificabile), oppure {@code null} se assenti
+     */
+    public synchronized List<LibraryItem> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.results();
+    }
+
+    /**
+     * Memorizza i risultati di una ricerca.
+     *
+     * @param key la chiave di cache
+     * @param strategy la strategia che ha prodotto i risultati, usata per l'invalidazione
+     * @param query la query originale
+     * @param results i risultati da memorizzare (ne viene salvata una copia)
+     */
+    public synchronized void put(String key, SearchStrategy strategy, String query, List<LibraryItem> results) {
+        entries.put(key, new Entry(strategy, query, List.copyOf(results)));
+    }
+
+    /**
+     * Rimuove le voci i cui risultati includerebbero un nuovo elemento.
+     *
+     * @param item l'elemento appena aggiunto alla biblioteca
+     */
+    public synchronized void itemAdded(LibraryItem item) {
+        List<LibraryItem> singleton = List.of(item);
+        invalidate(entry -> !entry.strategy().search(singleton, entry.query()).isEmpty());
+    }
+
+    /**
+     * Rimuove le voci interessate dal cambio di disponibilità di un elemento.
+     *
+     * @param item l'elemento la cui disponibilità è cambiata
+     */
+    public synchronized void availabilityChanged(LibraryItem item) {
+        List<LibraryItem> singleton = List.of(item);
+        invalidate(entry -> containsInstance(entry.results(), item)
+                || !entry.strategy().search(singleton, entry.query()).isEmpty());
+    }
+
+    /**
+     * Svuota la cache, mantenendo le statistiche.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Restituisce le statistiche di utilizzo della cache.
+     *
+     * @return un'istantanea delle statistiche
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, invalidations, entries.size());
+    }
+
+    /**
+     * Rimuove le voci che soddisfano una condizione.
+     *
+     * @param stale la condizione che identifica le voci obsolete
+     */
+    private void invalidate(Predicate<Entry> stale) {
+        // Iterazione sui valori: non altera l'ordine di accesso
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (stale.test(iterator.next())) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Verifica se una lista contiene esattamente l'istanza data.
+     *
+     * @param results la lista dei risultati
+     * @param item l'elemento cercato
+     * @return {@code true} se l'istanza è presente
+     */
+    private static boolean containsInstance(List<LibraryItem> results, LibraryItem item) {
+        for (LibraryItem result : results) {
+            if (result == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Voce della cache: i risultati e quanto serve per verificarne la validità.
+     *
+     * @param strategy la strategia che ha prodotto i risultati
+     * @param query la query originale
+     * @param results i risultati, non modificabili
+     */
+    private record Entry(SearchStrategy strategy, String query, List<LibraryItem> results) {
+    }
+
+    /**
+     * Statistiche di utilizzo della cache.
+     *
+     * @param hits le richieste soddisfatte dalla cache
+     * @param misses le richieste non presenti in cache
+     * @param invalidations le voci rimosse perché rese obsolete da una modifica
+     * @param size il numero di voci attualmente memorizzate
+     */
+    public record Statistics(long hits, long misses, long invalidations, int size) {
+
+        /**
+         * Restituisce la frazione di richieste soddisfatte dalla cache.
+         *
+         * @return il rapporto fra hit e richieste totali, {@code 0.0} se nessuna richiesta
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.biblioteca.model;
+
+/**
+ * Observer notificato quando cambia la disponibilità di un elemento.
+ *
+ * <p>Implementa il ruolo di Observer nel pattern Observer: il
+ * {@code LibraryManager} si registra su ogni elemento aggiunto alla
+ * biblioteca per mantenere allineate le strutture che dipendono dallo stato
+ * di disponibilità (es. la cache dei risultati di ricerca).</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface AvailabilityListener {
+
+    /**
+     * Notifica che la disponibilità di un elemento è cambiata.
+     *
+     * <p>L'observer può rifiutare il cambio lanciando un'eccezione non
+     * controllata: in tal caso è suo compito ripristinare lo stato precedente
+     * dell'elemento.</p>
+     *
+     * @param item l'elemento modificato, con il nuovo stato già impostato
+     */
+    void availabilityChanged(LibraryItem item);
+}
@@ -43,6 +43,12 @@ public class Book implements LibraryItem {
     /** Indica se il libro è attualmente disponibile per il prestito */
     private boolean available;
 
+    /** Chiavi di ricerca normalizzate, calcolate una sola volta */
+    private final SearchKeys searchKeys;
+
+    /** Observer dei cambi di disponibilità (nullo se nessuno è registrato) */
+    private AvailabilityListener availabilityListener;
+
     /**
      * Costruttore privato che utilizza il pattern Builder.
      *
@@ -58,6 +64,8 @@ public class Book implements LibraryItem {
         this.title = builder.title;
         this.author = builder.author;
         this.pages = builder.pages;
+        // Titolo, ISBN e autore sono immutabili: le chiavi di ricerca si calcolano una volta
+        this.searchKeys = SearchKeys.of(title, isbn, author);
         // Per default, ogni nuovo libro è disponibile
         this.available = true;
     }
@@ -98,6 +106,18 @@ public class Book implements LibraryItem {
         return pages;
     }
 
+    /**
+     * Restituisce le chiavi di ricerca normalizzate.
+     *
+     * <p>Le chiavi sono calcolate alla costruzione e condivise da tutte
+     * le ricerche successive.</p>
+     *
+     * @return le chiavi di ricerca dell'elemento
+     */
+    public SearchKeys getSearchKeys() {
+        return searchKeys;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -121,7 +141,20 @@ public class Book implements LibraryItem {
      */
     @Override
     public void setAvailable(boolean available) {
+        boolean changed = this.available != available;
         this.available = available;
+        // Notifica dell'observer solo per i cambi effettivi
+        if (changed && availabilityListener != null) {
+            availabilityListener.availabilityChanged(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAvailabilityListener(AvailabilityListener listener) {
+        this.availabilityListener = listener;
     }
 
     /**
@@ -69,11 +69,30 @@ public interface LibraryItem {
      * <p>Questo metodo permette di modificare lo stato di disponibilità
      * dell'elemento, tipicamente quando viene prestato o restituito.</p>
      *
+     * <p>Se l'elemento appartiene a una biblioteca con log delle modifiche
+     * attivo, il cambio viene registrato prima di essere reso visibile alle
+     * ricerche; se la registrazione fallisce lo stato precedente viene
+     * ripristinato.</p>
+     *
      * @param available {@code true} per rendere l'elemento disponibile,
      *                  {@code false} per renderlo non disponibile
+     * @throws java.io.UncheckedIOException se l'observer non riesce a rendere
+     *         persistente il cambio; in tal caso lo stato resta invariato
      */
     void setAvailable(boolean available);
 
+    /**
+     * Registra l'observer da notificare ai cambi di disponibilità.
+     *
+     * <p>L'implementazione predefinita non registra nulla: gli elementi che
+     * supportano le notifiche devono invocare l'observer da
+     * {@link #setAvailable(boolean)} quando lo stato cambia effettivamente.</p>
+     *
+     * @param listener l'observer da notificare, oppure {@code null} per rimuoverlo
+     */
+    default void setAvailabilityListener(AvailabilityListener listener) {
+    }
+
     /**
      * Visualizza le informazioni complete dell'elemento.
      *
@@ -40,6 +40,12 @@ public class Magazine implements LibraryItem {
     /** Indica se la rivista è attualmente disponibile per il prestito */
     private boolean available;
 
+    /** Chiavi di ricerca normalizzate, calcolate una sola volta */
+    private final SearchKeys searchKeys;
+
+    /** Observer dei cambi di disponibilità (nullo se nessuno è registrato) */
+    private AvailabilityListener availabilityListener;
+
     /**
      * Costruisce una nuova istanza di Magazine.
      *
@@ -55,6 +61,8 @@ public class Magazine implements LibraryItem {
         this.issn = issn;
         this.title = title;
         this.issueNumber = issueNumber;
+        // Titolo e ISSN sono immutabili: le chiavi di ricerca si calcolano una volta
+        this.searchKeys = SearchKeys.of(title, issn);
         // Per default, ogni nuova rivista è disponibile
         this.available = true;
     }
@@ -89,6 +97,18 @@ public class Magazine implements LibraryItem {
         return issueNumber;
     }
 
+    /**
+     * Restituisce le chiavi di ricerca normalizzate.
+     *
+     * <p>Le chiavi sono calcolate alla costruzione e condivise da tutte
+     * le ricerche successive.</p>
+     *
+     * @return le chiavi di ricerca dell'elemento
+     */
+    public SearchKeys getSearchKeys() {
+        return searchKeys;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -112,7 +132,20 @@ public class Magazine implements LibraryItem {
      */
     @Override
     public void setAvailable(boolean available) {
+        boolean changed = this.available != available;
         this.available = available;
+        // Notifica dell'observer solo per i cambi effettivi
+        if (changed && availabilityListener != null) {
+            availabilityListener.availabilityChanged(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAvailabilityListener(AvailabilityListener listener) {
+        this.availabilityListener = listener;
     }
 
     /**
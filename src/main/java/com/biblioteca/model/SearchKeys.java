@@ -0,0 +1,136 @@
+package com.biblioteca.model;
+
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Chiavi di ricerca normalizzate di un elemento bibliotecario.
+ *
+ * <p>Questa classe immutabile raccoglie le forme normalizzate dei campi
+ * utilizzati dalle strategie di ricerca. {@link Book} e {@link Magazine}
+ * le calcolano una sola volta alla costruzione, dato che titolo e ID sono
+ * immutabili: le strategie possono così confrontare le query con i campi
+ * senza allocare nuove stringhe per ogni elemento.</p>
+ *
+ * <p><strong>Chiavi disponibili:</strong></p>
+ * <ul>
+ *   <li><strong>Titolo normalizzato:</strong> Minuscolo e senza segni diacritici</li>
+ *   <li><strong>Cifre dell'ID:</strong> Forma canonica di ISBN/ISSN composta dalle sole cifre</li>
+ *   <li><strong>ID case-insensitive:</strong> Chiave per le corrispondenze esatte</li>
+ *   <li><strong>Autore normalizzato:</strong> Solo per i libri, minuscolo e senza segni diacritici</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SearchKeys {
+
+    /** Titolo normalizzato (nullo se il titolo è nullo) */
+    private final String normalizedTitle;
+
+    /** Sole cifre dell'ID (nullo se l'ID è nullo) */
+    private final String idDigits;
+
+    /** Chiave case-insensitive dell'ID (nulla se l'ID è nullo) */
+    private final String foldedId;
+
+    /** Autore normalizzato (nullo per gli elementi senza autore) */
+    private final String normalizedAuthor;
+
+    /**
+     * Costruttore privato: le istanze si ottengono tramite {@link #of(String, String)}.
+     *
+     * @param normalizedTitle il titolo normalizzato
+     * @param idDigits le cifre dell'ID
+     * @param foldedId la chiave case-insensitive dell'ID
+     * @param normalizedAuthor l'autore normalizzato
+     */
+    private SearchKeys(String normalizedTitle, String idDigits, String foldedId, String normalizedAuthor) {
+        this.normalizedTitle = normalizedTitle;
+        this.idDigits = idDigits;
+        this.foldedId = foldedId;
+        this.normalizedAuthor = normalizedAuthor;
+    }
+
+    /**
+     * Calcola le chiavi di ricerca a partire da titolo e ID, per elementi senza autore.
+     *
+     * @param title il titolo dell'elemento (può essere nullo)
+     * @param id l'ID dell'elemento (può essere nullo)
+     * @return le chiavi normalizzate
+     */
+    public static SearchKeys of(String title, String id) {
+        return of(title, id, null);
+    }
+
+    /**
+     * Calcola le chiavi di ricerca a partire da titolo, ID e autore.
+     *
+     * @param title il titolo dell'elemento (può essere nullo)
+     * @param id l'ID dell'elemento (può essere nullo)
+     * @param author l'autore dell'elemento (può essere nullo)
+     * @return le chiavi normalizzate
+     */
+    public static SearchKeys of(String title, String id, String author) {
+        return new SearchKeys(
+                TextNormalizer.normalize(title),
+                TextNormalizer.digitsOnly(id),
+                TextNormalizer.foldCase(id),
+                TextNormalizer.normalize(author));
+    }
+
+    /**
+     * Restituisce le chiavi di ricerca di un elemento qualsiasi.
+     *
+     * <p>Per libri e riviste vengono restituite le chiavi già calcolate;
+     * per altre implementazioni di {@link LibraryItem} le chiavi vengono
+     * calcolate al momento.</p>
+     *
+     * @param item l'elemento (non deve essere nullo)
+     * @return le chiavi normalizzate dell'elemento
+     */
+    public static SearchKeys forItem(LibraryItem item) {
+        // Utilizzo pattern matching per riusare le chiavi precalcolate
+        return switch (item) {
+            case Book book -> book.getSearchKeys();
+            case Magazine magazine -> magazine.getSearchKeys();
+            default -> of(item.getTitle(), item.getId());
+        };
+    }
+
+    /**
+     * Restituisce il titolo normalizzato.
+     *
+     * @return il titolo in minuscolo e senza diacritici (nullo se assente)
+     */
+    public String getNormalizedTitle() {
+        return normalizedTitle;
+    }
+
+    /**
+     * Restituisce le sole cifre dell'ID.
+     *
+     * @return le cifre dell'ID (nullo se assente)
+     */
+    public String getIdDigits() {
+        return idDigits;
+    }
+
+    /**
+     * Restituisce la chiave case-insensitive dell'ID.
+     *
+     * @return la chiave dell'ID (nulla se assente)
+     */
+    public String getFoldedId() {
+        return foldedId;
+    }
+
+    /**
+     * Restituisce l'autore normalizzato.
+     *
+     * @return l'autore in minuscolo e senza diacritici (nullo se assente)
+     */
+    public String getNormalizedAuthor() {
+        return normalizedAuthor;
+    }
+}
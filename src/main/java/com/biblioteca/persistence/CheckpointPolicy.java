@@ -0,0 +1,51 @@
+package com.biblioteca.persistence;
+
+import java.time.Duration;
+
+/**
+ * Soglie che determinano quando scrivere un nuovo snapshot e svuotare il log.
+ *
+ * <p>Il log delle modifiche cresce ad ogni operazione e il caricamento deve
+ * ripeterlo interamente: un checkpoint periodico mantiene limitati sia lo
+ * spazio occupato sia il tempo di ripristino. Un checkpoint viene eseguito
+ * quando il log raggiunge la dimensione massima, oppure quando contiene
+ * modifiche e dall'ultimo checkpoint è trascorso l'intervallo massimo.</p>
+ *
+ * @param maxLogBytes la dimensione del log oltre la quale eseguire un checkpoint
+ * @param maxInterval il tempo massimo fra due checkpoint, se il log non è vuoto
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public record CheckpointPolicy(long maxLogBytes, Duration maxInterval) {
+
+    /** Soglie predefinite: 8 MiB di log o cinque minuti */
+    public static final CheckpointPolicy DEFAULT = new CheckpointPolicy(8L << 20, Duration.ofMinutes(5));
+
+    /**
+     * Costruttore compatto con validazione delle soglie.
+     *
+     * @throws IllegalArgumentException se una soglia è nulla o non positiva
+     */
+    public CheckpointPolicy {
+        if (maxLogBytes <= 0) {
+            throw new IllegalArgumentException("Max log size must be positive");
+        }
+        if (maxInterval == null || maxInterval.isNegative() || maxInterval.isZero()) {
+            throw new IllegalArgumentException("Max interval must be positive");
+        }
+    }
+
+    /**
+     * Verifica se è necessario un checkpoint.
+     *
+     * @param logBytes la dimensione attuale del log
+     * @param sinceLastCheckpoint il tempo trascorso dall'ultimo checkpoint
+     * @return {@code true} se una delle soglie è stata raggiunta
+     */
+    public boolean isDue(long logBytes, Duration sinceLastCheckpoint) {
+        return logBytes >= maxLogBytes
+                || (logBytes > 0 && sinceLastCheckpoint.compareTo(maxInterval) >= 0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.biblioteca.persistence;
+
+/**
+ * Modifica della biblioteca registrata nel log delle scritture.
+ *
+ * <p>Ogni record descrive una singola operazione con i dati necessari per
+ * ripeterla al caricamento: l'aggiunta di un libro o di una rivista con i
+ * parametri originali, oppure il cambio di disponibilità di un elemento
+ * identificato dal proprio ID.</p>
+ *
+ * <p><strong>Record disponibili:</strong></p>
+ * <ul>
+ *   <li>{@link AddBook} - Aggiunta di un libro</li>
+ *   <li>{@link AddMagazine} - Aggiunta di una rivista</li>
+ *   <li>{@link Availability} - Cambio di disponibilità</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public sealed interface LogRecord {
+
+    /**
+     * Aggiunta di un libro.
+     *
+     * @param isbn l'ISBN del libro
+     * @param title il titolo del libro
+     * @param author l'autore del libro
+     * @param pages il numero di pagine
+     */
+    record AddBook(String isbn, String title, String author, int pages) implements LogRecord {
+    }
+
+    /**
+     * Aggiunta di una rivista.
+     *
+     * @param issn l'ISSN della rivista
+     * @param title il titolo della rivista
+     * @param issueNumber il numero di edizione
+     */
+    record AddMagazine(String issn, String title, int issueNumber) implements LogRecord {
+    }
+
+    /**
+     * Cambio di disponibilità di un elemento.
+     *
+     * @param id l'ID dell'elemento
+     * @param available il nuovo stato di disponibilità
+     */
+    record Availability(String id, boolean available) implements LogRecord {
+    }
+}
@@ -0,0 +1,246 @@
+package com.biblioteca.persistence;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Lettura parallela di un file di testo mappato in memoria.
+ *
+ * <p>Il file viene diviso in blocchi contigui, con i confini spostati
+ * all'inizio della riga successiva così che nessuna riga venga spezzata.
+ * Ogni blocco viene mappato in memoria e le sue righe vengono interpretate
+ * su un thread del {@link ForkJoinPool} comune; i risultati sono poi
+ * concatenati nell'ordine del file.</p>
+ *
+ * <p><strong>Caratteristiche:</strong></p>
+ * <ul>
+ *   <li>Nessuna copia intermedia del file: i byte sono letti dalla mappatura</li>
+ *   <li>Righe terminate da {@code \n} o {@code \r\n}, decodificate in UTF-8</li>
+ *   <li>Un blocco per core, senza blocchi più piccoli di 1 MB</li>
+ *   <li>File più grandi di 2 GB divisi in blocchi mappabili singolarmente</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MappedTextFile {
+
+    /** Dimensione minima di un blocco: sotto questa soglia la divisione non conviene */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    /** Dimensione massima di un blocco, entro il limite di una singola mappatura */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    /** Dimensione del buffer usato per cercare i confini di riga */
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Costruttore privato: classe di sole funzioni statiche.
+     */
+    private MappedTextFile() {
+    }
+
+    /**
+     * Interpreta in parallelo tutte le righe del file.
+     *
+     * @param <T> il tipo dei risultati
+     * @param path il percorso del file
+     * @param parser la funzione che interpreta una riga, restituendo {@code null}
+     *        per le righe da ignorare; deve poter essere invocata da più thread
+     * @return i risultati non nulli, nell'ordine delle righe nel file
+     * @throws IOException se si verifica un errore di lettura
+     */
+    public static <T> List<T> parseLines(Path path, Function<String, T> parser) throws IOException {
+        return parseLines(path, parser, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Interpreta in parallelo tutte le righe del file, con un numero massimo di blocchi.
+     *
+     * @param <T> il tipo dei risultati
+     * @param path il percorso del file
+     * @param parser la funzione che interpreta una riga
+     * @param maxChunks il numero di blocchi desiderato, ridotto per i file piccoli
+     * @return i risultati non nulli, nell'ordine delle righe nel file
+     * @throws IOException se si verifica un errore di lettura
+     */
+    static <T> List<T> parseLines(Path path, Function<String, T> parser, int maxChunks) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return new ArrayList<>();
+            }
+            long[] bounds = chunkBounds(channel, size, maxChunks);
+
+            List<Callable<List<T>>> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                if (start < end) {
+                    tasks.add(() -> parseChunk(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), parser));
+                }
+            }
+
+            // Unione dei risultati nell'ordine dei blocchi
+            List<T> results = new ArrayList<>();
+            for (Future<List<T>> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                results.addAll(join(future));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Calcola i confini dei blocchi, allineati all'inizio di una riga.
+     *
+     * @param channel il canale del file
+     * @param size la dimensione del file
+     * @param maxChunks il numero di blocchi desiderato
+     * @return le posizioni di inizio dei blocchi, seguite dalla dimensione del file
+     * @throws IOException se si verifica un errore di lettura
+     */
+    private static long[] chunkBounds(FileChannel channel, long size, int maxChunks) throws IOException {
+        int chunks = (int) Math.max(1, Math.min(maxChunks, size / MIN_CHUNK_SIZE));
+        chunks = (int) Math.max(chunks, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+
+        long[] bounds = new long[chunks + 1];
+        bounds[chunks] = size;
+        for (int i = 1; i < chunks; i++) {
+            long target = Math.max(size / chunks * i, bounds[i - 1]);
+            bounds[i] = nextLineStart(channel, target, size);
+        }
+        // Un blocco allungato fino a fine riga deve restare mappabile
+        for (int i = 0; i < chunks; i++) {
+            if (bounds[i + 1] - bounds[i] > Integer.MAX_VALUE) {
+                throw new IOException("Line too long to map near offset " + bounds[i]);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Trova l'inizio della prima riga che comincia da una posizione in poi.
+     *
+     * @param channel il canale del file
+     * @param position la posizione di partenza
+     * @param size la dimensione del file
+     * @return l'inizio della riga, oppure la dimensione del file se non ce ne sono altre
+     * @throws IOException se si verifica un errore di lettura
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        // Il byte precedente indica se la posizione è già un inizio di riga
+        long offset = position - 1;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Interpreta le righe di un blocco mappato.
+     *
+     * @param <T> il tipo dei risultati
+     * @param chunk il blocco, che inizia con una riga completa
+     * @param parser la funzione che interpreta una riga
+     * @return i risultati non nulli, nell'ordine delle righe
+     */
+    private static <T> List<T> parseChunk(MappedByteBuffer chunk, Function<String, T> parser) {
+        List<T> results = new ArrayList<>();
+        byte[] line = new byte[256];
+        int length = 0;
+        while (chunk.hasRemaining()) {
+            byte value = chunk.get();
+            if (value == '\n') {
+                addParsed(results, parser, line, length);
+                length = 0;
+            } else {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = value;
+            }
+        }
+        // Ultima riga senza terminatore
+        if (length > 0) {
+            addParsed(results, parser, line, length);
+        }
+        return results;
+    }
+
+    /**
+     * Decodifica una riga e ne aggiunge l'interpretazione ai risultati.
+     *
+     * @param <T> il tipo dei risultati
+     * @param results i risultati del blocco
+     * @param parser la funzione che interpreta una riga
+     * @param line i byte della riga, senza {@code \n}
+     * @param length il numero di byte validi
+     */
+    private static <T> void addParsed(List<T> results, Function<String, T> parser, byte[] line, int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        T parsed = parser.apply(new String(line, 0, length, StandardCharsets.UTF_8));
+        if (parsed != null) {
+            results.add(parsed);
+        }
+    }
+
+    /**
+     * Attende il risultato di un blocco, propagando l'errore originale.
+     *
+     * @param <T> il tipo dei risultati
+     * @param future il risultato del blocco
+     * @return i risultati del blocco
+     * @throws IOException se la lettura del blocco è fallita o l'attesa è stata interrotta
+     */
+    private static <T> List<T> join(Future<List<T>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading file");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Failed to read file", cause);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.biblioteca.persistence;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.biblioteca.model.Book;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.Magazine;
+
+/**
+ * Formato binario degli snapshot completi della biblioteca.
+ *
+ * <p>Lo snapshot viene scritto e letto a blocchi attraverso un
+ * {@link FileChannel} e un {@link ByteBuffer}: nessuna formattazione o
+ * espressione regolare per elemento, solo interi e stringhe UTF-8 precedute
+ * dalla propria lunghezza.</p>
+ *
+ * <p><strong>Formato del file:</strong></p>
+ * <ul>
+ *   <li><strong>Intestazione:</strong> identificativo del formato (4 byte),
+ *       versione (4 byte) e numero di record (4 byte)</li>
+ *   <li><strong>Record:</strong> lunghezza del contenuto (4 byte) seguita dal
+ *       tipo (1 byte) e dai campi dell'elemento</li>
+ *   <li><strong>Libro:</strong> ISBN, titolo, autore, pagine, disponibilità</li>
+ *   <li><strong>Rivista:</strong> ISSN, titolo, numero di edizione, disponibilità</li>
+ * </ul>
+ *
+ * <p><strong>Compatibilità:</strong> La lunghezza di ogni record permette di
+ * saltare i tipi sconosciuti; uno snapshot con una versione successiva a
+ * quella supportata viene rifiutato.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SnapshotFile {
+
+    /** Logger per il tracciamento delle operazioni e debugging */
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotFile.class);
+
+    /** Identificativo del formato all'inizio del file ("BIBL") */
+    private static final int MAGIC = 0x4249424C;
+
+    /** Versione corrente del formato */
+    private static final int VERSION = 1;
+
+    /** Dimensione dell'intestazione: identificativo, versione e numero di record */
+    private static final int HEADER_SIZE = 12;
+
+    /** Dimensione del buffer di lettura e scrittura */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Dimensione massima del contenuto di un record, oltre la quale è considerato corrotto */
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+
+    /** Tipo del record di un libro */
+    private static final byte BOOK = 1;
+
+    /** Tipo del record di una rivista */
+    private static final byte MAGAZINE = 2;
+
+    /**
+     * Costruttore privato: classe di sole funzioni statiche.
+     */
+    private SnapshotFile() {
+    }
+
+    /**
+     * Scrive lo snapshot degli elementi e lo rende persistente su disco.
+     *
+     * <p>Il file viene creato o sovrascritto. Gli elementi di tipo diverso da
+     * libro e rivista non sono rappresentabili e vengono ignorati.</p>
+     *
+     * @param path il percorso del file di destinazione
+     * @param items gli elementi da salvare
+     * @param availability la disponibilità di ciascun elemento, nello stesso ordine
+     * @return il numero di record scritti
+     * @throws IOException se si verifica un errore di scrittura o un elemento è troppo grande
+     */
+    public static int write(Path path, List<LibraryItem> items, boolean[] availability) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            // Il numero di record viene completato al termine della scrittura
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(0);
+
+            int count = 0;
+            for (int i = 0; i < availability.length; i++) {
+                LibraryItem item = items.get(i);
+                if (item instanceof Book book) {
+                    buffer = putRecord(channel, buffer, BOOK, availability[i],
+                            book.getId(), book.getTitle(), book.getAuthor(), book.getPages());
+                } else if (item instanceof Magazine magazine) {
+                    buffer = putRecord(channel, buffer, MAGAZINE, availability[i],
+                            magazine.getId(), magazine.getTitle(), null, magazine.getIssueNumber());
+                } else {
+                    logger.warn("Skipping unsupported item type in snapshot: {}", item.getType());
+                    continue;
+                }
+                count++;
+            }
+            drain(channel, buffer);
+            channel.write(ByteBuffer.allocate(4).putInt(0, count), 8);
+            channel.force(true);
+            return count;
+        }
+    }
+
+    /**
+     * Legge i record di uno snapshot, nell'ordine in cui sono stati scritti.
+     *
+     * @param path il percorso dello snapshot
+     * @param consumer la callback che riceve ogni record
+     * @return il numero di record letti
+     * @throws IOException se il file non è uno snapshot valido, ha una versione
+     *         non supportata, è troncato o si verifica un errore di lettura
+     */
+    public static int read(Path path, Consumer<SnapshotRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = require(channel, ByteBuffer.allocate(BUFFER_SIZE).flip(), HEADER_SIZE);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a library snapshot: " + path);
+            }
+            int version = buffer.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            int records = buffer.getInt();
+
+            int count = 0;
+            for (int i = 0; i < records; i++) {
+                buffer = require(channel, buffer, 4);
+                int length = buffer.getInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE) {
+                    throw new IOException("Corrupted snapshot record " + i + ": " + path);
+                }
+                buffer = require(channel, buffer, length);
+                ByteBuffer content = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+
+                SnapshotRecord record = decode(content);
+                if (record != null) {
+                    consumer.accept(record);
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Aggiunge un record al buffer, svuotandolo sul canale se necessario.
+     *
+     * @param channel il canale di destinazione
+     * @param buffer il buffer corrente, in modalità di scrittura
+     * @param type il tipo del record
+     * @param available lo stato di disponibilità
+     * @param id l'identificativo dell'elemento
+     * @param title il titolo dell'elemento
+     * @param author l'autore (solo per i libri, altrimenti {@code null})
+     * @param number le pagine del libro o il numero di edizione della rivista
+     * @return il buffer in cui è stato aggiunto il record
+     * @throws IOException se si verifica un errore di scrittura o il record è troppo grande
+     */
+    private static ByteBuffer putRecord(FileChannel channel, ByteBuffer buffer, byte type, boolean available,
+            String id, String title, String author, int number) throws IOException {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        byte[] authorBytes = author != null ? author.getBytes(StandardCharsets.UTF_8) : null;
+
+        int length = 1 + 4 + idBytes.length + 4 + titleBytes.length + 4 + 1
+                + (authorBytes != null ? 4 + authorBytes.length : 0);
+        if (length > MAX_RECORD_SIZE) {
+            throw new IOException("Item too large for snapshot: " + id);
+        }
+        if (buffer.remaining() < 4 + length) {
+            drain(channel, buffer);
+            if (buffer.capacity() < 4 + length) {
+                buffer = ByteBuffer.allocate(4 + length);
+            }
+        }
+
+        buffer.putInt(length).put(type);
+        putString(buffer, idBytes);
+        putString(buffer, titleBytes);
+        if (authorBytes != null) {
+            putString(buffer, authorBytes);
+        }
+        buffer.putInt(number).put(available ? (byte) 1 : (byte) 0);
+        return buffer;
+    }
+
+    /**
+     * Aggiunge una stringa preceduta dalla sua lunghezza in byte.
+     *
+     * @param buffer il buffer di destinazione
+     * @param bytes la stringa codificata in UTF-8
+     */
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    /**
+     * Scrive sul canale il contenuto del buffer e lo prepara per nuovi record.
+     *
+     * @param channel il canale di destinazione
+     * @param buffer il buffer in modalità di scrittura
+     * @throws IOException se si verifica un errore di scrittura
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Garantisce che il buffer contenga almeno il numero di byte richiesto.
+     *
+     * @param channel il canale di origine
+     * @param buffer il buffer corrente, in modalità di lettura
+     * @param bytes i byte che devono essere disponibili
+     * @return il buffer, eventualmente ingrandito, con almeno {@code bytes} byte da leggere
+     * @throws IOException se il file termina prima o si verifica un errore di lettura
+     */
+    private static ByteBuffer require(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        ByteBuffer target = bytes > buffer.capacity()
+                ? ByteBuffer.allocate(bytes).put(buffer)
+                : buffer.compact();
+        while (target.position() < bytes) {
+            if (channel.read(target) < 0) {
+                throw new EOFException("Snapshot is truncated");
+            }
+        }
+        return target.flip();
+    }
+
+    /**
+     * Decodifica il contenuto di un record.
+     *
+     * @param content il contenuto del record, limitato alla sua lunghezza
+     * @return il record decodificato, oppure {@code null} se il tipo è sconosciuto
+     * @throws IOException se il contenuto è incompatibile con il tipo del record
+     */
+    private static SnapshotRecord decode(ByteBuffer content) throws IOException {
+        try {
+            return switch (content.get()) {
+                case BOOK -> new SnapshotRecord.BookEntry(getString(content), getString(content),
+                        getString(content), content.getInt(), content.get() != 0);
+                case MAGAZINE -> new SnapshotRecord.MagazineEntry(getString(content), getString(content),
+                        content.getInt(), content.get() != 0);
+                default -> null;
+            };
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted snapshot record", e);
+        }
+    }
+
+    /**
+     * Legge una stringa preceduta dalla sua lunghezza in byte.
+     *
+     * @param content il contenuto del record
+     * @return la stringa decodificata
+     */
+    private static String getString(ByteBuffer content) {
+        int length = content.getInt();
+        if (length < 0 || length > content.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(content.array(), content.arrayOffset() + content.position(), length,
+                StandardCharsets.UTF_8);
+        content.position(content.position() + length);
+        return value;
+    }
+}
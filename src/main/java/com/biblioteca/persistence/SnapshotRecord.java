@@ -0,0 +1,53 @@
+package com.biblioteca.persistence;
+
+/**
+ * Dati completi di un elemento della biblioteca, compresa la disponibilità.
+ *
+ * <p>Ogni record contiene i dati necessari per ricostruire l'elemento: è il
+ * formato degli elementi letti da uno snapshot binario e dei gruppi di
+ * elementi aggiunti in blocco al manager.</p>
+ *
+ * <p><strong>Record disponibili:</strong></p>
+ * <ul>
+ *   <li>{@link BookEntry} - Libro</li>
+ *   <li>{@link MagazineEntry} - Rivista</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public sealed interface SnapshotRecord {
+
+    /**
+     * Restituisce lo stato di disponibilità dell'elemento.
+     *
+     * @return {@code true} se l'elemento è disponibile
+     */
+    boolean available();
+
+    /**
+     * Libro salvato nello snapshot.
+     *
+     * @param isbn l'ISBN del libro
+     * @param title il titolo del libro
+     * @param author l'autore del libro
+     * @param pages il numero di pagine
+     * @param available lo stato di disponibilità
+     */
+    record BookEntry(String isbn, String title, String author, int pages, boolean available)
+            implements SnapshotRecord {
+    }
+
+    /**
+     * Rivista salvata nello snapshot.
+     *
+     * @param issn l'ISSN della rivista
+     * @param title il titolo della rivista
+     * @param issueNumber il numero di edizione
+     * @param available lo stato di disponibilità
+     */
+    record MagazineEntry(String issn, String title, int issueNumber, boolean available)
+            implements SnapshotRecord {
+    }
+}
@@ -0,0 +1,387 @@
+package com.biblioteca.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Log delle scritture (write-ahead log) in sola aggiunta.
+ *
+ * <p>Ogni modifica della biblioteca viene registrata come un record binario
+ * compatto in coda al file, prima di essere applicata in memoria: il costo
+ * di persistenza di una modifica è proporzionale alla modifica stessa e non
+ * alla dimensione del catalogo. Al caricamento i record vengono ripetuti,
+ * nell'ordine, sopra l'ultimo snapshot completo.</p>
+ *
+ * <p><strong>Formato di un record:</strong></p>
+ * <ul>
+ *   <li><strong>Lunghezza:</strong> 4 byte, dimensione del contenuto</li>
+ *   <li><strong>Checksum:</strong> 4 byte, CRC-32C del contenuto</li>
+ *   <li><strong>Contenuto:</strong> tipo del record (1 byte) seguito dai campi,
+ *       con le stringhe in UTF-8 modificato precedute dalla lunghezza</li>
+ * </ul>
+ *
+ * <p><strong>Robustezza:</strong> Un'interruzione durante la scrittura può
+ * lasciare in coda un record incompleto. La rilettura si ferma al primo
+ * record con lunghezza non valida, contenuto troncato o checksum errato e
+ * tronca il file in quel punto, così che le aggiunte successive seguano
+ * l'ultimo record integro.</p>
+ *
+ * <p><strong>Durabilità:</strong> Ogni record viene consegnato al sistema
+ * operativo al momento dell'aggiunta e sopravvive quindi alla terminazione
+ * del processo; {@link #sync()} lo rende persistente anche in caso di
+ * interruzione dell'alimentazione.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public final class WriteAheadLog implements Closeable {
+
+    /** Logger per il tracciamento delle operazioni e debugging */
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    /** Dimensione dell'intestazione di un record: lunghezza e checksum */
+    private static final int HEADER_SIZE = 8;
+
+    /** Dimensione massima del contenuto di un record, oltre la quale è considerato corrotto */
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+
+    /** Dimensione del buffer con cui vengono scritti i gruppi di record */
+    private static final int BATCH_BUFFER_SIZE = 64 * 1024;
+
+    /** Tipo del record di aggiunta di un libro */
+    private static final byte ADD_BOOK = 1;
+
+    /** Tipo del record di aggiunta di una rivista */
+    private static final byte ADD_MAGAZINE = 2;
+
+    /** Tipo del record di cambio di disponibilità */
+    private static final byte AVAILABILITY = 3;
+
+    /** Percorso del file di log */
+    private final Path path;
+
+    /** Canale di scrittura, posizionato in coda al file */
+    private final FileChannel channel;
+
+    /**
+     * Costruttore del log su un canale già aperto.
+     *
+     * <p>Il log si apre con {@link #open(Path)}; l'accesso di package serve
+     * ai test per simulare errori di scrittura.</p>
+     *
+     * @param path il percorso del file di log
+     * @param channel il canale di scrittura già posizionato in coda
+     */
+    WriteAheadLog(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /**
+     * Apre il log per l'aggiunta di nuovi record, creandolo se non esiste.
+     *
+     * <p>Il file dovrebbe essere stato prima riletto con
+     * {@link #replay(Path, Consumer)}, che ne rimuove l'eventuale coda incompleta.</p>
+     *
+     * @param path il percorso del file di log
+     * @return il log aperto
+     * @throws IOException se il file non può essere creato o aperto
+     */
+    public static WriteAheadLog open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return new WriteAheadLog(path, channel);
+    }
+
+    /**
+     * Rilegge i record integri del log, nell'ordine in cui sono stati aggiunti.
+     *
+     * <p>La lettura si ferma al primo record incompleto o corrotto e il file
+     * viene troncato dopo l'ultimo record integro.</p>
+     *
+     * @param path il percorso del file di log
+     * @param consumer la callback che riceve ogni record
+     * @return il numero di record riletti (0 se il file non esiste)
+     * @throws IOException se si verifica un errore di lettura
+     */
+    public static int replay(Path path, Consumer<LogRecord> consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int count = 0;
+        long validLength = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long fileLength = channel.size();
+            DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (validLength < fileLength) {
+                byte[] payload = readPayload(input, fileLength - validLength);
+                LogRecord record = payload != null ? decode(payload) : null;
+                if (record == null) {
+                    // Coda incompleta o corrotta: scartata
+                    logger.warn("Discarding {} bytes after last valid log record", fileLength - validLength);
+                    channel.truncate(validLength);
+                    break;
+                }
+                consumer.accept(record);
+                validLength += HEADER_SIZE + payload.length;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Aggiunge un record in coda al log.
+     *
+     * <p>Se la scrittura fallisce, il log viene riportato alla lunghezza
+     * precedente: un record scritto solo in parte non resta davanti a quelli
+     * aggiunti in seguito.</p>
+     *
+     * @param record il record da aggiungere
+     * @throws IOException se si verifica un errore di scrittura
+     * @throws IllegalArgumentException se il record è nullo
+     */
+    public synchronized void append(LogRecord record) throws IOException {
+        if (record == null) {
+            throw new IllegalArgumentException("Log record cannot be null");
+        }
+        byte[] payload = encode(record);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        long start = channel.position();
+        try {
+            writeFully(buffer);
+        } catch (IOException e) {
+            throw rollback(start, e);
+        }
+    }
+
+    /**
+     * Aggiunge un gruppo di record in coda al log, a blocchi.
+     *
+     * <p>I record vengono codificati in un buffer e scritti con poche
+     * operazioni di I/O invece di una per record. Se la scrittura fallisce,
+     * il log viene riportato alla lunghezza precedente: il gruppo non compare
+     * mai solo in parte.</p>
+     *
+     * @param records i record da aggiungere, nell'ordine
+     * @throws IOException se si verifica un errore di scrittura
+     * @throws IllegalArgumentException se il gruppo o uno dei record è nullo
+     */
+    public synchronized void appendAll(List<? extends LogRecord> records) throws IOException {
+        if (records == null) {
+            throw new IllegalArgumentException("Log records cannot be null");
+        }
+        for (LogRecord record : records) {
+            if (record == null) {
+                throw new IllegalArgumentException("Log record cannot be null");
+            }
+        }
+        long start = channel.position();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(BATCH_BUFFER_SIZE);
+            for (LogRecord record : records) {
+                byte[] payload = encode(record);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+
+                if (buffer.remaining() < HEADER_SIZE + payload.length) {
+                    writeFully(buffer.flip());
+                    buffer.clear();
+                    if (buffer.capacity() < HEADER_SIZE + payload.length) {
+                        buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+                    }
+                }
+                buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+            }
+            writeFully(buffer.flip());
+        } catch (IOException e) {
+            throw rollback(start, e);
+        }
+    }
+
+    /**
+     * Riporta il log alla lunghezza precedente a una scrittura fallita.
+     *
+     * @param start la lunghezza del log prima della scrittura
+     * @param error l'errore della scrittura
+     * @return l'errore della scrittura, con quello del ripristino eventualmente allegato
+     */
+    private IOException rollback(long start, IOException error) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException suppressed) {
+            error.addSuppressed(suppressed);
+        }
+        return error;
+    }
+
+    /**
+     * Rende persistenti su disco tutti i record aggiunti.
+     *
+     * @throws IOException se si verifica un errore di sincronizzazione
+     */
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Svuota il log, dopo che uno snapshot completo ne ha reso superflui i record.
+     *
+     * @throws IOException se si verifica un errore di scrittura
+     */
+    public synchronized void reset() throws IOException {
+        channel.truncate(0);
+        channel.force(true);
+    }
+
+    /**
+     * Restituisce la dimensione attuale del log.
+     *
+     * @return la dimensione del file in byte
+     * @throws IOException se si verifica un errore di accesso al file
+     */
+    public synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Restituisce il percorso del file di log.
+     *
+     * @return il percorso del file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Chiude il log, rendendo prima persistenti i record aggiunti.
+     *
+     * @throws IOException se si verifica un errore di sincronizzazione o chiusura
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    /**
+     * Scrive sul canale tutto il contenuto del buffer.
+     *
+     * @param buffer il buffer da scrivere, in modalità di lettura
+     * @throws IOException se si verifica un errore di scrittura
+     */
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Legge il contenuto di un record dallo stream, verificandone l'integrità.
+     *
+     * @param input lo stream posizionato all'inizio di un record
+     * @param remaining i byte rimanenti nel file
+     * @return il contenuto con checksum verificato, oppure {@code null} se incompleto o corrotto
+     * @throws IOException se si verifica un errore di lettura
+     */
+    private static byte[] readPayload(DataInputStream input, long remaining) throws IOException {
+        if (remaining < HEADER_SIZE) {
+            return null;
+        }
+        int length = input.readInt();
+        int checksum = input.readInt();
+        if (length <= 0 || length > MAX_RECORD_SIZE || length > remaining - HEADER_SIZE) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        input.readFully(payload);
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue() == checksum ? payload : null;
+    }
+
+    /**
+     * Codifica il contenuto di un record.
+     *
+     * @param record il record da codificare
+     * @return il tipo del record seguito dai suoi campi
+     * @throws IOException se la codifica fallisce (es. stringa troppo lunga)
+     */
+    private static byte[] encode(LogRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream output = new DataOutputStream(bytes);
+        switch (record) {
+            case LogRecord.AddBook book -> {
+                output.writeByte(ADD_BOOK);
+                output.writeUTF(book.isbn());
+                output.writeUTF(book.title());
+                output.writeUTF(book.author());
+                output.writeInt(book.pages());
+            }
+            case LogRecord.AddMagazine magazine -> {
+                output.writeByte(ADD_MAGAZINE);
+                output.writeUTF(magazine.issn());
+                output.writeUTF(magazine.title());
+                output.writeInt(magazine.issueNumber());
+            }
+            case LogRecord.Availability availability -> {
+                output.writeByte(AVAILABILITY);
+                output.writeUTF(availability.id());
+                output.writeBoolean(availability.available());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica il contenuto di un record.
+     *
+     * @param payload il contenuto con checksum verificato
+     * @return il record decodificato, oppure {@code null} se il tipo è
+     *         sconosciuto o il contenuto è più corto del previsto
+     */
+    private static LogRecord decode(byte[] payload) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        try {
+            return switch (input.readByte()) {
+                case ADD_BOOK -> new LogRecord.AddBook(input.readUTF(), input.readUTF(), input.readUTF(), input.readInt());
+                case ADD_MAGAZINE -> new LogRecord.AddMagazine(input.readUTF(), input.readUTF(), input.readInt());
+                case AVAILABILITY -> new LogRecord.Availability(input.readUTF(), input.readBoolean());
+                default -> null;
+            };
+        } catch (IOException e) {
+            // Contenuto incompatibile con il tipo del record
+            return null;
+        }
+    }
+}
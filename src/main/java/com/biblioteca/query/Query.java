@@ -0,0 +1,308 @@
+package com.biblioteca.query;
+
+import java.util.List;
+
+import com.biblioteca.index.AuthorPrefixIndex;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Modello delle query composte sugli elementi della biblioteca.
+ *
+ * <p>Una query è un albero di predicati elementari combinati con gli
+ * operatori logici AND, OR e NOT. Le query si costruiscono con i metodi
+ * factory di questa interfaccia e vengono eseguite da {@link QueryPlanner},
+ * che sceglie l'ordine di valutazione in base agli indici disponibili.</p>
+ *
+ * <p><strong>Predicati disponibili:</strong></p>
+ * <ul>
+ *   <li><strong>{@link #title(String)}:</strong> Il titolo contiene il testo
+ *       (case-insensitive e accent-insensitive, come {@code TitleSearchStrategy})</li>
+ *   <li><strong>{@link #id(String)}:</strong> L'ID coincide ignorando le maiuscole
+ *       oppure, con almeno 3 cifre, le sue cifre contengono quelle della query</li>
+ *   <li><strong>{@link #author(String)}:</strong> Una parola dell'autore di un libro inizia
+ *       con il testo (come {@code AuthorSearchStrategy})</li>
+ *   <li><strong>{@link #type(String)}:</strong> Il tipo coincide ignorando le maiuscole ("Book", "Magazine")</li>
+ *   <li><strong>{@link #available(boolean)}:</strong> Lo stato di disponibilità coincide</li>
+ * </ul>
+ *
+ * <p>A differenza di {@code IdSearchStrategy}, il predicato sull'ID valuta
+ * ogni elemento singolarmente: le corrispondenze esatte non escludono quelle
+ * parziali, così che il risultato di un AND non dipenda dal resto della
+ * collezione.</p>
+ *
+ * <p><strong>Utilizzo tipico:</strong></p>
+ * <pre>{@code
+ * Query query = Query.and(Query.title("java"), Query.available(true), Query.type("Book"));
+ * List<LibraryItem> results = manager.search(query);
+ * }</pre>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public sealed interface Query {
+
+    /** Numero minimo di cifre per la corrispondenza parziale sull'ID */
+    int MIN_PARTIAL_DIGITS = 3;
+
+    /**
+     * Verifica se un elemento soddisfa la query.
+     *
+     * @param item l'elemento da verificare
+     * @return {@code true} se l'elemento soddisfa la query
+     */
+    boolean matches(LibraryItem item);
+
+    /**
+     * Crea un predicato sul titolo.
+     *
+     * @param text il testo che il titolo deve contenere
+     * @return il predicato
+     * @throws IllegalArgumentException se il testo è nullo
+     */
+    static Query title(String text) {
+        requireNonNull(text);
+        return new Title(TextNormalizer.normalize(text));
+    }
+
+    /**
+     * Crea un predicato sull'ID.
+     *
+     * @param id l'ID completo o parziale (ISBN/ISSN)
+     * @return il predicato
+     * @throws IllegalArgumentException se l'ID è nullo
+     */
+    static Query id(String id) {
+        requireNonNull(id);
+        String trimmedId = id.trim();
+        return new Id(TextNormalizer.foldCase(trimmedId), TextNormalizer.digitsOnly(trimmedId));
+    }
+
+    /**
+     * Crea un predicato sull'autore.
+     *
+     * @param text il prefisso del nome o di una parola del nome dell'autore
+     * @return il predicato
+     * @throws IllegalArgumentException se il testo è nullo
+     */
+    static Query author(String text) {
+        requireNonNull(text);
+        return new Author(TextNormalizer.normalize(text).trim());
+    }
+
+    /**
+     * Crea un predicato sul tipo di elemento.
+     *
+     * @param type il tipo ("Book" o "Magazine")
+     * @return il predicato
+     * @throws IllegalArgumentException se il tipo è nullo
+     */
+    static Query type(String type) {
+        requireNonNull(type);
+        return new Type(type.trim());
+    }
+
+    /**
+     * Crea un predicato sulla disponibilità.
+     *
+     * @param available lo stato di disponibilità richiesto
+     * @return il predicato
+     */
+    static Query available(boolean available) {
+        return new Available(available);
+    }
+
+    /**
+     * Crea la congiunzione di più query.
+     *
+     * @param operands le query che devono essere tutte soddisfatte
+     * @return la query composta
+     * @throws IllegalArgumentException se non ci sono operandi o uno di essi è nullo
+     */
+    static Query and(Query... operands) {
+        return new And(operandList(operands));
+    }
+
+    /**
+     * Crea la disgiunzione di più query.
+     *
+     * @param operands le query di cui almeno una deve essere soddisfatta
+     * @return la query composta
+     * @throws IllegalArgumentException se non ci sono operandi o uno di essi è nullo
+     */
+    static Query or(Query... operands) {
+        return new Or(operandList(operands));
+    }
+
+    /**
+     * Crea la negazione di una query.
+     *
+     * @param operand la query da negare
+     * @return la query composta
+     * @throws IllegalArgumentException se l'operando è nullo
+     */
+    static Query not(Query operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    /**
+     * Predicato sul titolo normalizzato.
+     *
+     * @param normalizedText il testo già normalizzato che il titolo deve contenere
+     */
+    record Title(String normalizedText) implements Query {
+        @Override
+        public boolean matches(LibraryItem item) {
+            // Come TitleSearchStrategy: un testo vuoto non trova nulla
+            if (normalizedText.trim().isEmpty()) {
+                return false;
+            }
+            String title = SearchKeys.forItem(item).getNormalizedTitle();
+            return title != null && title.contains(normalizedText);
+        }
+    }
+
+    /**
+     * Predicato sull'ID, esatto o parziale sulle cifre.
+     *
+     * @param foldedId la chiave case-insensitive dell'ID cercato
+     * @param digits le cifre dell'ID cercato
+     */
+    record Id(String foldedId, String digits) implements Query {
+        @Override
+        public boolean matches(LibraryItem item) {
+            if (foldedId.isEmpty()) {
+                return false;
+            }
+            SearchKeys keys = SearchKeys.forItem(item);
+            if (foldedId.equals(keys.getFoldedId())) {
+                return true;
+            }
+            return digits.length() >= MIN_PARTIAL_DIGITS
+                    && keys.getIdDigits() != null
+                    && keys.getIdDigits().contains(digits);
+        }
+    }
+
+    /**
+     * Predicato sull'autore normalizzato (solo i libri hanno un autore).
+     *
+     * @param normalizedPrefix il prefisso già normalizzato, senza spazi esterni
+     */
+    record Author(String normalizedPrefix) implements Query {
+        @Override
+        public boolean matches(LibraryItem item) {
+            return AuthorPrefixIndex.matches(SearchKeys.forItem(item).getNormalizedAuthor(), normalizedPrefix);
+        }
+    }
+
+    /**
+     * Predicato sul tipo di elemento.
+     *
+     * @param type il tipo richiesto, confrontato ignorando le maiuscole
+     */
+    record Type(String type) implements Query {
+        @Override
+        public boolean matches(LibraryItem item) {
+            return type.equalsIgnoreCase(item.getType());
+        }
+    }
+
+    /**
+     * Predicato sulla disponibilità.
+     *
+     * @param available lo stato di disponibilità richiesto
+     */
+    record Available(boolean available) implements Query {
+        @Override
+        public boolean matches(LibraryItem item) {
+            return item.isAvailable() == available;
+        }
+    }
+
+    /**
+     * Congiunzione: tutti gli operandi devono essere soddisfatti.
+     *
+     * @param operands gli operandi (lista non modificabile)
+     */
+    record And(List<Query> operands) implements Query {
+        public And {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public boolean matches(LibraryItem item) {
+            for (Query operand : operands) {
+                if (!operand.matches(item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Disgiunzione: almeno un operando deve essere soddisfatto.
+     *
+     * @param operands gli operandi (lista non modificabile)
+     */
+    record Or(List<Query> operands) implements Query {
+        public Or {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public boolean matches(LibraryItem item) {
+            for (Query operand : operands) {
+                if (operand.matches(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Negazione: l'operando non deve essere soddisfatto.
+     *
+     * @param operand l'operando da negare
+     */
+    record Not(Query operand) implements Query {
+        @Override
+        public boolean matches(LibraryItem item) {
+            return !operand.matches(item);
+        }
+    }
+
+    /**
+     * Verifica che un argomento non sia nullo.
+     *
+     * @param value l'argomento da verificare
+     * @throws IllegalArgumentException se l'argomento è nullo
+     */
+    private static void requireNonNull(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Query arguments cannot be null");
+        }
+    }
+
+    /**
+     * Copia gli operandi di un operatore logico in una lista non modificabile.
+     *
+     * @param operands gli operandi
+     * @return la lista degli operandi
+     * @throws IllegalArgumentException se non ci sono operandi o uno di essi è nullo
+     */
+    private static List<Query> operandList(Query... operands) {
+        if (operands == null || operands.length == 0) {
+            throw new IllegalArgumentException("At least one operand is required");
+        }
+        for (Query operand : operands) {
+            requireNonNull(operand);
+        }
+        return List.of(operands);
+    }
+}
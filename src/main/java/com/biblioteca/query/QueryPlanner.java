@@ -0,0 +1,329 @@
+package com.biblioteca.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.PostingList;
+import com.biblioteca.index.RoaringBitmap;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.TitleSearchStrategy;
+
+/**
+ * Pianificatore ed esecutore delle query composte basato sui costi.
+ *
+ * <p>Per ogni sotto-query il pianificatore stima, con soli accessi agli
+ * indici, un limite superiore al numero di elementi che la soddisfano. La
+ * stima guida l'ordine di valutazione: il predicato più selettivo produce
+ * l'insieme dei candidati, gli altri vengono applicati solo a questi.</p>
+ *
+ * <p><strong>Strategie di valutazione:</strong></p>
+ * <ul>
+ *   <li><strong>Predicati indicizzati:</strong> Titolo (indici dei token e dei
+ *       trigrammi), ID (mappa degli ID e trigrammi di cifre), autore (indice per
+ *       prefisso), tipo e disponibilità (bitmap, con cardinalità esatta)</li>
+ *   <li><strong>AND:</strong> Parte dall'operando più selettivo; i predicati
+ *       su bitmap filtrano i candidati con un test di appartenenza, gli altri
+ *       operandi con stima inferiore ai candidati rimasti vengono intersecati
+ *       tramite indice, i rimanenti verificati elemento per elemento</li>
+ *   <li><strong>OR:</strong> Unione degli operandi se tutti indicizzati,
+ *       altrimenti una scansione</li>
+ *   <li><strong>NOT:</strong> Complemento dell'operando se indicizzato,
+ *       altrimenti una scansione</li>
+ *   <li><strong>Scansione:</strong> Verifica di tutti gli elementi, solo quando
+ *       nessun indice può restringere la ricerca</li>
+ * </ul>
+ *
+ * <p>I risultati sono restituiti nell'ordine di inserimento.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class QueryPlanner {
+
+    /** Indice su cui vengono eseguite le query */
+    private final LibraryIndex index;
+
+    /** Strategia usata per risolvere i predicati sul titolo tramite indice */
+    private final TitleSearchStrategy titleStrategy = new TitleSearchStrategy();
+
+    /**
+     * Costruisce un pianificatore per l'indice dato.
+     *
+     * @param index l'indice della biblioteca
+     */
+    public QueryPlanner(LibraryIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Esegue una query e restituisce gli elementi che la soddisfano.
+     *
+     * @param query la query da eseguire
+     * @return gli elementi corrispondenti, nell'ordine di inserimento
+     */
+    public List<LibraryItem> execute(Query query) {
+        PostingList matches = evaluate(query);
+        List<LibraryItem> results = new ArrayList<>(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            results.add(index.get(matches.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Stima per eccesso il numero di elementi che soddisfano una query.
+     *
+     * <p>Una stima pari al numero di elementi indicizzati indica che la
+     * query non può essere ristretta dagli indici.</p>
+     *
+     * @param query la query da stimare
+     * @return il limite superiore del numero di corrispondenze
+     */
+    public int estimate(Query query) {
+        int all = index.size();
+        return switch (query) {
+            case Query.Title title -> estimateTitle(title, all);
+            case Query.Id id -> estimateId(id, all);
+            case Query.And and -> {
+                int estimate = all;
+                for (Query operand : and.operands()) {
+                    estimate = Math.min(estimate, estimate(operand));
+                }
+                yield estimate;
+            }
+            case Query.Or or -> {
+                long estimate = 0;
+                for (Query operand : or.operands()) {
+                    estimate += estimate(operand);
+                }
+                yield (int) Math.min(estimate, all);
+            }
+            case Query.Not not -> all;
+            case Query.Author author -> Math.min(index.getAuthorPrefixes().estimate(author.normalizedPrefix()), all);
+            case Query.Type type -> index.getTypeBitmap(type.type()).getCardinality();
+            case Query.Available available -> index.getAvailabilityBitmap(available.available()).getCardinality();
+        };
+    }
+
+    /**
+     * Calcola l'insieme esatto degli ordinali che soddisfano una query.
+     *
+     * @param query la query da valutare
+     * @return gli ordinali corrispondenti, in ordine crescente
+     */
+    PostingList evaluate(Query query) {
+        // Nessun indice utilizzabile: verifica di tutti gli elementi
+        if (!isIndexed(query)) {
+            return scan(query, null);
+        }
+        return switch (query) {
+            case Query.Title title -> evaluateTitle(title);
+            case Query.Id id -> evaluateId(id);
+            case Query.Author author -> index.getAuthorPrefixes().find(author.normalizedPrefix());
+            case Query.And and -> evaluateAnd(and);
+            case Query.Or or -> PostingList.union(or.operands().stream().map(this::evaluate).toList());
+            case Query.Not not -> complement(evaluate(not.operand()));
+            case Query.Type type -> index.getTypeBitmap(type.type()).toPostingList();
+            case Query.Available available -> index.getAvailabilityBitmap(available.available()).toPostingList();
+        };
+    }
+
+    /**
+     * Verifica se gli indici possono restringere la valutazione di una query.
+     *
+     * @param query la query da verificare
+     * @return {@code true} se la query può essere valutata senza una scansione completa
+     */
+    private boolean isIndexed(Query query) {
+        return switch (query) {
+            case Query.Not not -> isIndexed(not.operand());
+            default -> estimate(query) < index.size();
+        };
+    }
+
+    /**
+     * Valuta una congiunzione partendo dall'operando più selettivo.
+     *
+     * @param and la congiunzione da valutare
+     * @return gli ordinali corrispondenti
+     */
+    private PostingList evaluateAnd(Query.And and) {
+        // Operandi in ordine di selettività stimata
+        List<Query> operands = new ArrayList<>(and.operands());
+        operands.sort(Comparator.comparingInt(this::estimate));
+
+        // Separazione dei predicati risolti da bitmap
+        List<RoaringBitmap> bitmaps = new ArrayList<>();
+        List<Query> others = new ArrayList<>();
+        for (Query operand : operands) {
+            RoaringBitmap bitmap = bitmapOf(operand);
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            } else {
+                others.add(operand);
+            }
+        }
+
+        PostingList candidates;
+        int next = 0;
+        if (bitmapOf(operands.get(0)) != null) {
+            // Operando più selettivo su bitmap: AND fra tutte le bitmap
+            RoaringBitmap intersection = bitmaps.get(0);
+            for (int i = 1; i < bitmaps.size(); i++) {
+                intersection = RoaringBitmap.and(intersection, bitmaps.get(i));
+            }
+            candidates = intersection.toPostingList();
+        } else {
+            candidates = evaluate(others.get(0));
+            next = 1;
+            for (RoaringBitmap bitmap : bitmaps) {
+                candidates = bitmap.and(candidates);
+            }
+        }
+
+        // Intersezione tramite indice finché conviene rispetto alla verifica dei candidati
+        while (next < others.size() && !candidates.isEmpty()
+                && estimate(others.get(next)) < candidates.size()) {
+            candidates = PostingList.intersect(candidates, evaluate(others.get(next)));
+            next++;
+        }
+        if (next == others.size() || candidates.isEmpty()) {
+            return candidates;
+        }
+
+        // Verifica degli operandi rimanenti sui soli candidati
+        Query remaining = new Query.And(others.subList(next, others.size()));
+        return scan(remaining, candidates);
+    }
+
+    /**
+     * Restituisce la bitmap che risolve un predicato, se esiste.
+     *
+     * @param query il predicato
+     * @return la bitmap dell'indice, oppure {@code null} se il predicato non ne ha una
+     */
+    private RoaringBitmap bitmapOf(Query query) {
+        return switch (query) {
+            case Query.Type type -> index.getTypeBitmap(type.type());
+            case Query.Available available -> index.getAvailabilityBitmap(available.available());
+            default -> null;
+        };
+    }
+
+    /**
+     * Valuta un predicato sul titolo tramite gli indici del titolo.
+     *
+     * @param title il predicato
+     * @return gli ordinali corrispondenti
+     */
+    private PostingList evaluateTitle(Query.Title title) {
+        PostingList matches = new PostingList();
+        titleStrategy.forEachMatch(index, title.normalizedText(), ordinal -> {
+            matches.add(ordinal);
+            return true;
+        });
+        return matches;
+    }
+
+    /**
+     * Valuta un predicato sull'ID: corrispondenze esatte e parziali sulle cifre.
+     *
+     * @param id il predicato
+     * @return gli ordinali corrispondenti
+     */
+    private PostingList evaluateId(Query.Id id) {
+        if (id.foldedId().isEmpty()) {
+            return new PostingList();
+        }
+        PostingList exact = index.findByFoldedId(id.foldedId());
+        if (id.digits().length() < Query.MIN_PARTIAL_DIGITS) {
+            return exact;
+        }
+
+        // Candidati dai trigrammi di cifre, verificati sulle cifre precalcolate
+        PostingList candidates = index.getIdDigitTrigrams().candidates(id.digits());
+        PostingList partial = new PostingList();
+        for (int i = 0; i < candidates.size(); i++) {
+            String itemDigits = index.getIdDigits(candidates.get(i));
+            if (itemDigits != null && itemDigits.contains(id.digits())) {
+                partial.add(candidates.get(i));
+            }
+        }
+        return PostingList.union(List.of(exact, partial));
+    }
+
+    /**
+     * Stima le corrispondenze di un predicato sul titolo.
+     *
+     * @param title il predicato
+     * @param all il numero di elementi indicizzati
+     * @return il limite superiore delle corrispondenze
+     */
+    private int estimateTitle(Query.Title title, int all) {
+        if (title.normalizedText().trim().isEmpty()) {
+            return 0;
+        }
+        int estimate = index.getTitleTrigrams().estimateCandidates(title.normalizedText());
+        // Testi più corti di un trigramma: nessuna stima affidabile
+        return estimate >= 0 ? estimate : all;
+    }
+
+    /**
+     * Stima le corrispondenze di un predicato sull'ID.
+     *
+     * @param id il predicato
+     * @param all il numero di elementi indicizzati
+     * @return il limite superiore delle corrispondenze
+     */
+    private int estimateId(Query.Id id, int all) {
+        if (id.foldedId().isEmpty()) {
+            return 0;
+        }
+        int estimate = index.findByFoldedId(id.foldedId()).size();
+        if (id.digits().length() >= Query.MIN_PARTIAL_DIGITS) {
+            estimate += index.getIdDigitTrigrams().estimateCandidates(id.digits());
+        }
+        return Math.min(estimate, all);
+    }
+
+    /**
+     * Verifica una query elemento per elemento.
+     *
+     * @param query la query da verificare
+     * @param candidates gli ordinali da verificare, oppure {@code null} per tutti
+     * @return gli ordinali che soddisfano la query
+     */
+    private PostingList scan(Query query, PostingList candidates) {
+        PostingList matches = new PostingList();
+        int count = candidates != null ? candidates.size() : index.size();
+        for (int i = 0; i < count; i++) {
+            int ordinal = candidates != null ? candidates.get(i) : i;
+            if (query.matches(index.get(ordinal))) {
+                matches.add(ordinal);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Calcola il complemento di una posting list rispetto a tutti gli elementi.
+     *
+     * @param excluded gli ordinali da escludere
+     * @return gli ordinali non presenti in {@code excluded}
+     */
+    private PostingList complement(PostingList excluded) {
+        PostingList result = new PostingList();
+        int next = 0;
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            if (next < excluded.size() && excluded.get(next) == ordinal) {
+                next++;
+            } else {
+                result.add(ordinal);
+            }
+        }
+        return result;
+    }
+}
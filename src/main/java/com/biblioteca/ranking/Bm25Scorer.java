@@ -0,0 +1,127 @@
+package com.biblioteca.ranking;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.TitleTokenIndex;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Calcolo della rilevanza dei titoli rispetto a una query secondo il modello BM25.
+ *
+ * <p>Il punteggio di un titolo è la somma, sui termini distinti della query,
+ * del contributo di ciascun termine:</p>
+ *
+ * <pre>
+ * idf(t) · tf · (k1 + 1) / (tf + k1 · (1 - b + b · |titolo| / lunghezzaMedia))
+ * </pre>
+ *
+ * <p><strong>Componenti del punteggio:</strong></p>
+ * <ul>
+ *   <li><strong>tf:</strong> Occorrenze del termine fra i token del titolo</li>
+ *   <li><strong>idf:</strong> {@code ln(1 + (N - df + 0.5) / (df + 0.5))}, dove {@code df}
+ *       è la dimensione della posting list del termine: i termini rari pesano di più</li>
+ *   <li><strong>Normalizzazione per lunghezza:</strong> A parità di occorrenze,
+ *       i titoli più corti ottengono un punteggio maggiore</li>
+ * </ul>
+ *
+ * <p>Le statistiche della collezione (idf e lunghezza media) vengono lette
+ * dall'indice una sola volta, alla costruzione. Il calcolo del punteggio di un
+ * titolo scorre i suoi token senza allocare oggetti: un'istanza non va quindi
+ * condivisa fra thread diversi.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class Bm25Scorer {
+
+    /** Saturazione della frequenza dei termini */
+    private static final double K1 = 1.2;
+
+    /** Peso della normalizzazione per lunghezza del titolo */
+    private static final double B = 0.75;
+
+    /** Termini distinti della query */
+    private final String[] terms;
+
+    /** Peso idf di ciascun termine, allineato con {@link #terms} */
+    private final double[] idf;
+
+    /** Lunghezza media dei titoli, in token */
+    private final double averageLength;
+
+    /** Occorrenze dei termini nel titolo corrente, riutilizzate ad ogni calcolo */
+    private final int[] frequencies;
+
+    /**
+     * Prepara il calcolo dei punteggi per una query.
+     *
+     * @param index l'indice da cui leggere le statistiche della collezione
+     * @param normalizedQuery la query già normalizzata
+     */
+    public Bm25Scorer(LibraryIndex index, String normalizedQuery) {
+        // Termini distinti, nell'ordine in cui compaiono nella query
+        Set<String> distinctTerms = new LinkedHashSet<>(TitleTokenIndex.terms(normalizedQuery));
+        this.terms = distinctTerms.toArray(new String[0]);
+        this.idf = new double[terms.length];
+        this.frequencies = new int[terms.length];
+
+        int documents = index.size();
+        for (int i = 0; i < terms.length; i++) {
+            int frequency = index.getTitleTokens().exact(terms[i]).size();
+            idf[i] = Math.log(1.0 + (documents - frequency + 0.5) / (frequency + 0.5));
+        }
+        this.averageLength = documents == 0
+                ? 0.0
+                : (double) index.getTitleTokens().getTotalTokens() / documents;
+    }
+
+    /**
+     * Calcola il punteggio di un titolo normalizzato.
+     *
+     * @param normalizedTitle il titolo già normalizzato (può essere nullo)
+     * @return il punteggio BM25, {@code 0.0} se il titolo non contiene alcun termine
+     */
+    public double score(String normalizedTitle) {
+        // Titoli nulli o query senza termini non ricevono punteggio
+        if (normalizedTitle == null || terms.length == 0) {
+            return 0.0;
+        }
+
+        // Conteggio delle occorrenze e della lunghezza in un'unica scansione
+        Arrays.fill(frequencies, 0);
+        int length = 0;
+        int textLength = normalizedTitle.length();
+        int i = 0;
+        while (i < textLength) {
+            if (!TextNormalizer.isTokenChar(normalizedTitle.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < textLength && TextNormalizer.isTokenChar(normalizedTitle.charAt(i))) {
+                i++;
+            }
+            length++;
+            for (int t = 0; t < terms.length; t++) {
+                String term = terms[t];
+                if (term.length() == i - start && normalizedTitle.regionMatches(start, term, 0, term.length())) {
+                    frequencies[t]++;
+                }
+            }
+        }
+
+        double score = 0.0;
+        double lengthNorm = averageLength == 0.0 ? 1.0 : 1.0 - B + B * length / averageLength;
+        for (int t = 0; t < terms.length; t++) {
+            int tf = frequencies[t];
+            if (tf > 0) {
+                score += idf[t] * tf * (K1 + 1) / (tf + K1 * lengthNorm);
+            }
+        }
+        return score;
+    }
+}
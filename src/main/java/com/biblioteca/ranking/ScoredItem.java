@@ -0,0 +1,16 @@
+package com.biblioteca.ranking;
+
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Risultato di una ricerca con ranking: un elemento e il suo punteggio di rilevanza.
+ *
+ * @param item l'elemento trovato
+ * @param score il punteggio di rilevanza (più alto = più rilevante)
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public record ScoredItem(LibraryItem item, double score) {
+}
@@ -0,0 +1,170 @@
+package com.biblioteca.ranking;
+
+/**
+ * Raccoglitore dei k risultati migliori di una ricerca con ranking.
+ *
+ * <p>Mantiene un min-heap di capacità fissa, memorizzato in due array
+ * primitivi paralleli (punteggi e ordinali): la radice è sempre il peggiore
+ * dei risultati trattenuti. Un nuovo risultato entra nell'heap solo se
+ * supera la radice, che viene sostituita.</p>
+ *
+ * <p><strong>Caratteristiche:</strong></p>
+ * <ul>
+ *   <li><strong>Complessità:</strong> O(n log k) per n risultati offerti</li>
+ *   <li><strong>Memoria:</strong> O(k), nessuna allocazione per risultato</li>
+ *   <li><strong>Parità di punteggio:</strong> Prevale l'ordinale minore, cioè
+ *       l'elemento inserito per primo nella biblioteca</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class TopKCollector {
+
+    /** Punteggi dei risultati trattenuti, organizzati a heap */
+    private final double[] scores;
+
+    /** Ordinali dei risultati trattenuti, allineati con {@link #scores} */
+    private final int[] ordinals;
+
+    /** Numero di risultati attualmente nell'heap */
+    private int size;
+
+    /**
+     * Costruisce un raccoglitore per i migliori {@code k} risultati.
+     *
+     * @param k il numero massimo di risultati da trattenere
+     * @throws IllegalArgumentException se {@code k} è negativo
+     */
+    public TopKCollector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.scores = new double[k];
+        this.ordinals = new int[k];
+    }
+
+    /**
+     * Propone un risultato al raccoglitore.
+     *
+     * @param ordinal l'ordinale dell'elemento
+     * @param score il punteggio dell'elemento
+     */
+    public void offer(int ordinal, double score) {
+        if (size < scores.length) {
+            // Heap non ancora pieno: inserimento in coda e risalita
+            scores[size] = score;
+            ordinals[size] = ordinal;
+            siftUp(size++);
+        } else if (size > 0 && isWorse(scores[0], ordinals[0], score, ordinal)) {
+            // Il nuovo risultato sostituisce il peggiore trattenuto
+            scores[0] = score;
+            ordinals[0] = ordinal;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Restituisce il numero di risultati trattenuti.
+     *
+     * @return il numero di risultati
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Estrae i risultati trattenuti, dal migliore al peggiore.
+     *
+     * <p>L'operazione svuota il raccoglitore.</p>
+     *
+     * @param scoresOut array in cui scrivere i punteggi (almeno {@link #size()} posizioni)
+     * @param ordinalsOut array in cui scrivere gli ordinali (almeno {@link #size()} posizioni)
+     * @return il numero di risultati estratti
+     */
+    public int drain(double[] scoresOut, int[] ordinalsOut) {
+        int count = size;
+        // Estrazione ripetuta della radice: il peggiore va in fondo
+        for (int i = count - 1; i >= 0; i--) {
+            scoresOut[i] = scores[0];
+            ordinalsOut[i] = ordinals[0];
+            size--;
+            if (size > 0) {
+                scores[0] = scores[size];
+                ordinals[0] = ordinals[size];
+                siftDown(0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Verifica se il primo risultato è peggiore del secondo.
+     *
+     * @param scoreA punteggio del primo risultato
+     * @param ordinalA ordinale del primo risultato
+     * @param scoreB punteggio del secondo risultato
+     * @param ordinalB ordinale del secondo risultato
+     * @return {@code true} se il primo ha punteggio minore o, a parità, ordinale maggiore
+     */
+    private static boolean isWorse(double scoreA, int ordinalA, double scoreB, int ordinalB) {
+        int comparison = Double.compare(scoreA, scoreB);
+        return comparison < 0 || (comparison == 0 && ordinalA > ordinalB);
+    }
+
+    /**
+     * Riporta verso la radice l'elemento in posizione {@code i}.
+     *
+     * @param i la posizione di partenza
+     */
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!isWorse(scores[i], ordinals[i], scores[parent], ordinals[parent])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    /**
+     * Riporta verso le foglie l'elemento in posizione {@code i}.
+     *
+     * @param i la posizione di partenza
+     */
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && isWorse(scores[right], ordinals[right], scores[left], ordinals[left])) {
+                worst = right;
+            }
+            if (!isWorse(scores[worst], ordinals[worst], scores[i], ordinals[i])) {
+                break;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    /**
+     * Scambia due posizioni dell'heap.
+     *
+     * @param a la prima posizione
+     * @param b la seconda posizione
+     */
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int ordinal = ordinals[a];
+        ordinals[a] = ordinals[b];
+        ordinals[b] = ordinal;
+    }
+}
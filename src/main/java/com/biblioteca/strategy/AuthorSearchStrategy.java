@@ -0,0 +1,144 @@
+package com.biblioteca.strategy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.biblioteca.index.AuthorPrefixIndex;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.index.PostingList;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Strategia concreta per la ricerca per autore.
+ *
+ * <p>Trova i libri il cui autore corrisponde alla query per prefisso di
+ * parola: la query deve comparire all'inizio del nome o di una delle sue
+ * parole. Le riviste, prive di autore, non compaiono mai nei risultati.</p>
+ *
+ * <p><strong>Caratteristiche dell'algoritmo di ricerca:</strong></p>
+ * <ul>
+ *   <li><strong>Case-insensitive:</strong> La ricerca ignora maiuscole/minuscole</li>
+ *   <li><strong>Accent-insensitive:</strong> "muller" trova "Müller" e viceversa</li>
+ *   <li><strong>Prefix matching:</strong> Trova gli autori con una parola che inizia con la query</li>
+ *   <li><strong>Gestione sicura dei null:</strong> Controlla autori nulli</li>
+ * </ul>
+ *
+ * <p><strong>Esempi di utilizzo:</strong></p>
+ * <ul>
+ *   <li>"Bloch" → trova "Joshua Bloch"</li>
+ *   <li>"Jos" → trova "Joshua Bloch", "José Saramago", ecc.</li>
+ *   <li>"joshua bl" → trova "Joshua Bloch"</li>
+ *   <li>"loch" → nessun risultato (non è l'inizio di una parola)</li>
+ * </ul>
+ *
+ * <p>Quando viene eseguita tramite il {@code LibraryManager}, la strategia
+ * consulta l'indice per prefisso degli autori ({@link AuthorPrefixIndex}):
+ * la ricerca è logaritmica nel numero di nomi indicizzati più il numero di
+ * corrispondenze, senza verificare gli altri elementi.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class AuthorSearchStrategy implements IndexedSearchStrategy {
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Filtra gli elementi confrontando la query normalizzata con l'autore
+     * normalizzato precalcolato di ciascun libro.</p>
+     *
+     * @param items la collezione di LibraryItem in cui cercare
+     * @param query il nome o l'iniziale del nome dell'autore
+     * @return lista di elementi il cui autore corrisponde alla query
+     */
+    @Override
+    public List<LibraryItem> search(List<LibraryItem> items, String query) {
+        // Validazione e normalizzazione della query una sola volta
+        String prefix = normalizeForSearch(query);
+        if (prefix == null) {
+            return List.of();
+        }
+
+        return items.stream()
+                // Filtro sull'autore normalizzato precalcolato: nessuna allocazione per elemento
+                .filter(item -> AuthorPrefixIndex.matches(SearchKeys.forItem(item).getNormalizedAuthor(), prefix))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Le corrispondenze sono lette direttamente dall'indice per prefisso,
+     * senza verifica: l'indice applica lo stesso criterio della ricerca lineare.</p>
+     *
+     * @param index l'indice della biblioteca
+     * @param query il nome o l'iniziale del nome dell'autore
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code true} se la visita è stata completata
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor) {
+        String prefix = normalizeForSearch(query);
+        if (prefix == null) {
+            return true;
+        }
+        PostingList matches = index.getAuthorPrefixes().find(prefix);
+        for (int i = 0; i < matches.size(); i++) {
+            if (!visitor.visit(matches.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Il numero di corrispondenze è la dimensione della posting list
+     * restituita dall'indice.</p>
+     */
+    @Override
+    public int count(LibraryIndex index, String query) {
+        String prefix = normalizeForSearch(query);
+        return prefix == null ? 0 : index.getAuthorPrefixes().find(prefix).size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ogni libro viene valutato solo in base al proprio autore.</p>
+     */
+    @Override
+    public boolean isElementWise() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Le query con la stessa forma normalizzata condividono la chiave.</p>
+     */
+    @Override
+    public String cacheKey(String query) {
+        String prefix = normalizeForSearch(query);
+        return prefix == null ? null : "author:" + prefix;
+    }
+
+    /**
+     * Normalizza una query per la ricerca per prefisso.
+     *
+     * @param query la query originale
+     * @return la query normalizzata senza spazi esterni, oppure {@code null} se vuota
+     */
+    private static String normalizeForSearch(String query) {
+        if (query == null) {
+            return null;
+        }
+        String prefix = TextNormalizer.normalize(query).trim();
+        return prefix.isEmpty() ? null : prefix;
+    }
+}
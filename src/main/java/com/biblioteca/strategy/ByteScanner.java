@@ -0,0 +1,27 @@
+package com.biblioteca.strategy;
+
+/**
+ * Algoritmo di ricerca di una sequenza di byte all'interno di un'altra.
+ *
+ * <p>Astrae l'implementazione usata da {@link VectorizedTitleSearchStrategy},
+ * così che la versione basata sulla Vector API possa essere sostituita da
+ * quella scalare quando il modulo {@code jdk.incubator.vector} non è
+ * disponibile.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+interface ByteScanner {
+
+    /**
+     * Cerca la prima occorrenza di una sequenza di byte in un intervallo del testo.
+     *
+     * @param text il testo in cui cercare
+     * @param pattern la sequenza da cercare (non vuota)
+     * @param from la prima posizione di partenza da considerare
+     * @param to la fine (esclusa) dell'intervallo: l'occorrenza deve terminare entro {@code to}
+     * @return la posizione dell'occorrenza, oppure {@code -1} se assente
+     */
+    int indexOf(byte[] text, byte[] pattern, int from, int to);
+}
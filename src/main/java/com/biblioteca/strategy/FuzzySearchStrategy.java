@@ -0,0 +1,217 @@
+package com.biblioteca.strategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.index.PostingList;
+import com.biblioteca.index.TitleTokenIndex;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.EditDistance;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Strategia concreta per la ricerca approssimata per titolo, tollerante agli errori di battitura.
+ *
+ * <p>Un titolo corrisponde alla query se ogni termine della query ha, fra i
+ * termini del titolo, uno a distanza di modifica non superiore a quella
+ * ammessa. La distanza è quella di Damerau-Levenshtein: inserimenti,
+ * cancellazioni, sostituzioni e scambi di caratteri adiacenti contano
+ * ciascuno come una modifica.</p>
+ *
+ * <p><strong>Modifiche ammesse per termine:</strong></p>
+ * <ul>
+ *   <li><strong>Fino a 2 caratteri:</strong> Nessuna (corrispondenza esatta)</li>
+ *   <li><strong>Da 3 a 5 caratteri:</strong> Una modifica</li>
+ *   <li><strong>Da 6 caratteri:</strong> Due modifiche</li>
+ * </ul>
+ * <p>Il limite per lunghezza evita che i termini brevi corrispondano a quasi
+ * tutto il vocabolario; il costruttore permette di ridurlo ulteriormente.</p>
+ *
+ * <p><strong>Esempi di utilizzo:</strong></p>
+ * <ul>
+ *   <li>"Efective Jvaa" → trova "Effective Java"</li>
+ *   <li>"patern" → trova "Design Patterns" (due modifiche da "patterns")</li>
+ *   <li>"jva" → trova "Java Programming" (una modifica da "java")</li>
+ * </ul>
+ *
+ * <p>Quando viene eseguita tramite il {@code LibraryManager}, la strategia
+ * cerca ogni termine della query in un albero BK del vocabolario dei titoli
+ * ({@link com.biblioteca.index.BkTree}), che esclude la maggior parte dei
+ * termini senza calcolarne la distanza, e interseca le posting list dei
+ * termini trovati: nessun titolo viene confrontato con la query.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class FuzzySearchStrategy implements IndexedSearchStrategy {
+
+    /** Numero massimo predefinito di modifiche per termine */
+    public static final int DEFAULT_MAX_EDITS = 2;
+
+    /** Numero massimo di modifiche per termine, indipendentemente dalla lunghezza */
+    private final int maxEdits;
+
+    /**
+     * Costruisce una strategia con il limite predefinito di modifiche.
+     */
+    public FuzzySearchStrategy() {
+        this(DEFAULT_MAX_EDITS);
+    }
+
+    /**
+     * Costruisce una strategia con un limite di modifiche per termine.
+     *
+     * @param maxEdits il numero massimo di modifiche per termine (da 0 a 2)
+     * @throws IllegalArgumentException se il limite è fuori intervallo
+     */
+    public FuzzySearchStrategy(int maxEdits) {
+        if (maxEdits < 0 || maxEdits > DEFAULT_MAX_EDITS) {
+            throw new IllegalArgumentException("Max edits must be between 0 and " + DEFAULT_MAX_EDITS);
+        }
+        this.maxEdits = maxEdits;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Confronta ogni termine della query con i termini di ciascun titolo.</p>
+     *
+     * @param items la collezione di LibraryItem in cui cercare
+     * @param query la stringa di ricerca, anche con errori di battitura
+     * @return lista di elementi i cui titoli corrispondono in modo approssimato
+     */
+    @Override
+    public List<LibraryItem> search(List<LibraryItem> items, String query) {
+        List<String> queryTerms = queryTerms(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        List<LibraryItem> results = new ArrayList<>();
+        for (LibraryItem item : items) {
+            String title = SearchKeys.forItem(item).getNormalizedTitle();
+            if (title != null && matchesAllTerms(TitleTokenIndex.terms(title), queryTerms)) {
+                results.add(item);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Per ogni termine della query, i termini del vocabolario entro la
+     * distanza ammessa vengono cercati nell'albero BK e le loro posting list
+     * unite; i risultati dei diversi termini vengono poi intersecati.</p>
+     *
+     * @param index l'indice della biblioteca
+     * @param query la stringa di ricerca, anche con errori di battitura
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code true} se la visita è stata completata
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor) {
+        List<String> queryTerms = queryTerms(query);
+        if (queryTerms.isEmpty()) {
+            return true;
+        }
+
+        PostingList matches = null;
+        for (String queryTerm : queryTerms) {
+            // Elementi che contengono almeno un termine vicino a quello della query
+            List<PostingList> lists = new ArrayList<>();
+            for (String term : index.getTitleTermTree().search(queryTerm, allowedEdits(queryTerm))) {
+                lists.add(index.getTitleTokens().exact(term));
+            }
+            PostingList termMatches = lists.isEmpty() ? new PostingList() : PostingList.union(lists);
+            matches = matches == null ? termMatches : PostingList.intersect(matches, termMatches);
+            if (matches.isEmpty()) {
+                return true;
+            }
+        }
+
+        for (int i = 0; i < matches.size(); i++) {
+            if (!visitor.visit(matches.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ogni titolo viene valutato solo in base ai propri termini.</p>
+     */
+    @Override
+    public boolean isElementWise() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>La chiave include il limite di modifiche, che cambia i risultati.</p>
+     */
+    @Override
+    public String cacheKey(String query) {
+        return query == null ? null : "fuzzy" + maxEdits + ":" + TextNormalizer.normalize(query);
+    }
+
+    /**
+     * Restituisce il numero di modifiche ammesse per un termine.
+     *
+     * @param term il termine della query
+     * @return le modifiche ammesse in base alla lunghezza, entro il limite della strategia
+     */
+    private int allowedEdits(String term) {
+        int byLength = term.length() <= 2 ? 0 : term.length() <= 5 ? 1 : 2;
+        return Math.min(byLength, maxEdits);
+    }
+
+    /**
+     * Verifica che ogni termine della query abbia un termine vicino nel titolo.
+     *
+     * @param titleTerms i termini del titolo
+     * @param queryTerms i termini distinti della query
+     * @return {@code true} se tutti i termini della query trovano corrispondenza
+     */
+    private boolean matchesAllTerms(List<String> titleTerms, List<String> queryTerms) {
+        for (String queryTerm : queryTerms) {
+            int allowed = allowedEdits(queryTerm);
+            boolean found = false;
+            for (String titleTerm : titleTerms) {
+                // La differenza di lunghezza è un limite inferiore della distanza
+                if (Math.abs(titleTerm.length() - queryTerm.length()) <= allowed
+                        && EditDistance.damerauLevenshtein(queryTerm, titleTerm) <= allowed) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estrae i termini distinti della query normalizzata.
+     *
+     * @param query la query originale
+     * @return i termini distinti, nell'ordine della query (vuota per query nulle o senza termini)
+     */
+    private static List<String> queryTerms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>(TitleTokenIndex.terms(TextNormalizer.normalize(query)));
+        return new ArrayList<>(terms);
+    }
+}
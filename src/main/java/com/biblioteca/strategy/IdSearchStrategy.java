@@ -1,9 +1,18 @@
 package com.biblioteca.strategy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.index.PostingList;
 import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.TextNormalizer;
 
 /**
  * Strategia concreta per la ricerca per ID (ISBN/ISSN).
@@ -35,11 +44,19 @@ import com.biblioteca.model.LibraryItem;
  *   <li>"12" → nessun risultato (meno di 3 cifre)</li>
  * </ul>
  *
+ * <p>Quando viene eseguita tramite il {@code LibraryManager}, la corrispondenza
+ * esatta è risolta con un accesso alla mappa hash degli ID, mentre la ricerca
+ * parziale utilizza le cifre degli ID precalcolate e l'indice dei trigrammi di
+ * cifre, verificando solo gli elementi candidati.</p>
+ *
  * @author Sistema Biblioteca
  * @version 1.0
  * @since 1.0
  */
-public class IdSearchStrategy implements SearchStrategy {
+public class IdSearchStrategy implements IndexedSearchStrategy {
+
+    /** Numero minimo di cifre richiesto per la ricerca parziale */
+    private static final int MIN_PARTIAL_DIGITS = 3;
 
     /**
      * {@inheritDoc}
@@ -61,6 +78,32 @@ public class IdSearchStrategy implements SearchStrategy {
      */
     @Override
     public List<LibraryItem> search(List<LibraryItem> items, String query) {
+        return scan(items, query, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Entrambe le fasi consultano il contesto ogni
+     * {@value SearchContext#CHECK_INTERVAL} elementi e il budget è condiviso
+     * fra le due scansioni. Se il budget si esaurisce durante la ricerca
+     * esatta, la fase parziale non viene eseguita: il risultato contiene le
+     * corrispondenze esatte trovate fino a quel momento.</p>
+     */
+    @Override
+    public List<LibraryItem> search(List<LibraryItem> items, String query, SearchContext context) {
+        return scan(items, query, context);
+    }
+
+    /**
+     * Esegue l'algoritmo a due fasi sulla lista, consultando il contesto se presente.
+     *
+     * @param items la collezione di LibraryItem in cui cercare
+     * @param query la stringa di ricerca (ID completo o parziale)
+     * @param context il contesto della ricerca, oppure {@code null} se non limitata
+     * @return lista di elementi che corrispondono ai criteri di ricerca
+     */
+    private List<LibraryItem> scan(List<LibraryItem> items, String query, SearchContext context) {
         // Validazione iniziale: query nulla o vuota
         if (query == null || query.trim().isEmpty()) {
             return List.of(); // Restituisce lista vuota per query non valide
@@ -68,11 +111,19 @@ public class IdSearchStrategy implements SearchStrategy {
 
         // Pulizia della query rimuovendo spazi iniziali e finali
         String trimmedQuery = query.trim();
+        int size = items.size();
 
         // FASE 1: Tentativo di corrispondenza esatta (case-insensitive)
-        List<LibraryItem> exactMatches = items.stream()
-                .filter(item -> item.getId() != null && item.getId().equalsIgnoreCase(trimmedQuery))
-                .collect(Collectors.toList());
+        List<LibraryItem> exactMatches = new ArrayList<>();
+        int position = 0;
+        for (LibraryItem item : items) {
+            if (!SearchContext.checkpoint(context, position++, size)) {
+                return exactMatches; // Budget esaurito: corrispondenze esatte parziali
+            }
+            if (item.getId() != null && item.getId().equalsIgnoreCase(trimmedQuery)) {
+                exactMatches.add(item);
+            }
+        }
 
         // Se troviamo corrispondenze esatte, le restituiamo immediatamente
         if (!exactMatches.isEmpty()) {
@@ -80,27 +131,263 @@ public class IdSearchStrategy implements SearchStrategy {
         }
 
         // FASE 2: Estrazione delle cifre per ricerca parziale
-        String digitsOnly = trimmedQuery.replaceAll("[^0-9]", "");
+        String digitsOnly = TextNormalizer.digitsOnly(trimmedQuery);
 
         // Ricerca parziale solo se abbiamo almeno 3 cifre (per evitare risultati troppo generici)
-        if (digitsOnly.length() >= 3) {
-            return items.stream()
-                    .filter(item -> {
-                        String itemId = item.getId();
-                        // Controllo di sicurezza per ID nulli
-                        if (itemId == null) {
-                            return false;
-                        }
-
-                        // Estrazione delle cifre dall'ID dell'elemento
-                        String itemDigits = itemId.replaceAll("[^0-9]", "");
-                        // Verifica se le cifre dell'elemento contengono le cifre della query
-                        return itemDigits.contains(digitsOnly);
-                    })
-                    .collect(Collectors.toList());
-        }
-
-        // Se abbiamo meno di 3 cifre, restituiamo lista vuota per evitare risultati troppo generici
-        return List.of();
+        if (digitsOnly.length() < MIN_PARTIAL_DIGITS) {
+            return List.of();
+        }
+        List<LibraryItem> partialMatches = new ArrayList<>();
+        position = 0;
+        for (LibraryItem item : items) {
+            if (!SearchContext.checkpoint(context, position++, size)) {
+                break;
+            }
+            // Controllo di sicurezza per ID nulli
+            if (item.getId() == null) {
+                continue;
+            }
+            // Cifre dell'ID precalcolate: nessuna estrazione per elemento
+            String itemDigits = SearchKeys.forItem(item).getIdDigits();
+            // Verifica se le cifre dell'elemento contengono le cifre della query
+            if (itemDigits.contains(digitsOnly)) {
+                partialMatches.add(item);
+            }
+        }
+        return partialMatches;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Applica lo stesso algoritmo a due fasi della ricerca lineare. La
+     * corrispondenza esatta è un lookup O(1) sulla mappa case-insensitive
+     * degli ID. Nella fase parziale le cifre degli ID non vengono ricalcolate:
+     * i candidati sono ottenuti intersecando i trigrammi di cifre della query
+     * e vengono poi verificati sulle cifre precalcolate dall'indice.</p>
+     *
+     * @param index l'indice della biblioteca
+     * @param query la stringa di ricerca (ID completo o parziale)
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code true} se la visita è stata completata
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor) {
+        return visitMatches(index, query, visitor, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Il contesto viene consultato ogni {@value SearchContext#CHECK_INTERVAL}
+     * candidati verificati nella fase parziale; la fase esatta è un lookup.</p>
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        return visitMatches(index, query, visitor, context);
+    }
+
+    /**
+     * Visita gli elementi corrispondenti alla query, consultando il contesto se presente.
+     *
+     * @param index l'indice della biblioteca
+     * @param query la stringa di ricerca (ID completo o parziale)
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @param context il contesto della ricerca, oppure {@code null} se non limitata
+     * @return {@code true} se la visita è stata completata
+     */
+    private boolean visitMatches(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        // Validazione iniziale: query nulla o vuota
+        if (query == null || query.trim().isEmpty()) {
+            return true;
+        }
+
+        String trimmedQuery = query.trim();
+
+        // FASE 1: Corrispondenza esatta tramite lookup hash (case-insensitive)
+        PostingList exactMatches = index.findById(trimmedQuery);
+        if (!exactMatches.isEmpty()) {
+            for (int i = 0; i < exactMatches.size(); i++) {
+                if (!visitor.visit(exactMatches.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FASE 2: Ricerca parziale sui soli candidati dell'indice di cifre
+        String digitsOnly = TextNormalizer.digitsOnly(trimmedQuery);
+        if (digitsOnly.length() < MIN_PARTIAL_DIGITS) {
+            return true;
+        }
+
+        PostingList candidates = index.getIdDigitTrigrams().candidates(digitsOnly);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!SearchContext.checkpoint(context, i, candidates.size())) {
+                return false;
+            }
+            int ordinal = candidates.get(i);
+            String itemDigits = index.getIdDigits(ordinal);
+            // Verifica finale: i trigrammi potrebbero comparire in posizioni diverse
+            if (itemDigits != null && itemDigits.contains(digitsOnly) && !visitor.visit(ordinal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Applica l'algoritmo a due fasi a tutte le query insieme. Una prima
+     * scansione della collezione raccoglie le corrispondenze esatte di ogni
+     * query tramite una mappa hash delle chiavi case-insensitive; una seconda
+     * scansione, eseguita solo se qualche query non ha corrispondenze esatte,
+     * cerca le cifre di quelle query negli ID.</p>
+     */
+    @Override
+    public Map<String, List<LibraryItem>> searchAll(List<LibraryItem> items, Collection<String> queries) {
+        // Raggruppamento delle query valide per chiave case-insensitive
+        Map<String, List<LibraryItem>> exactByKey = new HashMap<>();
+        for (String query : queries) {
+            if (query != null && !query.trim().isEmpty()) {
+                exactByKey.putIfAbsent(TextNormalizer.foldCase(query.trim()), new ArrayList<>());
+            }
+        }
+
+        // FASE 1: Un'unica scansione per le corrispondenze esatte di tutte le query
+        if (!exactByKey.isEmpty()) {
+            for (LibraryItem item : items) {
+                String foldedId = SearchKeys.forItem(item).getFoldedId();
+                List<LibraryItem> matches = foldedId != null ? exactByKey.get(foldedId) : null;
+                if (matches != null) {
+                    matches.add(item);
+                }
+            }
+        }
+
+        // FASE 2: Query senza corrispondenze esatte, raggruppate per cifre
+        Map<String, List<LibraryItem>> partialByDigits = new HashMap<>();
+        for (String query : queries) {
+            if (query != null && !query.trim().isEmpty()
+                    && exactByKey.get(TextNormalizer.foldCase(query.trim())).isEmpty()) {
+                String digitsOnly = TextNormalizer.digitsOnly(query.trim());
+                if (digitsOnly.length() >= MIN_PARTIAL_DIGITS) {
+                    partialByDigits.putIfAbsent(digitsOnly, new ArrayList<>());
+                }
+            }
+        }
+        if (!partialByDigits.isEmpty()) {
+            for (LibraryItem item : items) {
+                String itemDigits = SearchKeys.forItem(item).getIdDigits();
+                if (itemDigits == null) {
+                    continue;
+                }
+                for (Map.Entry<String, List<LibraryItem>> entry : partialByDigits.entrySet()) {
+                    if (itemDigits.contains(entry.getKey())) {
+                        entry.getValue().add(item);
+                    }
+                }
+            }
+        }
+
+        // Composizione dei risultati nell'ordine delle query
+        Map<String, List<LibraryItem>> results = new LinkedHashMap<>();
+        for (String query : queries) {
+            if (results.containsKey(query)) {
+                continue;
+            }
+            List<LibraryItem> matches = List.of();
+            if (query != null && !query.trim().isEmpty()) {
+                String trimmedQuery = query.trim();
+                matches = exactByKey.get(TextNormalizer.foldCase(trimmedQuery));
+                if (matches.isEmpty()) {
+                    matches = partialByDigits.getOrDefault(TextNormalizer.digitsOnly(trimmedQuery), List.of());
+                }
+            }
+            results.put(query, new ArrayList<>(matches));
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>La chiave è la forma case-insensitive della query senza spazi esterni,
+     * da cui dipendono sia la fase esatta che quella parziale.</p>
+     */
+    @Override
+    public String cacheKey(String query) {
+        return query == null ? null : "id:" + TextNormalizer.foldCase(query.trim());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Applica lo stesso algoritmo a due fasi di {@link #search(List, String)}
+     * contando le corrispondenze senza costruire la lista dei risultati.</p>
+     */
+    @Override
+    public int count(List<LibraryItem> items, String query) {
+        // Validazione iniziale: query nulla o vuota
+        if (query == null || query.trim().isEmpty()) {
+            return 0;
+        }
+        String trimmedQuery = query.trim();
+
+        // FASE 1: Corrispondenze esatte (case-insensitive)
+        int exactMatches = 0;
+        for (LibraryItem item : items) {
+            if (item.getId() != null && item.getId().equalsIgnoreCase(trimmedQuery)) {
+                exactMatches++;
+            }
+        }
+        if (exactMatches > 0) {
+            return exactMatches;
+        }
+
+        // FASE 2: Corrispondenze parziali sulle cifre
+        String digitsOnly = TextNormalizer.digitsOnly(trimmedQuery);
+        if (digitsOnly.length() < MIN_PARTIAL_DIGITS) {
+            return 0;
+        }
+        int partialMatches = 0;
+        for (LibraryItem item : items) {
+            String itemDigits = SearchKeys.forItem(item).getIdDigits();
+            if (itemDigits != null && itemDigits.contains(digitsOnly)) {
+                partialMatches++;
+            }
+        }
+        return partialMatches;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Il conteggio delle corrispondenze esatte è la dimensione della posting
+     * list dell'ID. Una query parziale di esattamente tre cifre coincide con
+     * il suo unico trigramma, la cui posting list contiene già i soli risultati
+     * corretti. Negli altri casi vengono contati i candidati verificati.</p>
+     */
+    @Override
+    public int count(LibraryIndex index, String query) {
+        // Validazione iniziale: query nulla o vuota
+        if (query == null || query.trim().isEmpty()) {
+            return 0;
+        }
+        String trimmedQuery = query.trim();
+
+        PostingList exactMatches = index.findById(trimmedQuery);
+        if (!exactMatches.isEmpty()) {
+            return exactMatches.size();
+        }
+
+        String digitsOnly = TextNormalizer.digitsOnly(trimmedQuery);
+        if (digitsOnly.length() == index.getIdDigitTrigrams().getGramLength()) {
+            return index.getIdDigitTrigrams().candidates(digitsOnly).size();
+        }
+        return IndexedSearchStrategy.super.count(index, query);
     }
 }
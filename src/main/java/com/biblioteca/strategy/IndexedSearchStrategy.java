@@ -0,0 +1,154 @@
+package com.biblioteca.strategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Estensione del pattern Strategy per le strategie in grado di usare gli indici.
+ *
+ * <p>Le strategie che implementano questa interfaccia ricevono dal
+ * {@code LibraryManager} l'accesso al {@link LibraryIndex}, così da poter
+ * restringere la ricerca ai soli candidati invece di scandire l'intera
+ * collezione. Il metodo {@link #search(List, String)} ereditato resta
+ * disponibile per cercare in liste arbitrarie.</p>
+ *
+ * <p>L'operazione fondamentale è {@link #forEachMatch(LibraryIndex, String, OrdinalVisitor)},
+ * che produce gli ordinali corrispondenti senza materializzare i risultati:
+ * su di essa si basano la ricerca completa, la ricerca con ranking e le
+ * altre modalità del {@code LibraryManager}.</p>
+ *
+ * <p><strong>Contratto:</strong> per qualunque indice, il risultato di
+ * {@link #search(LibraryIndex, String)} deve coincidere, anche nell'ordine,
+ * con quello di {@code search(index.getItems(), query)}.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IndexedSearchStrategy extends SearchStrategy {
+
+    /**
+     * Visita, in ordine crescente di ordinale, gli elementi che corrispondono alla query.
+     *
+     * @param index l'indice della biblioteca (non deve essere nullo)
+     * @param query la stringa di ricerca
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code true} se la visita è stata completata, {@code false} se
+     *         è stata interrotta dalla callback
+     */
+    boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor);
+
+    /**
+     * Esegue la ricerca sfruttando gli indici disponibili.
+     *
+     * <p>Raccoglie in una lista tutti gli elementi prodotti da
+     * {@link #forEachMatch(LibraryIndex, String, OrdinalVisitor)}.</p>
+     *
+     * @param index l'indice della biblioteca (non deve essere nullo)
+     * @param query la stringa di ricerca
+     * @return lista di elementi che corrispondono ai criteri di ricerca,
+     *         nell'ordine di inserimento
+     */
+    default List<LibraryItem> search(LibraryIndex index, String query) {
+        List<LibraryItem> results = new ArrayList<>();
+        forEachMatch(index, query, ordinal -> results.add(index.get(ordinal)));
+        return results;
+    }
+
+    /**
+     * Visita gli elementi che corrispondono alla query controllando periodicamente il contesto.
+     *
+     * <p>L'implementazione predefinita consulta il contesto ogni
+     * {@value SearchContext#CHECK_INTERVAL} ordinali prodotti da
+     * {@link #forEachMatch(LibraryIndex, String, OrdinalVisitor)}. Le
+     * strategie che verificano molti candidati per ogni risultato devono
+     * ridefinirlo, così da contare come lavoro i candidati esaminati.</p>
+     *
+     * @param index l'indice della biblioteca (non deve essere nullo)
+     * @param query la stringa di ricerca
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @param context il contesto della ricerca (non deve essere nullo)
+     * @return {@code true} se la visita è stata completata, {@code false} se
+     *         è stata interrotta dalla callback o dall'esaurimento del budget
+     * @throws java.util.concurrent.CancellationException se la ricerca viene annullata
+     */
+    default boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        int[] visited = {0};
+        return forEachMatch(index, query, ordinal -> {
+            if (!SearchContext.checkpoint(context, visited[0]++, Integer.MAX_VALUE)) {
+                return false;
+            }
+            return visitor.visit(ordinal);
+        });
+    }
+
+    /**
+     * Esegue la ricerca sugli indici controllando periodicamente il contesto.
+     *
+     * <p>Raccoglie in una lista gli elementi prodotti da
+     * {@link #forEachMatch(LibraryIndex, String, OrdinalVisitor, SearchContext)}.</p>
+     *
+     * @param index l'indice della biblioteca (non deve essere nullo)
+     * @param query la stringa di ricerca
+     * @param context il contesto della ricerca (non deve essere nullo)
+     * @return lista di elementi che corrispondono ai criteri di ricerca,
+     *         nell'ordine di inserimento, eventualmente parziale se
+     *         {@link SearchContext#isTruncated()}
+     * @throws java.util.concurrent.CancellationException se la ricerca viene annullata
+     */
+    default List<LibraryItem> search(LibraryIndex index, String query, SearchContext context) {
+        List<LibraryItem> results = new ArrayList<>();
+        forEachMatch(index, query, ordinal -> results.add(index.get(ordinal)), context);
+        return results;
+    }
+
+    /**
+     * Conta gli elementi che corrispondono alla query sfruttando gli indici.
+     *
+     * <p>L'implementazione predefinita conta gli ordinali prodotti da
+     * {@link #forEachMatch(LibraryIndex, String, OrdinalVisitor)} senza
+     * materializzare i risultati. Le strategie possono ridefinirla per
+     * rispondere direttamente dalle posting list, quando queste contengono
+     * esattamente i risultati.</p>
+     *
+     * @param index l'indice della biblioteca (non deve essere nullo)
+     * @param query la stringa di ricerca
+     * @return il numero di elementi che corrispondono alla query
+     */
+    default int count(LibraryIndex index, String query) {
+        int[] count = {0};
+        forEachMatch(index, query, ordinal -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Esegue più ricerche sfruttando gli indici disponibili.
+     *
+     * <p>Ogni query distinta viene risolta con un accesso agli indici, senza
+     * scandire la collezione.</p>
+     *
+     * @param index l'indice della biblioteca (non deve essere nullo)
+     * @param queries le stringhe di ricerca
+     * @return una mappa da ogni query distinta ai relativi risultati, nell'ordine delle query
+     */
+    default Map<String, List<LibraryItem>> searchAll(LibraryIndex index, Collection<String> queries) {
+        Map<String, List<LibraryItem>> results = new LinkedHashMap<>();
+        for (String query : queries) {
+            if (!results.containsKey(query)) {
+                results.put(query, search(index, query));
+            }
+        }
+        return results;
+    }
+}
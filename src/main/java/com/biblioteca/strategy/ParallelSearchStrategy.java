@@ -0,0 +1,203 @@
+package com.biblioteca.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Decoratore che esegue una strategia di ricerca in parallelo su più core.
+ *
+ * <p>La lista degli elementi viene suddivisa ricorsivamente in blocchi
+ * contigui, cercati in parallelo su un {@link ForkJoinPool}. I risultati
+ * dei blocchi vengono concatenati nell'ordine dei blocchi stessi, così che
+ * il risultato coincida, anche nell'ordine, con quello della ricerca
+ * sequenziale.</p>
+ *
+ * <p><strong>Condizioni per l'esecuzione parallela:</strong></p>
+ * <ul>
+ *   <li><strong>Strategia per elemento:</strong> La strategia decorata deve
+ *       dichiarare {@link SearchStrategy#isElementWise()}; in caso contrario
+ *       (es. {@link IdSearchStrategy}, le cui corrispondenze esatte escludono
+ *       quelle parziali) la ricerca resta sequenziale</li>
+ *   <li><strong>Dimensione minima:</strong> Sotto la soglia configurata il costo
+ *       della suddivisione supera il guadagno e la ricerca resta sequenziale</li>
+ *   <li><strong>Accesso casuale:</strong> Le liste senza accesso casuale vengono
+ *       copiate prima della suddivisione</li>
+ * </ul>
+ *
+ * <p><strong>Utilizzo tipico:</strong></p>
+ * <pre>{@code
+ * SearchStrategy strategy = new ParallelSearchStrategy(new TitleSearchStrategy());
+ * List<LibraryItem> results = strategy.search(items, "Java");
+ * }</pre>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class ParallelSearchStrategy implements SearchStrategy {
+
+    /** Dimensione predefinita sotto la quale la ricerca resta sequenziale */
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    /** Dimensione minima di un blocco cercato da un singolo task */
+    private static final int MIN_CHUNK_SIZE = 1_024;
+
+    /** Numero di blocchi per thread, per bilanciare il carico fra i worker */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** Strategia eseguita su ciascun blocco */
+    private final SearchStrategy delegate;
+
+    /** Pool su cui vengono eseguiti i task */
+    private final ForkJoinPool pool;
+
+    /** Dimensione minima della lista per l'esecuzione parallela */
+    private final int threshold;
+
+    /**
+     * Costruisce un decoratore con la soglia predefinita sul pool comune.
+     *
+     * @param delegate la strategia da eseguire in parallelo
+     */
+    public ParallelSearchStrategy(SearchStrategy delegate) {
+        this(delegate, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Costruisce un decoratore con pool e soglia specifici.
+     *
+     * @param delegate la strategia da eseguire in parallelo
+     * @param pool il pool su cui eseguire i task
+     * @param threshold la dimensione minima della lista per l'esecuzione parallela
+     * @throws IllegalArgumentException se la strategia o il pool sono nulli,
+     *         o se la soglia non è positiva
+     */
+    public ParallelSearchStrategy(SearchStrategy delegate, ForkJoinPool pool, int threshold) {
+        if (delegate == null || pool == null) {
+            throw new IllegalArgumentException("Delegate strategy and pool cannot be null");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.delegate = delegate;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Le liste più piccole della soglia, o le strategie non decomponibili
+     * per elemento, vengono cercate in modo sequenziale.</p>
+     */
+    @Override
+    public List<LibraryItem> search(List<LibraryItem> items, String query) {
+        if (items.size() < threshold || !delegate.isElementWise()) {
+            return delegate.search(items, query);
+        }
+        return invoke(items, query, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ogni task controlla il contesto prima di cercare nel proprio blocco:
+     * una ricerca annullata interrompe anche i task in esecuzione sugli altri
+     * worker.</p>
+     */
+    @Override
+    public List<LibraryItem> search(List<LibraryItem> items, String query, SearchContext context) {
+        if (items.size() < threshold || !delegate.isElementWise()) {
+            return delegate.search(items, query, context);
+        }
+        return invoke(items, query, context);
+    }
+
+    /**
+     * Suddivide la lista in blocchi e li cerca in parallelo sul pool.
+     *
+     * @param items la collezione in cui cercare
+     * @param query la stringa di ricerca
+     * @param context il contesto della ricerca, oppure {@code null} se non annullabile
+     * @return i risultati concatenati nell'ordine della lista
+     */
+    private List<LibraryItem> invoke(List<LibraryItem> items, String query, SearchContext context) {
+        // La suddivisione in sottoliste richiede accesso casuale
+        List<LibraryItem> source = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        int chunkSize = Math.max(MIN_CHUNK_SIZE,
+                source.size() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new SearchTask(source, 0, source.size(), query, chunkSize, context));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Un decoratore parallelo resta decomponibile se lo è la strategia decorata.</p>
+     */
+    @Override
+    public boolean isElementWise() {
+        return delegate.isElementWise();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>L'esecuzione parallela non cambia i risultati: la chiave è quella
+     * della strategia decorata.</p>
+     */
+    @Override
+    public String cacheKey(String query) {
+        return delegate.cacheKey(query);
+    }
+
+    /**
+     * Task che cerca in un intervallo della lista, suddividendolo se troppo grande.
+     */
+    private final class SearchTask extends RecursiveTask<List<LibraryItem>> {
+
+        private final List<LibraryItem> items;
+        private final int from;
+        private final int to;
+        private final String query;
+        private final int chunkSize;
+        private final SearchContext context;
+
+        SearchTask(List<LibraryItem> items, int from, int to, String query, int chunkSize,
+                SearchContext context) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.query = query;
+            this.chunkSize = chunkSize;
+            this.context = context;
+        }
+
+        @Override
+        protected List<LibraryItem> compute() {
+            // Blocco abbastanza piccolo: ricerca sequenziale
+            if (to - from <= chunkSize) {
+                List<LibraryItem> chunk = items.subList(from, to);
+                return context == null ? delegate.search(chunk, query) : delegate.search(chunk, query, context);
+            }
+
+            // Suddivisione a metà: la metà sinistra in parallelo, la destra nel thread corrente
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(items, from, middle, query, chunkSize, context);
+            SearchTask right = new SearchTask(items, middle, to, query, chunkSize, context);
+            left.fork();
+            List<LibraryItem> rightResults = right.compute();
+            List<LibraryItem> leftResults = left.join();
+
+            // Concatenazione nell'ordine originale
+            List<LibraryItem> merged = new ArrayList<>(leftResults.size() + rightResults.size());
+            merged.addAll(leftResults);
+            merged.addAll(rightResults);
+            return merged;
+        }
+    }
+}
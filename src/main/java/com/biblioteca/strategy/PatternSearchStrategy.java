@@ -0,0 +1,256 @@
+package com.biblioteca.strategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.index.PostingList;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Strategia concreta per la ricerca per titolo con caratteri jolly.
+ *
+ * <p>La query è un modello in cui {@code *} corrisponde a qualsiasi sequenza
+ * di caratteri, anche vuota, e {@code ?} a un singolo carattere; tutti gli
+ * altri caratteri sono letterali. Come per {@link TitleSearchStrategy}, il
+ * modello può comparire in qualsiasi punto del titolo e il confronto è
+ * case-insensitive e accent-insensitive.</p>
+ *
+ * <p><strong>Esempi di utilizzo:</strong></p>
+ * <ul>
+ *   <li>"Java*Patterns" → trova "Java Design Patterns", "Java EE Patterns", ecc.</li>
+ *   <li>"c?de" → trova "Clean Code"</li>
+ *   <li>"head*java" → trova "Head First Java"</li>
+ * </ul>
+ *
+ * <p><strong>Ottimizzazioni:</strong></p>
+ * <ul>
+ *   <li><strong>Cache dei modelli:</strong> Ogni query viene convertita in
+ *       {@link Pattern} una sola volta; i modelli compilati sono condivisi fra
+ *       tutte le istanze in una cache LRU</li>
+ *   <li><strong>Prefiltro sugli indici:</strong> I frammenti letterali fra i
+ *       caratteri jolly devono comparire nel titolo: con il {@code LibraryManager}
+ *       i candidati sono l'intersezione dei candidati dei frammenti, ottenuti
+ *       dagli indici dei token e dei trigrammi</li>
+ *   <li><strong>Espressione regolare sui soli candidati:</strong> Il confronto
+ *       completo viene eseguito solo sui titoli sopravvissuti al prefiltro</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class PatternSearchStrategy implements IndexedSearchStrategy {
+
+    /** Numero massimo di modelli compilati mantenuti in cache */
+    private static final int PATTERN_CACHE_CAPACITY = 256;
+
+    /** Modelli compilati per query normalizzata, in ordine di accesso */
+    private static final Map<String, CompiledPattern> PATTERN_CACHE =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledPattern> eldest) {
+                    return size() > PATTERN_CACHE_CAPACITY;
+                }
+            };
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Confronta il modello compilato con il titolo normalizzato di ogni elemento.</p>
+     *
+     * @param items la collezione di LibraryItem in cui cercare
+     * @param query il modello con caratteri jolly
+     * @return lista di elementi i cui titoli contengono il modello
+     */
+    @Override
+    public List<LibraryItem> search(List<LibraryItem> items, String query) {
+        CompiledPattern compiled = compile(query);
+        if (compiled == null) {
+            return List.of();
+        }
+        return items.stream()
+                .filter(item -> compiled.matches(SearchKeys.forItem(item).getNormalizedTitle()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Interseca i candidati dei frammenti letterali del modello e applica
+     * l'espressione regolare ai soli titoli rimasti. Un modello senza
+     * frammenti indicizzabili (es. "a*b") richiede la verifica di tutti i
+     * titoli.</p>
+     *
+     * @param index l'indice della biblioteca
+     * @param query il modello con caratteri jolly
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code true} se la visita è stata completata
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor) {
+        return visitMatches(index, query, visitor, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Il contesto viene consultato ogni {@value SearchContext#CHECK_INTERVAL}
+     * titoli verificati con l'espressione regolare, non ogni risultato: un
+     * modello senza frammenti indicizzabili e con pochi risultati si ferma
+     * all'esaurimento del budget anche su una collezione molto grande.</p>
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        return visitMatches(index, query, visitor, context);
+    }
+
+    /**
+     * Visita i titoli che contengono il modello, consultando il contesto se presente.
+     *
+     * @param index l'indice della biblioteca
+     * @param query il modello con caratteri jolly
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @param context il contesto della ricerca, oppure {@code null} se non limitata
+     * @return {@code true} se la visita è stata completata
+     */
+    private boolean visitMatches(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        CompiledPattern compiled = compile(query);
+        if (compiled == null) {
+            return true;
+        }
+
+        // Prefiltro: ogni frammento letterale deve comparire nel titolo
+        PostingList candidates = null;
+        for (String fragment : compiled.fragments()) {
+            PostingList fragmentCandidates = index.getTitleTokens().candidates(fragment);
+            if (fragmentCandidates == null) {
+                fragmentCandidates = index.getTitleTrigrams().candidates(fragment);
+            }
+            if (fragmentCandidates != null) {
+                candidates = candidates == null
+                        ? fragmentCandidates
+                        : PostingList.intersect(candidates, fragmentCandidates);
+            }
+        }
+
+        int count = candidates != null ? candidates.size() : index.size();
+        for (int i = 0; i < count; i++) {
+            if (!SearchContext.checkpoint(context, i, count)) {
+                return false;
+            }
+            int ordinal = candidates != null ? candidates.get(i) : i;
+            if (compiled.matches(index.getNormalizedTitle(ordinal)) && !visitor.visit(ordinal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ogni titolo viene valutato solo in base al proprio contenuto.</p>
+     */
+    @Override
+    public boolean isElementWise() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>I modelli con la stessa forma normalizzata condividono la chiave.</p>
+     */
+    @Override
+    public String cacheKey(String query) {
+        return query == null ? null : "pattern:" + TextNormalizer.normalize(query);
+    }
+
+    /**
+     * Restituisce il modello compilato di una query, dalla cache se presente.
+     *
+     * @param query il modello con caratteri jolly
+     * @return il modello compilato, oppure {@code null} per query nulle o vuote
+     */
+    private static CompiledPattern compile(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return null;
+        }
+        String normalizedQuery = TextNormalizer.normalize(query);
+        synchronized (PATTERN_CACHE) {
+            return PATTERN_CACHE.computeIfAbsent(normalizedQuery, PatternSearchStrategy::translate);
+        }
+    }
+
+    /**
+     * Converte un modello con caratteri jolly in un'espressione regolare.
+     *
+     * @param normalizedQuery il modello normalizzato
+     * @return l'espressione compilata e i frammenti letterali del modello
+     */
+    private static CompiledPattern translate(String normalizedQuery) {
+        StringBuilder regex = new StringBuilder();
+        List<String> fragments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i <= normalizedQuery.length(); i++) {
+            char c = i < normalizedQuery.length() ? normalizedQuery.charAt(i) : '*';
+            if (c != '*' && c != '?') {
+                literal.append(c);
+                continue;
+            }
+            // Fine di un frammento letterale: quotato nell'espressione e usato per il prefiltro
+            if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal.toString()));
+                fragments.add(literal.toString());
+                literal.setLength(0);
+            }
+            if (c == '?') {
+                regex.append('.');
+            } else if (i < normalizedQuery.length() && !endsWithAnySequence(regex)) {
+                // Asterischi consecutivi equivalgono a uno solo: nessun backtracking superfluo
+                regex.append(".*");
+            }
+        }
+        return new CompiledPattern(Pattern.compile(regex.toString(), Pattern.DOTALL), List.copyOf(fragments));
+    }
+
+    /**
+     * Verifica se l'espressione in costruzione termina con una sequenza qualsiasi.
+     *
+     * @param regex l'espressione in costruzione
+     * @return {@code true} se l'ultimo elemento è {@code .*}
+     */
+    private static boolean endsWithAnySequence(StringBuilder regex) {
+        int length = regex.length();
+        return length >= 2 && regex.charAt(length - 2) == '.' && regex.charAt(length - 1) == '*';
+    }
+
+    /**
+     * Modello compilato con i frammenti letterali usati per il prefiltro.
+     *
+     * @param pattern l'espressione regolare equivalente al modello
+     * @param fragments i frammenti letterali, nell'ordine del modello
+     */
+    private record CompiledPattern(Pattern pattern, List<String> fragments) {
+
+        /**
+         * Verifica se un titolo normalizzato contiene il modello.
+         *
+         * @param normalizedTitle il titolo normalizzato (può essere nullo)
+         * @return {@code true} se il modello compare nel titolo
+         */
+        boolean matches(String normalizedTitle) {
+            return normalizedTitle != null && pattern.matcher(normalizedTitle).find();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.biblioteca.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Ricerca scalare di una sequenza di byte, con filtro sul primo e sull'ultimo byte.
+ *
+ * <p>Per ogni posizione di partenza vengono confrontati prima il primo e
+ * l'ultimo byte della sequenza: solo se entrambi coincidono viene verificato
+ * l'intervallo completo. È l'implementazione di riserva quando la Vector API
+ * non è disponibile, e gestisce le code troppo corte per un vettore.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+final class ScalarByteScanner implements ByteScanner {
+
+    @Override
+    public int indexOf(byte[] text, byte[] pattern, int from, int to) {
+        int lastStart = to - pattern.length;
+        byte first = pattern[0];
+        byte last = pattern[pattern.length - 1];
+        for (int i = from; i <= lastStart; i++) {
+            if (text[i] == first && text[i + pattern.length - 1] == last && matchesAt(text, pattern, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Verifica se la sequenza compare esattamente alla posizione data.
+     *
+     * @param text il testo in cui cercare
+     * @param pattern la sequenza da cercare
+     * @param start la posizione di partenza nel testo
+     * @return {@code true} se i byte coincidono
+     */
+    static boolean matchesAt(byte[] text, byte[] pattern, int start) {
+        return Arrays.equals(text, start, start + pattern.length, pattern, 0, pattern.length);
+    }
+}
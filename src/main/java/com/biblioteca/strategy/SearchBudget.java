@@ -0,0 +1,76 @@
+package com.biblioteca.strategy;
+
+import java.time.Duration;
+
+/**
+ * Limiti di tempo e di lavoro di una singola ricerca.
+ *
+ * <p>Un budget limita il costo di una ricerca indipendentemente dalla query:
+ * una query patologica su una collezione molto grande (es. una ricerca
+ * parziale per ID che richiede la scansione di tutti gli elementi) viene
+ * interrotta quando il budget si esaurisce, restituendo i risultati trovati
+ * fino a quel momento.</p>
+ *
+ * <p><strong>Limiti disponibili:</strong></p>
+ * <ul>
+ *   <li><strong>Tempo:</strong> Durata massima della ricerca, misurata dalla
+ *       creazione del {@link SearchContext}</li>
+ *   <li><strong>Lavoro:</strong> Numero massimo di elementi o candidati
+ *       esaminati, indipendente dal carico della macchina</li>
+ * </ul>
+ *
+ * <p>I limiti vengono verificati ai punti di controllo delle strategie, ogni
+ * {@value SearchContext#CHECK_INTERVAL} elementi: una ricerca può superarli
+ * al più di un intervallo.</p>
+ *
+ * @param timeLimit la durata massima, oppure {@code null} per nessun limite di tempo
+ * @param workLimit il numero massimo di elementi esaminati ({@link Long#MAX_VALUE} per nessun limite)
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public record SearchBudget(Duration timeLimit, long workLimit) {
+
+    /** Budget senza limiti */
+    public static final SearchBudget UNLIMITED = new SearchBudget(null, Long.MAX_VALUE);
+
+    /**
+     * Costruttore compatto con validazione dei limiti.
+     *
+     * @throws IllegalArgumentException se uno dei limiti non è positivo
+     */
+    public SearchBudget {
+        if (timeLimit != null && (timeLimit.isNegative() || timeLimit.isZero())) {
+            throw new IllegalArgumentException("Time limit must be positive");
+        }
+        if (workLimit <= 0) {
+            throw new IllegalArgumentException("Work limit must be positive");
+        }
+    }
+
+    /**
+     * Crea un budget con il solo limite di tempo.
+     *
+     * @param timeLimit la durata massima della ricerca
+     * @return il budget
+     * @throws IllegalArgumentException se la durata è nulla o non positiva
+     */
+    public static SearchBudget ofTime(Duration timeLimit) {
+        if (timeLimit == null) {
+            throw new IllegalArgumentException("Time limit cannot be null");
+        }
+        return new SearchBudget(timeLimit, Long.MAX_VALUE);
+    }
+
+    /**
+     * Crea un budget con il solo limite di lavoro.
+     *
+     * @param workLimit il numero massimo di elementi esaminati
+     * @return il budget
+     * @throws IllegalArgumentException se il limite non è positivo
+     */
+    public static SearchBudget ofWork(long workLimit) {
+        return new SearchBudget(null, workLimit);
+    }
+}
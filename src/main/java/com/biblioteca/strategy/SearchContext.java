@@ -0,0 +1,157 @@
+package com.biblioteca.strategy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stato di esecuzione di una ricerca che può essere interrotta.
+ *
+ * <p>Le strategie consultano il contesto a intervalli regolari tramite
+ * {@link #checkpoint(int)}. Il contesto interrompe la ricerca in due modi:</p>
+ * <ul>
+ *   <li><strong>Annullamento:</strong> Il chiamante può annullare la ricerca da
+ *       qualsiasi thread (es. quando la richiesta viene abbandonata); il
+ *       controllo successivo lancia una {@link CancellationException} e i
+ *       risultati vengono scartati</li>
+ *   <li><strong>Esaurimento del budget:</strong> Quando il tempo o il lavoro
+ *       previsti dal {@link SearchBudget} sono esauriti, il controllo
+ *       restituisce {@code false}: la strategia si ferma e restituisce i
+ *       risultati trovati fino a quel momento, e il contesto viene marcato
+ *       come troncato</li>
+ * </ul>
+ *
+ * <p><strong>Granularità dei controlli:</strong> Un controllo ogni
+ * {@value #CHECK_INTERVAL} elementi rende trascurabile il costo della lettura
+ * dell'orologio e dei campi condivisi, mantenendo breve il tempo fra
+ * l'annullamento (o la scadenza) e l'effettiva interruzione.</p>
+ *
+ * <p>Un contesto può essere condiviso dai task di una ricerca parallela.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class SearchContext {
+
+    /** Numero di elementi valutati fra due controlli consecutivi */
+    public static final int CHECK_INTERVAL = 1_024;
+
+    /** Istante di scadenza secondo {@link System#nanoTime()}, se previsto */
+    private final long deadlineNanos;
+
+    /** Indica se la ricerca ha un limite di tempo */
+    private final boolean hasDeadline;
+
+    /** Numero massimo di elementi esaminati */
+    private final long workLimit;
+
+    /** Numero di elementi esaminati o in esame */
+    private final AtomicLong workDone = new AtomicLong();
+
+    /** Indica se la ricerca è stata annullata */
+    private volatile boolean cancelled;
+
+    /** Indica se la ricerca è stata interrotta per esaurimento del budget */
+    private volatile boolean truncated;
+
+    /**
+     * Costruisce un contesto senza limiti, interrompibile solo annullandolo.
+     */
+    public SearchContext() {
+        this(SearchBudget.UNLIMITED);
+    }
+
+    /**
+     * Costruisce un contesto con un budget; il limite di tempo decorre da ora.
+     *
+     * @param budget il budget della ricerca
+     * @throws IllegalArgumentException se il budget è nullo
+     */
+    public SearchContext(SearchBudget budget) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Budget cannot be null");
+        }
+        this.hasDeadline = budget.timeLimit() != null;
+        this.deadlineNanos = hasDeadline ? System.nanoTime() + budget.timeLimit().toNanos() : 0L;
+        this.workLimit = budget.workLimit();
+    }
+
+    /**
+     * Annulla la ricerca: il prossimo controllo ne interromperà l'esecuzione.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Verifica se la ricerca è stata annullata.
+     *
+     * @return {@code true} se la ricerca è stata annullata
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Verifica se la ricerca è stata interrotta per esaurimento del budget.
+     *
+     * @return {@code true} se i risultati sono parziali
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Restituisce il numero di elementi esaminati dalla ricerca.
+     *
+     * @return la somma del lavoro dichiarato ai punti di controllo
+     */
+    public long getWorkDone() {
+        return workDone.get();
+    }
+
+    /**
+     * Punto di controllo da invocare prima di esaminare un blocco di elementi.
+     *
+     * <p>Il blocco può essere esaminato se il budget non era già esaurito
+     * prima del controllo. Una volta esaurito, il budget resta tale: tutti i
+     * controlli successivi restituiscono {@code false}.</p>
+     *
+     * @param work il numero di elementi che il chiamante sta per esaminare
+     * @return {@code true} se la ricerca può proseguire, {@code false} se il
+     *         budget è esaurito e la ricerca deve fermarsi
+     * @throws CancellationException se la ricerca è stata annullata
+     */
+    public boolean checkpoint(int work) {
+        if (cancelled) {
+            throw new CancellationException("Search cancelled");
+        }
+        if (truncated) {
+            return false;
+        }
+        if (workDone.get() >= workLimit || (hasDeadline && System.nanoTime() - deadlineNanos >= 0)) {
+            truncated = true;
+            return false;
+        }
+        workDone.addAndGet(work);
+        return true;
+    }
+
+    /**
+     * Punto di controllo per i cicli sugli elementi, con contesto facoltativo.
+     *
+     * <p>Consulta il contesto solo all'inizio di ogni intervallo di
+     * {@value #CHECK_INTERVAL} iterazioni, dichiarando come lavoro le
+     * iterazioni dell'intervallo.</p>
+     *
+     * @param context il contesto della ricerca, oppure {@code null} se non limitata
+     * @param position la posizione corrente nel ciclo
+     * @param total il numero totale di iterazioni del ciclo
+     * @return {@code true} se la ricerca può proseguire
+     * @throws CancellationException se la ricerca è stata annullata
+     */
+    static boolean checkpoint(SearchContext context, int position, int total) {
+        return context == null || position % CHECK_INTERVAL != 0
+                || context.checkpoint(Math.min(CHECK_INTERVAL, total - position));
+    }
+}
@@ -1,6 +1,10 @@
 package com.biblioteca.strategy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.biblioteca.model.LibraryItem;
 
@@ -25,6 +29,8 @@ import com.biblioteca.model.LibraryItem;
  * <ul>
  *   <li>{@link IdSearchStrategy} - Ricerca per ID/ISBN/ISSN</li>
  *   <li>{@link TitleSearchStrategy} - Ricerca per titolo</li>
+ *   <li>{@link ParallelSearchStrategy} - Esecuzione parallela di un'altra strategia</li>
+ *   <li>{@link VectorizedTitleSearchStrategy} - Ricerca per titolo con scansione SIMD dei byte</li>
  * </ul>
  *
  * <p><strong>Utilizzo tipico:</strong></p>
@@ -64,4 +70,105 @@ public interface SearchStrategy {
      *         lista vuota se nessun elemento corrisponde
      */
     List<LibraryItem> search(List<LibraryItem> items, String query);
+
+    /**
+     * Esegue la ricerca controllando periodicamente il contesto.
+     *
+     * <p>Le strategie decomponibili per elemento ({@link #isElementWise()})
+     * vengono eseguite su blocchi contigui di {@value SearchContext#CHECK_INTERVAL}
+     * elementi, con un controllo del contesto prima di ogni blocco: se il
+     * budget si esaurisce, vengono restituiti i risultati dei blocchi già
+     * esaminati. Le altre strategie vengono eseguite in un'unica chiamata
+     * dopo un solo controllo e devono ridefinire questo metodo per essere
+     * interrotte durante la scansione. Con un budget sufficiente il risultato
+     * coincide con quello di {@link #search(List, String)}.</p>
+     *
+     * @param items la collezione di LibraryItem in cui cercare (non deve essere nulla)
+     * @param query la stringa di ricerca
+     * @param context il contesto della ricerca (non deve essere nullo)
+     * @return una lista di LibraryItem che corrispondono ai criteri di ricerca,
+     *         eventualmente parziale se {@link SearchContext#isTruncated()}
+     * @throws java.util.concurrent.CancellationException se la ricerca viene annullata
+     */
+    default List<LibraryItem> search(List<LibraryItem> items, String query, SearchContext context) {
+        if (!isElementWise()) {
+            return context.checkpoint(items.size()) ? search(items, query) : new ArrayList<>();
+        }
+        List<LibraryItem> results = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += SearchContext.CHECK_INTERVAL) {
+            int to = Math.min(items.size(), from + SearchContext.CHECK_INTERVAL);
+            if (!context.checkpoint(to - from)) {
+                break;
+            }
+            results.addAll(search(items.subList(from, to), query));
+        }
+        return results;
+    }
+
+    /**
+     * Conta gli elementi che corrispondono ai criteri di ricerca.
+     *
+     * <p>L'implementazione predefinita restituisce la dimensione della lista
+     * prodotta da {@link #search(List, String)}. Le strategie possono
+     * ridefinirla per contare le corrispondenze senza materializzarle.</p>
+     *
+     * @param items la collezione di LibraryItem in cui cercare (non deve essere nulla)
+     * @param query la stringa di ricerca
+     * @return il numero di elementi che corrispondono ai criteri di ricerca
+     */
+    default int count(List<LibraryItem> items, String query) {
+        return search(items, query).size();
+    }
+
+    /**
+     * Esegue più ricerche sulla stessa collezione.
+     *
+     * <p>L'implementazione predefinita esegue {@link #search(List, String)}
+     * una volta per ogni query distinta. Le strategie possono ridefinirla per
+     * valutare tutte le query con un'unica scansione della collezione.</p>
+     *
+     * @param items la collezione di LibraryItem in cui cercare (non deve essere nulla)
+     * @param queries le stringhe di ricerca
+     * @return una mappa da ogni query distinta ai relativi risultati, nell'ordine delle query
+     */
+    default Map<String, List<LibraryItem>> searchAll(List<LibraryItem> items, Collection<String> queries) {
+        Map<String, List<LibraryItem>> results = new LinkedHashMap<>();
+        for (String query : queries) {
+            if (!results.containsKey(query)) {
+                results.put(query, search(items, query));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Indica se la strategia valuta ogni elemento indipendentemente dagli altri.
+     *
+     * <p>Una strategia è decomponibile per elemento quando la ricerca su una
+     * lista equivale alla concatenazione delle ricerche sulle sue parti
+     * contigue: solo in questo caso può essere eseguita in parallelo da
+     * {@link ParallelSearchStrategy}. L'implementazione predefinita restituisce
+     * {@code false}, la scelta sicura.</p>
+     *
+     * @return {@code true} se la strategia è decomponibile per elemento
+     */
+    default boolean isElementWise() {
+        return false;
+    }
+
+    /**
+     * Restituisce la chiave con cui memorizzare in cache i risultati di una query.
+     *
+     * <p>Due invocazioni con la stessa chiave devono produrre gli stessi
+     * risultati sulla stessa collezione: la chiave identifica quindi la
+     * strategia e la forma normalizzata della query (es. "Java" e "java"
+     * hanno la stessa chiave per la ricerca per titolo). L'implementazione
+     * predefinita restituisce {@code null}: i risultati non vengono memorizzati.</p>
+     *
+     * @param query la stringa di ricerca
+     * @return la chiave di cache, oppure {@code null} se i risultati non sono memorizzabili
+     */
+    default String cacheKey(String query) {
+        return null;
+    }
 }
@@ -1,10 +1,19 @@
 
 package com.biblioteca.strategy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.index.PostingList;
 import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.util.TextNormalizer;
 
 /**
  * Strategia concreta per la ricerca per titolo.
@@ -17,6 +26,7 @@ import com.biblioteca.model.LibraryItem;
  * <p><strong>Caratteristiche dell'algoritmo di ricerca:</strong></p>
  * <ul>
  *   <li><strong>Case-insensitive:</strong> La ricerca ignora maiuscole/minuscole</li>
+ *   <li><strong>Accent-insensitive:</strong> "cafe" trova "Café" e viceversa</li>
  *   <li><strong>Substring matching:</strong> Trova titoli che contengono la query</li>
  *   <li><strong>Gestione sicura dei null:</strong> Controlla titoli nulli</li>
  *   <li><strong>Efficienza:</strong> Utilizza Stream API per elaborazione parallela potenziale</li>
@@ -36,11 +46,17 @@ import com.biblioteca.model.LibraryItem;
  *   <li>"DESIGN" → trova "Design Patterns" (case-insensitive)</li>
  * </ul>
  *
+ * <p>Quando viene eseguita tramite il {@code LibraryManager}, la strategia
+ * utilizza l'indice invertito dei token ({@link com.biblioteca.index.TitleTokenIndex})
+ * o, per i frammenti interni a una parola, l'indice dei trigrammi
+ * ({@link com.biblioteca.index.NGramIndex}) per limitare la verifica ai soli
+ * titoli candidati.</p>
+ *
  * @author Sistema Biblioteca
  * @version 1.0
  * @since 1.0
  */
-public class TitleSearchStrategy implements SearchStrategy {
+public class TitleSearchStrategy implements IndexedSearchStrategy {
 
     /**
      * {@inheritDoc}
@@ -52,8 +68,8 @@ public class TitleSearchStrategy implements SearchStrategy {
      * <p><strong>Algoritmo implementato:</strong></p>
      * <ol>
      *   <li>Validazione della query di input</li>
-     *   <li>Conversione a lowercase per confronto case-insensitive</li>
-     *   <li>Filtro degli elementi con titoli che contengono la query</li>
+     *   <li>Normalizzazione della query (minuscolo, senza diacritici)</li>
+     *   <li>Filtro degli elementi il cui titolo normalizzato precalcolato contiene la query</li>
      *   <li>Raccolta dei risultati in una nuova lista</li>
      * </ol>
      *
@@ -68,13 +84,249 @@ public class TitleSearchStrategy implements SearchStrategy {
             return List.of(); // Restituisce lista vuota per query non valide
         }
 
+        // Normalizzazione della query una sola volta, non per ogni elemento
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of(); // Query composta da soli segni diacritici
+        }
+
         // Utilizzo delle Stream API per elaborazione funzionale
         return items.stream()
-                // Filtro per elementi con titoli non nulli che contengono la query (case-insensitive)
-                .filter(item -> item.getTitle() != null &&
-                        item.getTitle().toLowerCase()
-                                .contains(query.toLowerCase()))
+                // Filtro sul titolo normalizzato precalcolato: nessuna allocazione per elemento
+                .filter(item -> {
+                    String title = SearchKeys.forItem(item).getNormalizedTitle();
+                    return title != null && title.contains(normalizedQuery);
+                })
                 // Raccolta dei risultati in una lista
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ottiene i candidati dagli indici e verifica con {@code contains} solo
+     * i loro titoli normalizzati. Gli indici vengono consultati in ordine:</p>
+     * <ol>
+     *   <li>Token delimitati della query (lookup esatti e intervalli per prefisso)</li>
+     *   <li>Trigrammi, per frammenti come "rogramm" (almeno 3 caratteri)</li>
+     *   <li>Scansione del dizionario dei token, per frammenti più corti</li>
+     *   <li>Scansione di tutti i titoli, se la query non contiene token (es. solo punteggiatura)</li>
+     * </ol>
+     *
+     * @param index l'indice della biblioteca
+     * @param query la stringa di ricerca per il titolo (può essere parziale)
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code true} se la visita è stata completata
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor) {
+        return visitMatches(index, query, visitor, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Il contesto viene consultato ogni {@value SearchContext#CHECK_INTERVAL}
+     * titoli verificati, sia sui candidati sia nella scansione completa: una
+     * query senza indici utilizzabili su una collezione molto grande si ferma
+     * all'esaurimento del budget.</p>
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        return visitMatches(index, query, visitor, context);
+    }
+
+    /**
+     * Visita i titoli che contengono la query, consultando il contesto se presente.
+     *
+     * @param index l'indice della biblioteca
+     * @param query la stringa di ricerca per il titolo
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @param context il contesto della ricerca, oppure {@code null} se non limitata
+     * @return {@code true} se la visita è stata completata
+     */
+    private boolean visitMatches(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        // Validazione iniziale: query nulla o vuota
+        if (query == null || query.trim().isEmpty()) {
+            return true;
+        }
+
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return true;
+        }
+        PostingList candidates = index.getTitleTokens().candidates(normalizedQuery);
+        if (candidates == null) {
+            candidates = index.getTitleTrigrams().candidates(normalizedQuery);
+        }
+        if (candidates == null) {
+            candidates = index.getTitleTokens().vocabularyCandidates(normalizedQuery);
+        }
+
+        // Nessun indice utilizzabile: verifica di tutti i titoli
+        if (candidates == null) {
+            int size = index.size();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (!SearchContext.checkpoint(context, ordinal, size)) {
+                    return false;
+                }
+                if (matches(index, ordinal, normalizedQuery) && !visitor.visit(ordinal)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Verifica dei soli candidati, nell'ordine di inserimento
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!SearchContext.checkpoint(context, i, candidates.size())) {
+                return false;
+            }
+            int ordinal = candidates.get(i);
+            if (matches(index, ordinal, normalizedQuery) && !visitor.visit(ordinal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Conta i titoli che contengono la query senza costruire la lista dei risultati.</p>
+     */
+    @Override
+    public int count(List<LibraryItem> items, String query) {
+        // Validazione iniziale: query nulla o vuota
+        if (query == null || query.trim().isEmpty()) {
+            return 0;
+        }
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return 0;
+        }
+
+        int count = 0;
+        for (LibraryItem item : items) {
+            String title = SearchKeys.forItem(item).getNormalizedTitle();
+            if (title != null && title.contains(normalizedQuery)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Normalizza ogni query una sola volta e confronta ciascun titolo con
+     * tutte le query in un'unica scansione della collezione.</p>
+     */
+    @Override
+    public Map<String, List<LibraryItem>> searchAll(List<LibraryItem> items, Collection<String> queries) {
+        // Query distinte in forma normalizzata (le query non valide non hanno risultati)
+        Map<String, List<LibraryItem>> matchesByQuery = new LinkedHashMap<>();
+        for (String query : queries) {
+            String normalizedQuery = normalizeForSearch(query);
+            if (normalizedQuery != null) {
+                matchesByQuery.putIfAbsent(normalizedQuery, new ArrayList<>());
+            }
+        }
+
+        // Un'unica scansione dei titoli per tutte le query
+        if (!matchesByQuery.isEmpty()) {
+            for (LibraryItem item : items) {
+                String title = SearchKeys.forItem(item).getNormalizedTitle();
+                if (title == null) {
+                    continue;
+                }
+                for (Map.Entry<String, List<LibraryItem>> entry : matchesByQuery.entrySet()) {
+                    if (title.contains(entry.getKey())) {
+                        entry.getValue().add(item);
+                    }
+                }
+            }
+        }
+
+        // Composizione dei risultati nell'ordine delle query
+        Map<String, List<LibraryItem>> results = new LinkedHashMap<>();
+        for (String query : queries) {
+            if (!results.containsKey(query)) {
+                String normalizedQuery = normalizeForSearch(query);
+                List<LibraryItem> matches = normalizedQuery != null ? matchesByQuery.get(normalizedQuery) : List.of();
+                results.put(query, new ArrayList<>(matches));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Normalizza una query, scartando quelle che non possono avere risultati.
+     *
+     * @param query la stringa di ricerca
+     * @return la query normalizzata, oppure {@code null} se nulla, vuota o
+     *         composta da soli segni diacritici
+     */
+    private static String normalizeForSearch(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return null;
+        }
+        String normalizedQuery = TextNormalizer.normalize(query);
+        return normalizedQuery.isEmpty() ? null : normalizedQuery;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ogni titolo viene confrontato con la query indipendentemente dagli altri.</p>
+     */
+    @Override
+    public boolean isElementWise() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>La chiave è il titolo normalizzato della query: le query che differiscono
+     * solo per maiuscole o segni diacritici condividono i risultati.</p>
+     */
+    @Override
+    public String cacheKey(String query) {
+        return query == null ? null : "title:" + TextNormalizer.normalize(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Una query normalizzata lunga quanto un trigramma coincide con il suo
+     * unico trigramma: la posting list contiene esattamente i titoli che la
+     * contengono e il conteggio è la sua dimensione, senza alcuna verifica.
+     * Negli altri casi vengono contati i candidati verificati.</p>
+     */
+    @Override
+    public int count(LibraryIndex index, String query) {
+        if (query != null && !query.trim().isEmpty()) {
+            String normalizedQuery = TextNormalizer.normalize(query);
+            if (normalizedQuery.length() == index.getTitleTrigrams().getGramLength()) {
+                return index.getTitleTrigrams().candidates(normalizedQuery).size();
+            }
+        }
+        return IndexedSearchStrategy.super.count(index, query);
+    }
+
+    /**
+     * Verifica se il titolo normalizzato di un elemento contiene la query.
+     *
+     * @param index l'indice della biblioteca
+     * @param ordinal l'ordinale dell'elemento
+     * @param normalizedQuery la query già normalizzata
+     * @return {@code true} se il titolo contiene la query
+     */
+    private boolean matches(LibraryIndex index, int ordinal, String normalizedQuery) {
+        String title = index.getNormalizedTitle(ordinal);
+        return title != null && title.contains(normalizedQuery);
+    }
+}
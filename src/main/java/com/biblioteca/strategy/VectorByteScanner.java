@@ -0,0 +1,56 @@
+package com.biblioteca.strategy;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Ricerca SIMD di una sequenza di byte basata sulla Vector API.
+ *
+ * <p>Applica il filtro sul primo e sull'ultimo byte a un intero vettore di
+ * posizioni di partenza per volta: due caricamenti, due confronti e un AND
+ * producono la maschera delle posizioni candidate, verificate poi una per
+ * una. Le posizioni finali che non riempiono un vettore vengono gestite da
+ * {@link ScalarByteScanner}.</p>
+ *
+ * <p>Questa classe è l'unica a dipendere dal modulo incubator
+ * {@code jdk.incubator.vector}: viene caricata solo se il modulo è presente
+ * (opzione {@code --add-modules jdk.incubator.vector}).</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+final class VectorByteScanner implements ByteScanner {
+
+    /** Forma vettoriale preferita dalla piattaforma */
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    /** Implementazione scalare per le posizioni residue */
+    private final ScalarByteScanner tail = new ScalarByteScanner();
+
+    @Override
+    public int indexOf(byte[] text, byte[] pattern, int from, int to) {
+        int lastStart = to - pattern.length;
+        int lanes = SPECIES.length();
+        ByteVector first = ByteVector.broadcast(SPECIES, pattern[0]);
+        ByteVector last = ByteVector.broadcast(SPECIES, pattern[pattern.length - 1]);
+
+        int i = from;
+        // Ogni iterazione valuta le posizioni di partenza da i a i + lanes - 1
+        for (; i + lanes - 1 <= lastStart; i += lanes) {
+            long candidates = ByteVector.fromArray(SPECIES, text, i).eq(first)
+                    .and(ByteVector.fromArray(SPECIES, text, i + pattern.length - 1).eq(last))
+                    .toLong();
+            // Verifica delle sole posizioni in cui primo e ultimo byte coincidono
+            while (candidates != 0) {
+                int position = i + Long.numberOfTrailingZeros(candidates);
+                if (ScalarByteScanner.matchesAt(text, pattern, position)) {
+                    return position;
+                }
+                candidates &= candidates - 1;
+            }
+        }
+        // Posizioni residue, troppo poche per un vettore
+        return tail.indexOf(text, pattern, i, to);
+    }
+}
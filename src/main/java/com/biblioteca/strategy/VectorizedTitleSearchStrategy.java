@@ -0,0 +1,190 @@
+package com.biblioteca.strategy;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.index.OrdinalVisitor;
+import com.biblioteca.index.PostingList;
+import com.biblioteca.index.TitleArena;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Strategia di ricerca per titolo con scansione vettorizzata dei byte.
+ *
+ * <p>Alternativa a {@link TitleSearchStrategy} per le scansioni non
+ * indicizzate di collezioni molto grandi: restituisce gli stessi risultati,
+ * nello stesso ordine, ma invece di consultare gli indici dei token e dei
+ * trigrammi cerca la query in tutti i titoli normalizzati, memorizzati in
+ * Latin-1 in un unico array di byte ({@link TitleArena}).</p>
+ *
+ * <p><strong>Algoritmo di confronto:</strong></p>
+ * <ul>
+ *   <li><strong>Filtro SIMD:</strong> Con il modulo {@code jdk.incubator.vector}
+ *       disponibile, il primo e l'ultimo byte della query vengono confrontati
+ *       con un intero vettore di posizioni per istruzione</li>
+ *   <li><strong>Fallback scalare:</strong> Senza il modulo viene applicato lo
+ *       stesso filtro una posizione alla volta</li>
+ *   <li><strong>Un'occorrenza per titolo:</strong> Trovata un'occorrenza, la
+ *       scansione riprende dall'inizio del titolo successivo</li>
+ *   <li><strong>Titoli non Latin-1:</strong> I titoli con caratteri oltre U+00FF
+ *       vengono confrontati come stringhe</li>
+ * </ul>
+ *
+ * <p>La ricerca su liste arbitrarie ({@link #search(java.util.List, String)})
+ * è ereditata da {@link TitleSearchStrategy}: su titoli brevi e separati il
+ * confronto fra stringhe, già ottimizzato dalla JVM, è altrettanto veloce; il
+ * vantaggio della scansione vettorizzata deriva dalla memoria contigua.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class VectorizedTitleSearchStrategy extends TitleSearchStrategy {
+
+    /** Nome del modulo incubator della Vector API */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /** Algoritmo di confronto selezionato all'avvio */
+    private static final ByteScanner SCANNER = selectScanner();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Scandisce in un'unica passata i byte di tutti i titoli, scartando le
+     * occorrenze a cavallo di due titoli. I titoli non rappresentabili in
+     * Latin-1 vengono verificati come stringhe e restituiti nella loro
+     * posizione, così che l'ordine dei risultati resti quello di inserimento.</p>
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor) {
+        return scanMatches(index, query, visitor, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>La scansione vettorizzata procede a blocchi di
+     * {@value SearchContext#CHECK_INTERVAL} titoli e consulta il contesto
+     * prima di ogni blocco: anche la scansione completa dei byte si ferma
+     * all'annullamento o all'esaurimento del budget.</p>
+     */
+    @Override
+    public boolean forEachMatch(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        return scanMatches(index, query, visitor, context);
+    }
+
+    /**
+     * Scandisce i titoli che contengono la query, consultando il contesto se presente.
+     *
+     * @param index l'indice della biblioteca
+     * @param query la stringa di ricerca per il titolo
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @param context il contesto della ricerca, oppure {@code null} se non limitata
+     * @return {@code true} se la visita è stata completata
+     */
+    private boolean scanMatches(LibraryIndex index, String query, OrdinalVisitor visitor,
+            SearchContext context) {
+        // Validazione iniziale: query nulla o vuota
+        if (query == null || query.trim().isEmpty()) {
+            return true;
+        }
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return true;
+        }
+
+        TitleArena arena = index.getTitleArena();
+        PostingList nonLatin1 = arena.getNonLatin1();
+        int nextNonLatin1 = 0;
+        byte[] pattern = TextNormalizer.toLatin1(normalizedQuery);
+
+        // Una query non Latin-1 può comparire solo nei titoli non Latin-1
+        if (pattern != null) {
+            byte[] bytes = arena.getBytes();
+            int titles = arena.size();
+            // Senza contesto un unico blocco: nessuna interruzione della scansione
+            int blockSize = context == null ? Math.max(titles, 1) : SearchContext.CHECK_INTERVAL;
+            for (int block = 0; block < titles; block += blockSize) {
+                if (!SearchContext.checkpoint(context, block, titles)) {
+                    return false;
+                }
+                // I blocchi terminano a fine titolo: nessuna occorrenza valida li attraversa
+                int limit = arena.getEnd(Math.min(block + blockSize, titles) - 1);
+                int ordinal = block;
+                int position = SCANNER.indexOf(bytes, pattern, arena.getStart(block), limit);
+                while (position >= 0) {
+                    // Avanzamento fino al titolo che contiene la posizione
+                    while (arena.getEnd(ordinal) <= position) {
+                        ordinal++;
+                    }
+                    int end = arena.getEnd(ordinal);
+                    if (position + pattern.length > end) {
+                        // Occorrenza a cavallo di due titoli: non è una corrispondenza
+                        position = SCANNER.indexOf(bytes, pattern, position + 1, limit);
+                        continue;
+                    }
+
+                    // Titoli non Latin-1 precedenti, per mantenere l'ordine
+                    for (; nextNonLatin1 < nonLatin1.size() && nonLatin1.get(nextNonLatin1) < ordinal; nextNonLatin1++) {
+                        if (!visitIfContains(index, nonLatin1.get(nextNonLatin1), normalizedQuery, visitor)) {
+                            return false;
+                        }
+                    }
+                    if (!visitor.visit(ordinal)) {
+                        return false;
+                    }
+                    // Ripresa dal titolo successivo
+                    position = SCANNER.indexOf(bytes, pattern, end, limit);
+                }
+            }
+        }
+
+        // Titoli non Latin-1 rimanenti
+        for (; nextNonLatin1 < nonLatin1.size(); nextNonLatin1++) {
+            if (!SearchContext.checkpoint(context, nextNonLatin1, nonLatin1.size())) {
+                return false;
+            }
+            if (!visitIfContains(index, nonLatin1.get(nextNonLatin1), normalizedQuery, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica se il confronto usa le istruzioni SIMD della Vector API.
+     *
+     * @return {@code true} se è attiva l'implementazione vettoriale
+     */
+    public static boolean isVectorized() {
+        return !(SCANNER instanceof ScalarByteScanner);
+    }
+
+    /**
+     * Verifica come stringa il titolo di un elemento e, se corrisponde, lo visita.
+     *
+     * @param index l'indice della biblioteca
+     * @param ordinal l'ordinale dell'elemento
+     * @param normalizedQuery la query normalizzata
+     * @param visitor la callback che riceve gli ordinali corrispondenti
+     * @return {@code false} se la callback ha interrotto la visita
+     */
+    private boolean visitIfContains(LibraryIndex index, int ordinal, String normalizedQuery, OrdinalVisitor visitor) {
+        return !index.getNormalizedTitle(ordinal).contains(normalizedQuery) || visitor.visit(ordinal);
+    }
+
+    /**
+     * Sceglie l'implementazione vettoriale se il modulo della Vector API è disponibile.
+     *
+     * @return l'algoritmo di confronto da utilizzare
+     */
+    private static ByteScanner selectScanner() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return new VectorByteScanner();
+            } catch (LinkageError e) {
+                // Modulo presente ma non utilizzabile: si ripiega sullo scalare
+            }
+        }
+        return new ScalarByteScanner();
+    }
+}
@@ -0,0 +1,79 @@
+package com.biblioteca.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Classe di utilità per il calcolo della distanza di modifica fra stringhe.
+ *
+ * <p>Implementa la distanza di Damerau-Levenshtein: il numero minimo di
+ * inserimenti, cancellazioni, sostituzioni e scambi di caratteri adiacenti
+ * che trasformano una stringa nell'altra ("jvaa" → "java" richiede un solo
+ * scambio).</p>
+ *
+ * <p>Si usa la versione completa dell'algoritmo (Lowrance-Wagner), non
+ * quella ristretta "optimal string alignment": solo la prima rispetta la
+ * disuguaglianza triangolare ed è quindi una metrica, requisito delle
+ * strutture come {@code BkTree} che la usano per escludere interi
+ * sottoalberi.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class EditDistance {
+
+    /**
+     * Costruttore privato: classe di sole funzioni statiche.
+     */
+    private EditDistance() {
+    }
+
+    /**
+     * Calcola la distanza di Damerau-Levenshtein fra due stringhe.
+     *
+     * @param first la prima stringa (non nulla)
+     * @param second la seconda stringa (non nulla)
+     * @return il numero minimo di operazioni di modifica
+     */
+    public static int damerauLevenshtein(String first, String second) {
+        int m = first.length();
+        int n = second.length();
+        if (m == 0 || n == 0) {
+            return Math.max(m, n);
+        }
+
+        // Matrice con una riga e una colonna sentinella di valore "infinito"
+        int infinity = m + n;
+        int[][] d = new int[m + 2][n + 2];
+        d[0][0] = infinity;
+        for (int i = 0; i <= m; i++) {
+            d[i + 1][0] = infinity;
+            d[i + 1][1] = i;
+        }
+        for (int j = 0; j <= n; j++) {
+            d[0][j + 1] = infinity;
+            d[1][j + 1] = j;
+        }
+
+        // Ultima riga in cui compare ciascun carattere della prima stringa
+        Map<Character, Integer> lastRow = new HashMap<>();
+        for (int i = 1; i <= m; i++) {
+            int lastMatchColumn = 0;
+            for (int j = 1; j <= n; j++) {
+                int i1 = lastRow.getOrDefault(second.charAt(j - 1), 0);
+                int j1 = lastMatchColumn;
+                int cost = 1;
+                if (first.charAt(i - 1) == second.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchColumn = j;
+                }
+                d[i + 1][j + 1] = Math.min(
+                        Math.min(d[i][j] + cost, d[i + 1][j] + 1),
+                        Math.min(d[i][j + 1] + 1, d[i1][j1] + (i - i1 - 1) + 1 + (j - j1 - 1)));
+            }
+            lastRow.put(first.charAt(i - 1), i);
+        }
+        return d[m + 1][n + 1];
+    }
+}
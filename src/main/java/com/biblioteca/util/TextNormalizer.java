@@ -0,0 +1,170 @@
+package com.biblioteca.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Classe di utilità per la normalizzazione dei testi usati nella ricerca.
+ *
+ * <p>Questa classe centralizza le regole con cui titoli e query vengono
+ * ricondotti a una forma canonica prima del confronto. Sia le strategie di
+ * ricerca che gli indici devono utilizzare le stesse regole: in caso contrario
+ * un indice potrebbe escludere elementi che una scansione lineare troverebbe.</p>
+ *
+ * <p><strong>Regole applicate:</strong></p>
+ * <ul>
+ *   <li><strong>Case-insensitive:</strong> Il testo viene convertito in minuscolo</li>
+ *   <li><strong>Accent-insensitive:</strong> I segni diacritici vengono rimossi ("Café" → "cafe")</li>
+ *   <li><strong>Token:</strong> Sequenze massimali di lettere o cifre</li>
+ *   <li><strong>Separatori:</strong> Tutti gli altri caratteri (spazi, punteggiatura)</li>
+ *   <li><strong>Identificativi:</strong> Forma canonica composta dalle sole cifre
+ *       e chiave case-insensitive per le corrispondenze esatte</li>
+ *   <li><strong>Byte:</strong> Codifica Latin-1 dei titoli per le scansioni vettorizzate</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class TextNormalizer {
+
+    /**
+     * Normalizza un testo per il confronto case-insensitive e accent-insensitive.
+     *
+     * <p>Il testo viene convertito in minuscolo e scomposto in forma NFD, da cui
+     * vengono eliminati i segni diacritici. I testi composti da soli caratteri
+     * ASCII, il caso più frequente, evitano la scomposizione.</p>
+     *
+     * @param text il testo da normalizzare (può essere nullo)
+     * @return il testo normalizzato, oppure {@code null} se l'input è nullo
+     */
+    public static String normalize(String text) {
+        // Gestione sicura dei valori nulli
+        if (text == null) {
+            return null;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        if (isAscii(lowerCase)) {
+            return lowerCase;
+        }
+
+        // Scomposizione ed eliminazione dei segni diacritici combinanti
+        String decomposed = Normalizer.normalize(lowerCase, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type != Character.NON_SPACING_MARK
+                    && type != Character.COMBINING_SPACING_MARK
+                    && type != Character.ENCLOSING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Verifica se un carattere fa parte di un token.
+     *
+     * <p>I token sono composti da lettere e cifre; ogni altro carattere
+     * è considerato un separatore.</p>
+     *
+     * @param c il carattere da verificare
+     * @return {@code true} se il carattere appartiene a un token
+     */
+    public static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * Estrae le sole cifre decimali (0-9) da un testo.
+     *
+     * <p>Equivale a {@code text.replaceAll("[^0-9]", "")} ma senza compilare
+     * né eseguire un'espressione regolare: è utilizzato per la forma canonica
+     * degli identificativi ISBN/ISSN.</p>
+     *
+     * @param text il testo da cui estrarre le cifre (può essere nullo)
+     * @return le cifre nell'ordine originale, oppure {@code null} se l'input è nullo
+     */
+    public static String digitsOnly(String text) {
+        // Gestione sicura dei valori nulli
+        if (text == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Calcola la chiave case-insensitive di un identificativo.
+     *
+     * <p>Due stringhe hanno la stessa chiave se e solo se
+     * {@link String#equalsIgnoreCase(String)} le considera uguali: ogni
+     * carattere viene convertito in maiuscolo e poi in minuscolo, come nel
+     * confronto eseguito da {@code equalsIgnoreCase}.</p>
+     *
+     * @param id l'identificativo (può essere nullo)
+     * @return la chiave case-insensitive, oppure {@code null} se l'input è nullo
+     */
+    public static String foldCase(String id) {
+        // Gestione sicura dei valori nulli
+        if (id == null) {
+            return null;
+        }
+        char[] folded = new char[id.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(id.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Codifica un testo in Latin-1 (ISO-8859-1), un byte per carattere.
+     *
+     * <p>Usata per le scansioni byte per byte dei titoli normalizzati. A
+     * differenza di {@link String#getBytes(java.nio.charset.Charset)}, che
+     * sostituisce i caratteri non rappresentabili con '?', restituisce
+     * {@code null} se il testo non è interamente codificabile: il confronto
+     * sui byte non sarebbe equivalente a quello sulle stringhe.</p>
+     *
+     * @param text il testo da codificare (può essere nullo)
+     * @return i byte Latin-1 del testo, oppure {@code null} se l'input è nullo
+     *         o contiene caratteri oltre U+00FF
+     */
+    public static byte[] toLatin1(String text) {
+        // Gestione sicura dei valori nulli
+        if (text == null) {
+            return null;
+        }
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            char c = text.charAt(i);
+            if (c > 0xFF) {
+                return null;
+            }
+            bytes[i] = (byte) c;
+        }
+        return bytes;
+    }
+
+    /**
+     * Verifica se un testo è composto da soli caratteri ASCII.
+     *
+     * @param text il testo da verificare
+     * @return {@code true} se tutti i caratteri sono ASCII
+     */
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package com.biblioteca.index;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.AuthorSearchStrategy;
+
+/**
+ * Test suite per l'indice per prefisso degli autori {@link AuthorPrefixIndex}.
+ *
+ * <p>Verifica le corrispondenze sui prefissi di parola, l'esclusione dei
+ * frammenti interni e l'equivalenza dei risultati di
+ * {@link AuthorSearchStrategy} fra indice e scansione lineare.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class AuthorPrefixIndexTest {
+
+    private LibraryIndex index;
+    private AuthorSearchStrategy strategy;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45));
+        index.add(LibraryItemFactory.createBook("978-8806219352", "Cecità", "José Saramago", 280));
+        index.add(LibraryItemFactory.createBook("978-0321356680", "Java Concurrency in Practice", "Brian Goetz", 384));
+        index.add(LibraryItemFactory.createBook("978-0201633610", "Design Patterns", "Erich Gamma", 395));
+
+        strategy = new AuthorSearchStrategy();
+    }
+
+    @Test
+    @DisplayName("Should match prefixes of any word of the author name")
+    void testWordPrefixes() {
+        assertEquals(1, index.getAuthorPrefixes().find("bloch").size());
+        assertEquals(2, index.getAuthorPrefixes().find("jos").size());
+        assertEquals(1, index.getAuthorPrefixes().find("joshua bl").size());
+        assertEquals(0, index.getAuthorPrefixes().find("loch").size());
+        assertEquals(0, index.getAuthorPrefixes().find("").size());
+
+        assertTrue(AuthorPrefixIndex.matches("joshua bloch", "bl"));
+        assertFalse(AuthorPrefixIndex.matches("joshua bloch", "hua"));
+        assertFalse(AuthorPrefixIndex.matches(null, "bl"));
+    }
+
+    @Test
+    @DisplayName("Indexed author search should match linear scan")
+    void testIndexedSearchMatchesLinearScan() {
+        String[] queries = {"Bloch", "jos", "JOSE", "sara", "e", "g", "brian goetz", "goetz brian", "xyz", "  er  "};
+
+        for (String query : queries) {
+            List<LibraryItem> expected = strategy.search(index.getItems(), query);
+            List<LibraryItem> actual = strategy.search(index, query);
+            assertEquals(expected, actual, "Mismatch for query '" + query + "'");
+            assertEquals(expected.size(), strategy.count(index, query), "Count mismatch for query '" + query + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("Should never match magazines or blank queries")
+    void testMagazinesAndBlankQueries() {
+        assertTrue(strategy.search(index.getItems(), "   ").isEmpty());
+        assertTrue(strategy.search(index, null).isEmpty());
+        assertEquals("author:bloch", strategy.cacheKey(" BLOCH "));
+        for (LibraryItem item : strategy.search(index, "j")) {
+            assertEquals("Book", item.getType());
+        }
+    }
+}
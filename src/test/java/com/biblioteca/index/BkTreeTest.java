@@ -0,0 +1,79 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.util.EditDistance;
+
+/**
+ * Test suite per l'albero BK {@link BkTree} e la distanza di Damerau-Levenshtein.
+ *
+ * <p>Verifica i valori della distanza sui casi tipici (scambi, inserimenti,
+ * stringhe vuote) e che la ricerca nell'albero restituisca esattamente i
+ * termini che un confronto con tutto il vocabolario troverebbe.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class BkTreeTest {
+
+    @Test
+    @DisplayName("Should count adjacent transpositions as a single edit")
+    void testDamerauLevenshtein() {
+        assertEquals(0, EditDistance.damerauLevenshtein("java", "java"));
+        assertEquals(1, EditDistance.damerauLevenshtein("jvaa", "java"));
+        assertEquals(1, EditDistance.damerauLevenshtein("efective", "effective"));
+        assertEquals(2, EditDistance.damerauLevenshtein("ca", "abc"));
+        assertEquals(4, EditDistance.damerauLevenshtein("", "code"));
+        assertEquals(3, EditDistance.damerauLevenshtein("kitten", "sitting"));
+    }
+
+    @Test
+    @DisplayName("Should find exactly the terms within the distance")
+    void testSearchMatchesBruteForce() {
+        Random random = new Random(3);
+        BkTree tree = new BkTree();
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String term = randomTerm(random);
+            if (tree.add(term)) {
+                vocabulary.add(term);
+            }
+        }
+        assertEquals(vocabulary.size(), tree.size());
+        assertFalse(tree.add(vocabulary.get(0)));
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomTerm(random);
+            for (int distance = 0; distance <= 2; distance++) {
+                TreeSet<String> expected = new TreeSet<>();
+                for (String term : vocabulary) {
+                    if (EditDistance.damerauLevenshtein(query, term) <= distance) {
+                        expected.add(term);
+                    }
+                }
+                assertEquals(expected, new TreeSet<>(tree.search(query, distance)),
+                        "Mismatch for '" + query + "' within " + distance);
+            }
+        }
+        assertTrue(new BkTree().search("java", 2).isEmpty());
+    }
+
+    private static String randomTerm(Random random) {
+        StringBuilder term = new StringBuilder();
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            term.append((char) ('a' + random.nextInt(5)));
+        }
+        return term.toString();
+    }
+}
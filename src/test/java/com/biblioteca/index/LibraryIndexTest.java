@@ -0,0 +1,76 @@
+package com.biblioteca.index;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.IdSearchStrategy;
+
+/**
+ * Test suite per il contenitore degli indici {@link LibraryIndex}.
+ *
+ * <p>Verifica l'assegnazione degli ordinali e l'accesso diretto per ID
+ * utilizzato dalla fase di corrispondenza esatta di {@link IdSearchStrategy}.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class LibraryIndexTest {
+
+    private LibraryIndex index;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createBook("080442957X", "Java Concurrency", "Brian Goetz", 384));
+        index.add(LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45));
+        index.add(LibraryItemFactory.createBook("080442957x", "Java Concurrency (2nd)", "Brian Goetz", 400));
+    }
+
+    @Test
+    @DisplayName("Should assign ordinals in insertion order")
+    void testOrdinalsFollowInsertionOrder() {
+        assertEquals(4, index.size());
+        assertEquals("Effective Java", index.get(0).getTitle());
+        assertEquals("Java Magazine", index.get(2).getTitle());
+    }
+
+    @Test
+    @DisplayName("Should find ID ignoring case")
+    void testFindByIdIgnoresCase() {
+        PostingList matches = index.findById("080442957X");
+
+        // Entrambi gli ID differiscono solo per la X finale
+        assertEquals(2, matches.size());
+        assertEquals(1, matches.get(0));
+        assertEquals(3, matches.get(1));
+    }
+
+    @Test
+    @DisplayName("Should return empty postings for unknown ID")
+    void testFindUnknownId() {
+        assertTrue(index.findById("000-0000000000").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Exact ID search should match linear scan")
+    void testExactIdSearchMatchesLinearScan() {
+        IdSearchStrategy strategy = new IdSearchStrategy();
+        String[] queries = {"978-0134685991", "080442957x", " 1234-5678 ", "1234-5679", "X"};
+
+        for (String query : queries) {
+            List<LibraryItem> expected = strategy.search(index.getItems(), query);
+            List<LibraryItem> actual = strategy.search(index, query);
+            assertEquals(expected, actual, "Mismatch for query '" + query + "'");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.biblioteca.index;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.IdSearchStrategy;
+import com.biblioteca.strategy.TitleSearchStrategy;
+
+/**
+ * Test suite per l'indice di n-grammi.
+ *
+ * <p>Verifica la generazione dei candidati per frammenti interni a una parola
+ * e per cifre parziali di ISBN/ISSN, e l'equivalenza dei risultati con la
+ * scansione lineare.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class NGramIndexTest {
+
+    private LibraryIndex index;
+    private TitleSearchStrategy strategy;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createBook("123-4567890123", "Java Programming", "John Doe", 300));
+        index.add(LibraryItemFactory.createMagazine("9876-5432", "Programming Weekly", 12));
+        index.add(LibraryItemFactory.createMagazine("1111-2222", "Tech Today", 8));
+
+        strategy = new TitleSearchStrategy();
+    }
+
+    @Test
+    @DisplayName("Should find candidates for a word fragment")
+    void testWordFragmentCandidates() {
+        PostingList candidates = index.getTitleTrigrams().candidates("rogramm");
+
+        assertEquals(2, candidates.size());
+        assertEquals(1, candidates.get(0));
+        assertEquals(2, candidates.get(1));
+    }
+
+    @Test
+    @DisplayName("Fragment search should match linear scan")
+    void testFragmentSearchMatchesLinearScan() {
+        String[] queries = {"rogramm", "ava", "ech t", "eekl", "gram", "zzz", "va p", "ec"};
+
+        for (String query : queries) {
+            List<LibraryItem> expected = strategy.search(index.getItems(), query);
+            List<LibraryItem> actual = strategy.search(index, query);
+            assertEquals(expected, actual, "Mismatch for query '" + query + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("Partial ID search should match linear scan")
+    void testPartialIdSearchMatchesLinearScan() {
+        IdSearchStrategy idStrategy = new IdSearchStrategy();
+        String[] queries = {"134", "1234", "987", "978-013", "abc123def456", "12", "999", "1111-2222"};
+
+        for (String query : queries) {
+            List<LibraryItem> expected = idStrategy.search(index.getItems(), query);
+            List<LibraryItem> actual = idStrategy.search(index, query);
+            assertEquals(expected, actual, "Mismatch for query '" + query + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("Should find digit candidates across separators")
+    void testDigitCandidatesAcrossSeparators() {
+        // "9876-5432" diventa "98765432": "765" attraversa il trattino
+        PostingList candidates = index.getIdDigitTrigrams().candidates("765");
+
+        assertEquals(1, candidates.size());
+        assertEquals("98765432", index.getIdDigits(candidates.get(0)));
+    }
+
+    @Test
+    @DisplayName("Queries shorter than a gram should not use the index")
+    void testShortQuery() {
+        assertNull(index.getTitleTrigrams().candidates("ja"));
+    }
+
+    @Test
+    @DisplayName("Missing gram should produce empty candidates")
+    void testMissingGram() {
+        assertTrue(index.getTitleTrigrams().candidates("javx").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported gram lengths")
+    void testInvalidGramLength() {
+        assertThrows(IllegalArgumentException.class, () -> new NGramIndex(0));
+        assertThrows(IllegalArgumentException.class, () -> new NGramIndex(5));
+    }
+}
@@ -0,0 +1,102 @@
+package com.biblioteca.index;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite per la bitmap compressa {@link RoaringBitmap}.
+ *
+ * <p>Verifica inserimenti e rimozioni in ordine arbitrario, le conversioni
+ * fra contenitori array e bitmap oltre la soglia di 4.096 valori e
+ * l'intersezione con altre bitmap e con le posting list, confrontando i
+ * risultati con un {@link TreeSet} di riferimento.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class RoaringBitmapTest {
+
+    @Test
+    @DisplayName("Should add, remove and test ordinals in any order")
+    public void testAddRemoveContains() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.add(70_000));
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(6));
+        assertEquals(2, bitmap.getCardinality());
+
+        assertTrue(bitmap.remove(70_000));
+        assertFalse(bitmap.remove(70_000));
+        assertEquals(1, bitmap.getCardinality());
+        assertTrue(bitmap.remove(5));
+        assertTrue(bitmap.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    @DisplayName("Should convert dense blocks to bitmaps and back")
+    public void testContainerConversions() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // Blocco denso: oltre la soglia dei contenitori array
+        for (int ordinal = 0; ordinal < 10_000; ordinal++) {
+            bitmap.add(ordinal);
+            expected.add(ordinal);
+        }
+        assertEquals(10_000, bitmap.getCardinality());
+
+        // Rimozione fino a ridiscendere sotto la soglia
+        for (int ordinal = 0; ordinal < 10_000; ordinal += 2) {
+            bitmap.remove(ordinal);
+            expected.remove(ordinal);
+        }
+        assertSameOrdinals(expected, bitmap.toPostingList());
+        assertFalse(bitmap.contains(4_000));
+        assertTrue(bitmap.contains(4_001));
+    }
+
+    @Test
+    @DisplayName("Should intersect with bitmaps and posting lists like a set")
+    public void testIntersections() {
+        Random random = new Random(42);
+        RoaringBitmap first = new RoaringBitmap();
+        RoaringBitmap second = new RoaringBitmap();
+        TreeSet<Integer> firstSet = new TreeSet<>();
+        TreeSet<Integer> secondSet = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Primo insieme denso sui primi blocchi, secondo sparso su più blocchi
+            int dense = random.nextInt(100_000);
+            int sparse = random.nextInt(400_000);
+            first.add(dense);
+            firstSet.add(dense);
+            second.add(sparse);
+            secondSet.add(sparse);
+        }
+
+        TreeSet<Integer> expected = new TreeSet<>(firstSet);
+        expected.retainAll(secondSet);
+        assertSameOrdinals(expected, RoaringBitmap.and(first, second).toPostingList());
+        assertSameOrdinals(expected, first.and(second.toPostingList()));
+        assertSameOrdinals(firstSet, RoaringBitmap.and(first, first).toPostingList());
+    }
+
+    private static void assertSameOrdinals(TreeSet<Integer> expected, PostingList actual) {
+        assertEquals(expected.size(), actual.size());
+        int i = 0;
+        for (int ordinal : expected) {
+            assertEquals(ordinal, actual.get(i++));
+        }
+    }
+}
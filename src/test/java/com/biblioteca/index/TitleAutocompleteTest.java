@@ -0,0 +1,91 @@
+package com.biblioteca.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.util.TextNormalizer;
+
+/**
+ * Test suite per i suggerimenti di completamento dei titoli {@link TitleAutocomplete}.
+ *
+ * <p>Verifica la corrispondenza per prefisso case-insensitive e
+ * accent-insensitive, l'ordinamento per popolarità e l'esattezza delle
+ * classifiche mantenute in modo incrementale, confrontandole con un
+ * ordinamento completo dei titoli.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class TitleAutocompleteTest {
+
+    @Test
+    @DisplayName("Should suggest titles by prefix, most popular first")
+    void testSuggestByPrefix() throws InvalidDataException {
+        List<LibraryItem> items = List.of(
+                LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416),
+                LibraryItemFactory.createBook("978-0321356680", "Java Concurrency in Practice", "Brian Goetz", 384),
+                LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45),
+                LibraryItemFactory.createMagazine("1234-5679", "Java Magazine", 46),
+                LibraryItemFactory.createMagazine("2345-6789", "Città e Società", 12));
+        TitleAutocomplete autocomplete = TitleAutocomplete.build(items);
+
+        assertEquals(List.of("Java Magazine", "Java Concurrency in Practice"), autocomplete.suggest("JAV", 5));
+        assertEquals(List.of("Java Magazine"), autocomplete.suggest("java", 1));
+        assertEquals(List.of("Città e Società"), autocomplete.suggest("citta", 5));
+        assertEquals(List.of("Effective Java"), autocomplete.suggest("  eff", 5));
+        assertTrue(autocomplete.suggest("javascript", 5).isEmpty());
+        assertEquals(4, autocomplete.size());
+        assertThrows(IllegalArgumentException.class, () -> autocomplete.suggest("java", 0));
+    }
+
+    @Test
+    @DisplayName("Incremental rankings should match a full sort")
+    void testIncrementalRankingsMatchFullSort() {
+        Random random = new Random(7);
+        String[] words = {"java", "jav", "ja", "data", "database", "design", "des", "clean", "code"};
+        TitleAutocomplete autocomplete = new TitleAutocomplete();
+        Map<String, Long> weights = new HashMap<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            if (random.nextBoolean()) {
+                title += " " + random.nextInt(30);
+            }
+            autocomplete.add(title);
+            weights.merge(title, 1L, Long::sum);
+
+            if (i % 50 == 0) {
+                for (String prefix : List.of("", "j", "ja", "java ", "d", "des", "database c", "clean code 1", "x")) {
+                    assertEquals(expected(weights, prefix), autocomplete.suggest(prefix, TitleAutocomplete.MAX_SUGGESTIONS),
+                            "Mismatch for prefix '" + prefix + "'");
+                }
+            }
+        }
+    }
+
+    private static List<String> expected(Map<String, Long> weights, String prefix) {
+        List<String> titles = new ArrayList<>();
+        for (String title : weights.keySet()) {
+            if (TextNormalizer.normalize(title).startsWith(prefix)) {
+                titles.add(title);
+            }
+        }
+        titles.sort(Comparator.comparingLong((String title) -> weights.get(title)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        return titles.subList(0, Math.min(TitleAutocomplete.MAX_SUGGESTIONS, titles.size()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.biblioteca.index;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.TitleSearchStrategy;
+
+/**
+ * Test suite per l'indice invertito dei titoli.
+ *
+ * <p>Verifica che la ricerca per titolo eseguita tramite {@link TitleTokenIndex}
+ * restituisca esattamente gli stessi risultati, nello stesso ordine, della
+ * scansione lineare di {@link TitleSearchStrategy}.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class TitleTokenIndexTest {
+
+    private LibraryIndex index;
+    private TitleSearchStrategy strategy;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createBook("978-0596009205", "Head First Design Patterns", "Eric Freeman", 694));
+        index.add(LibraryItemFactory.createBook("123-4567890123", "Java Programming", "John Doe", 300));
+        index.add(LibraryItemFactory.createBook("987-6543210987", "Advanced JavaScript", "Jane Smith", 500));
+        index.add(LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45));
+        index.add(LibraryItemFactory.createMagazine("9876-5432", "Programming Weekly", 12));
+        index.add(LibraryItemFactory.createMagazine("1111-2222", "C++ Programming: Tips & Tricks", 8));
+
+        strategy = new TitleSearchStrategy();
+    }
+
+    @Test
+    @DisplayName("Indexed title search should match linear scan")
+    void testIndexedSearchMatchesLinearScan() {
+        String[] queries = {"Java", "java prog", "ript", "ng wee", "c++", "programming:", " java",
+                "design patterns", "First Design", "effective java", "xyz", "a", ": t", "++ p"};
+
+        for (String query : queries) {
+            List<LibraryItem> expected = strategy.search(index.getItems(), query);
+            List<LibraryItem> actual = strategy.search(index, query);
+            assertEquals(expected, actual, "Mismatch for query '" + query + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("Interior tokens should be resolved as exact postings")
+    void testInteriorTokensUseExactPostings() {
+        PostingList candidates = index.getTitleTokens().candidates("head first design patterns");
+
+        assertEquals(1, candidates.size());
+        assertEquals(1, candidates.get(0));
+    }
+
+    @Test
+    @DisplayName("Trailing token should be resolved as prefix")
+    void testTrailingTokenIsPrefix() {
+        PostingList candidates = index.getTitleTokens().candidates(" java");
+
+        // "Effective Java", "Java Programming", "Advanced JavaScript", "Java Magazine"
+        assertEquals(4, candidates.size());
+    }
+
+    @Test
+    @DisplayName("Query without tokens should not use the index")
+    void testQueryWithoutTokens() {
+        assertNull(index.getTitleTokens().candidates("++"));
+        assertEquals(1, strategy.search(index, "++").size());
+    }
+
+    @Test
+    @DisplayName("Missing token should produce empty candidates")
+    void testMissingToken() {
+        assertTrue(index.getTitleTokens().candidates("java missing programming").isEmpty());
+    }
+}
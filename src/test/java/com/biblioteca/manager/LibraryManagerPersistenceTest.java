@@ -0,0 +1,315 @@
+package com.biblioteca.manager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.biblioteca.exceptions.BookNotFoundException;
+import com.biblioteca.exceptions.LibraryException;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.persistence.SnapshotRecord;
+import com.biblioteca.persistence.WriteAheadLog;
+import com.biblioteca.query.Query;
+
+/**
+ * Test suite per la persistenza del {@link LibraryManager}.
+ *
+ * <p>Ogni test usa un'istanza nuova del manager, con i file di persistenza
+ * in una directory temporanea, e verifica lo stato dopo un nuovo
+ * caricamento come farebbe un riavvio dell'applicazione.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class LibraryManagerPersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private LibraryManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        manager = newManager();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeLog(manager);
+    }
+
+    @Test
+    @DisplayName("Should log availability changes before applying them")
+    void testAvailabilityWriteAhead() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+        LibraryItem book = manager.findById("978-0134685991");
+
+        book.setAvailable(false);
+        assertEquals(List.of(book), manager.search(Query.available(false)));
+
+        // Log non più scrivibile: il cambio viene rifiutato e lo stato resta invariato
+        closeLog(manager);
+        assertThrows(UncheckedIOException.class, () -> book.setAvailable(true));
+        assertFalse(book.isAvailable());
+        assertEquals(List.of(book), manager.search(Query.available(false)));
+        assertTrue(manager.search(Query.available(true)).isEmpty());
+
+        // Solo il cambio registrato sopravvive al riavvio
+        LibraryManager reloaded = reload();
+        assertFalse(reloaded.findById("978-0134685991").isAvailable());
+    }
+
+    @Test
+    @DisplayName("Should reload the checkpointed state with an empty log")
+    void testCheckpointAndReload() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+        manager.addMagazine("1234-5678", "Java Magazine", 45);
+        manager.findById("1234-5678").setAvailable(false);
+
+        manager.checkpoint();
+
+        assertTrue(Files.exists(directory.resolve("library.dat")));
+        assertEquals(0, Files.size(directory.resolve("library.wal")));
+        assertFalse(Files.exists(directory.resolve("library.wal.old")));
+
+        LibraryManager reloaded = reload();
+        assertEquals(2, reloaded.getTotalItems());
+        assertTrue(reloaded.findById("978-0134685991").isAvailable());
+        assertFalse(reloaded.findById("1234-5678").isAvailable());
+    }
+
+    @Test
+    @DisplayName("Should replay a rotated log segment left by an interrupted checkpoint")
+    void testLeftoverRotatedSegment() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+        manager.checkpoint();
+        manager.addBook("978-0596009205", "Head First Design Patterns", "Eric Freeman", 694);
+        manager.findById("978-0134685991").setAvailable(false);
+
+        // Interruzione dopo la rotazione del log, prima della scrittura dello snapshot
+        closeLog(manager);
+        Files.move(directory.resolve("library.wal"), directory.resolve("library.wal.old"));
+
+        LibraryManager reloaded = reload();
+        assertEquals(2, reloaded.getTotalItems());
+        assertFalse(reloaded.findById("978-0134685991").isAvailable());
+
+        // Le modifiche successive proseguono sul log nuovo, ripetuto dopo il segmento chiuso
+        reloaded.addMagazine("1234-5678", "Java Magazine", 45);
+        reloaded.findById("978-0134685991").setAvailable(true);
+        reloaded = reload();
+        assertEquals(3, reloaded.getTotalItems());
+        assertTrue(reloaded.findById("978-0134685991").isAvailable());
+        assertTrue(Files.exists(directory.resolve("library.wal.old")));
+    }
+
+    @Test
+    @DisplayName("Should write the snapshot and reset the log when a rotated segment is pending")
+    void testCheckpointWithPendingSegment() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+        closeLog(manager);
+        Files.move(directory.resolve("library.wal"), directory.resolve("library.wal.old"));
+
+        LibraryManager reloaded = reload();
+        reloaded.addMagazine("1234-5678", "Java Magazine", 45);
+
+        // Il segmento chiuso impedisce la rotazione: snapshot e reset del log a modifiche sospese
+        reloaded.checkpoint();
+
+        assertFalse(Files.exists(directory.resolve("library.wal.old")));
+        assertEquals(0, Files.size(directory.resolve("library.wal")));
+
+        reloaded.addBook("978-0596009205", "Head First Design Patterns", "Eric Freeman", 694);
+        reloaded = reload();
+        assertEquals(3, reloaded.getTotalItems());
+    }
+
+    @Test
+    @DisplayName("Should keep changes made while the snapshot is being written")
+    void testChangesDuringCheckpoint() throws Exception {
+        manager.loadFromFile();
+        List<SnapshotRecord> records = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            records.add(new SnapshotRecord.BookEntry("ISBN-" + i, "Titolo " + i, "Autore " + i, 100, true));
+        }
+        manager.addItems(records);
+
+        // Modifiche concorrenti alla scrittura dello snapshot, che avviene senza lock
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> checkpoint = executor.submit(() -> {
+                manager.checkpoint();
+                return null;
+            });
+            for (int i = 0; i < 200; i++) {
+                manager.addBook("EXTRA-" + i, "Extra " + i, "Autore", 50);
+                manager.findById("ISBN-" + i).setAvailable(false);
+            }
+            checkpoint.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        LibraryManager reloaded = reload();
+        assertEquals(20_200, reloaded.getTotalItems());
+        for (int i = 0; i < 200; i++) {
+            assertFalse(reloaded.findById("ISBN-" + i).isAvailable());
+            assertEquals("Extra " + i, reloaded.findById("EXTRA-" + i).getTitle());
+        }
+        assertTrue(reloaded.findById("ISBN-200").isAvailable());
+    }
+
+    @Test
+    @DisplayName("Should skip duplicate and invalid records in a bulk addition")
+    void testAddItemsDuplicatesAndRejected() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+
+        int added = manager.addItems(Arrays.asList(
+                new SnapshotRecord.BookEntry("978-0134685991", "Duplicato", "Joshua Bloch", 100, false),
+                new SnapshotRecord.BookEntry("978-0596009205", "Head First Design Patterns", "Eric Freeman", 694, true),
+                new SnapshotRecord.BookEntry("978-0596009205", "Ripetuto nel gruppo", "Eric Freeman", 10, true),
+                new SnapshotRecord.BookEntry("", "Senza ISBN", "Autore", 10, true),
+                new SnapshotRecord.MagazineEntry("1234-5678", "Java Magazine", 0, true),
+                null,
+                new SnapshotRecord.MagazineEntry("2345-6789", "Linux Journal", 12, false)));
+
+        assertEquals(2, added);
+        assertEquals(3, manager.getTotalItems());
+        assertEquals("Effective Java", manager.findById("978-0134685991").getTitle());
+        assertEquals("Head First Design Patterns", manager.findById("978-0596009205").getTitle());
+        assertThrows(BookNotFoundException.class, () -> manager.findById("1234-5678"));
+    }
+
+    @Test
+    @DisplayName("Should carry the record availability into the index, the log and a reload")
+    void testAddItemsAvailability() throws Exception {
+        manager.loadFromFile();
+        manager.addItems(List.of(
+                new SnapshotRecord.BookEntry("978-0134685991", "Effective Java", "Joshua Bloch", 416, true),
+                new SnapshotRecord.MagazineEntry("2345-6789", "Linux Journal", 12, false)));
+        LibraryItem magazine = manager.findById("2345-6789");
+
+        assertFalse(magazine.isAvailable());
+        assertEquals(List.of(magazine), manager.search(Query.available(false)));
+
+        // Gli elementi aggiunti in blocco notificano il manager come gli altri
+        magazine.setAvailable(true);
+        assertTrue(manager.search(Query.available(false)).isEmpty());
+        magazine.setAvailable(false);
+
+        LibraryManager reloaded = reload();
+        assertEquals(2, reloaded.getTotalItems());
+        assertFalse(reloaded.findById("2345-6789").isAvailable());
+        assertTrue(reloaded.findById("978-0134685991").isAvailable());
+    }
+
+    @Test
+    @DisplayName("Should add nothing when the bulk addition cannot be logged")
+    void testAddItemsLogFailure() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+
+        closeLog(manager);
+        assertThrows(LibraryException.class, () -> manager.addItems(List.of(
+                new SnapshotRecord.BookEntry("978-0596009205", "Head First Design Patterns", "Eric Freeman", 694, true),
+                new SnapshotRecord.MagazineEntry("2345-6789", "Linux Journal", 12, true))));
+
+        assertEquals(1, manager.getTotalItems());
+        assertThrows(BookNotFoundException.class, () -> manager.findById("978-0596009205"));
+        assertThrows(BookNotFoundException.class, () -> manager.findById("2345-6789"));
+        assertTrue(manager.search(Query.title("Linux")).isEmpty());
+
+        LibraryManager reloaded = reload();
+        assertEquals(1, reloaded.getTotalItems());
+    }
+
+    @Test
+    @DisplayName("Should publish snapshot items through the bulk path with indexes and listeners")
+    void testSnapshotLoadThroughBulkPath() throws Exception {
+        manager.loadFromFile();
+        manager.addBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+        manager.addMagazine("2345-6789", "Linux Journal", 12);
+        manager.findById("2345-6789").setAvailable(false);
+        manager.checkpoint();
+
+        LibraryManager reloaded = reload();
+        LibraryItem magazine = reloaded.findById("2345-6789");
+        assertEquals(List.of(magazine), reloaded.search(Query.available(false)));
+        assertEquals(List.of(reloaded.findById("978-0134685991")), reloaded.search(Query.title("effective")));
+        assertEquals(List.of("Effective Java"), reloaded.suggestTitles("Eff", 5));
+
+        // Un elemento dello snapshot registra i cambi come quelli aggiunti singolarmente
+        magazine.setAvailable(true);
+        assertTrue(reloaded.search(Query.available(false)).isEmpty());
+        assertTrue(reload().findById("2345-6789").isAvailable());
+    }
+
+    /**
+     * Crea un'istanza nuova del manager con i file nella directory temporanea.
+     *
+     * @return il manager, non ancora caricato
+     * @throws Exception se il reset del singleton fallisce
+     */
+    private LibraryManager newManager() throws Exception {
+        Field instanceField = LibraryManager.class.getDeclaredField("instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+
+        LibraryManager created = LibraryManager.getInstance();
+        created.setDataDirectory(directory.toString());
+        return created;
+    }
+
+    /**
+     * Simula un riavvio: chiude il log corrente e carica un manager nuovo dagli stessi file.
+     *
+     * @return il manager ricaricato
+     * @throws Exception se il caricamento fallisce
+     */
+    private LibraryManager reload() throws Exception {
+        closeLog(manager);
+        manager = newManager();
+        manager.loadFromFile();
+        return manager;
+    }
+
+    /**
+     * Chiude il log delle modifiche del manager, se aperto.
+     *
+     * @param target il manager
+     * @throws ReflectiveOperationException se il campo non è accessibile
+     * @throws IOException se la chiusura fallisce
+     */
+    private static void closeLog(LibraryManager target) throws ReflectiveOperationException, IOException {
+        Field logField = LibraryManager.class.getDeclaredField("writeAheadLog");
+        logField.setAccessible(true);
+        WriteAheadLog log = (WriteAheadLog) logField.get(target);
+        if (log != null) {
+            log.close();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.biblioteca.manager;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.LibraryException;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.persistence.SnapshotRecord;
+import com.biblioteca.strategy.SearchContext;
+import com.biblioteca.strategy.SearchStrategy;
+import com.biblioteca.strategy.TitleSearchStrategy;
+
+/**
+ * Test suite per le ricerche del {@link LibraryManager}.
+ *
+ * <p>Verifica che le varianti della ricerca (a pagine e asincrone) restituiscano gli
+ * stessi risultati di {@link LibraryManager#search(SearchStrategy, String)},
+ * sia con le strategie indicizzate sia con quelle che scorrono la
+ * collezione, e che condividano la cache dei risultati.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class LibraryManagerSearchTest {
+
+    /** Numero di libri che corrispondono alla query "java" */
+    private static final int JAVA_BOOKS = 10;
+
+    private LibraryManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instanceField = LibraryManager.class.getDeclaredField("instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+        manager = LibraryManager.getInstance();
+
+        for (int i = 0; i < JAVA_BOOKS; i++) {
+            manager.addBook("JAVA-" + i, "Java volume " + i, "Autore", 100 + i);
+            manager.addBook("OTHER-" + i, "Python volume " + i, "Autore", 100 + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return an empty last page when the offset is past the end")
+    void testPageOffsetPastEnd() {
+        for (SearchStrategy strategy : List.of(new TitleSearchStrategy(), new ScanStrategy())) {
+            SearchPage page = manager.searchPage(strategy, "java", JAVA_BOOKS + 5, 3);
+            assertTrue(page.items().isEmpty());
+            assertFalse(page.hasMore());
+
+            page = manager.searchPage(strategy, "java", JAVA_BOOKS, 3);
+            assertTrue(page.items().isEmpty());
+            assertFalse(page.hasMore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not report more results when the page ends exactly at the last match")
+    void testPageExactBoundary() {
+        for (SearchStrategy strategy : List.of(new TitleSearchStrategy(), new ScanStrategy())) {
+            SearchPage last = manager.searchPage(strategy, "java", 5, 5);
+            assertEquals(5, last.items().size());
+            assertFalse(last.hasMore());
+
+            SearchPage whole = manager.searchPage(strategy, "java", 0, JAVA_BOOKS);
+            assertEquals(JAVA_BOOKS, whole.items().size());
+            assertFalse(whole.hasMore());
+
+            SearchPage previous = manager.searchPage(strategy, "java", 4, 5);
+            assertEquals(5, previous.items().size());
+            assertTrue(previous.hasMore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same pages for indexed and scanning strategies")
+    void testPagesMatchAcrossStrategies() {
+        List<LibraryItem> all = manager.search(new TitleSearchStrategy(), "java");
+        assertEquals(JAVA_BOOKS, all.size());
+
+        for (int offset = 0; offset <= JAVA_BOOKS; offset++) {
+            for (int limit = 1; limit <= 4; limit++) {
+                SearchPage indexed = manager.searchPage(new TitleSearchStrategy(), "java", offset, limit);
+                SearchPage scanned = manager.searchPage(new ScanStrategy(), "java", offset, limit);
+                assertEquals(indexed, scanned);
+                assertEquals(all.subList(offset, Math.min(offset + limit, JAVA_BOOKS)), indexed.items());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve scanning pages from the result cache")
+    void testScanPagesUseCache() {
+        ScanStrategy strategy = new ScanStrategy();
+        manager.clearSearchCache();
+
+        SearchPage first = manager.searchPage(strategy, "java", 0, 3);
+        SearchPage second = manager.searchPage(strategy, "java", 3, 3);
+
+        assertEquals(1, strategy.scans.get());
+        assertEquals(1, manager.getSearchCacheStatistics().hits());
+
+        List<LibraryItem> pages = new ArrayList<>(first.items());
+        pages.addAll(second.items());
+        assertEquals(manager.search(strategy, "java").subList(0, 6), pages);
+    }
+
+    @Test
+    @DisplayName("Should complete async searches with the same results as synchronous ones")
+    void testSearchAsyncResults() throws Exception {
+        for (SearchStrategy strategy : List.of(new TitleSearchStrategy(), new ScanStrategy())) {
+            List<LibraryItem> async = manager.searchAsync(strategy, "java").get(10, TimeUnit.SECONDS);
+            assertEquals(manager.search(strategy, "java"), async);
+            assertEquals(manager.search(strategy, "python"),
+                    manager.searchAsync(strategy, "python", Duration.ofSeconds(10)).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop the scan when the async search is cancelled")
+    void testSearchAsyncCancel() throws Exception {
+        addScanItems();
+        BlockingStrategy strategy = new BlockingStrategy();
+
+        CompletableFuture<List<LibraryItem>> future = manager.searchAsync(strategy, "java");
+        assertTrue(strategy.started.await(10, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+        strategy.release.countDown();
+
+        // La scansione termina al punto di controllo successivo al blocco in corso
+        assertTrue(strategy.finished.await(10, TimeUnit.SECONDS));
+        assertEquals(1, strategy.blocks.get());
+        assertTrue(future.isCancelled());
+        assertEquals(0, manager.getSearchCacheStatistics().size());
+    }
+
+    @Test
+    @DisplayName("Should complete the future with a TimeoutException when the search is too slow")
+    void testSearchAsyncTimeout() throws Exception {
+        addScanItems();
+        BlockingStrategy strategy = new BlockingStrategy();
+
+        CompletableFuture<List<LibraryItem>> future =
+                manager.searchAsync(strategy, "java", Duration.ofMillis(50));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof TimeoutException);
+        strategy.release.countDown();
+
+        assertTrue(strategy.finished.await(10, TimeUnit.SECONDS));
+        assertEquals(1, strategy.blocks.get());
+        assertEquals(0, manager.getSearchCacheStatistics().size());
+    }
+
+    @Test
+    @DisplayName("Should not cache interrupted searches")
+    void testInterruptedSearchNotCached() throws Exception {
+        addScanItems();
+        BlockingStrategy strategy = new BlockingStrategy();
+        CompletableFuture<List<LibraryItem>> future = manager.searchAsync(strategy, "java");
+        assertTrue(strategy.started.await(10, TimeUnit.SECONDS));
+        future.cancel(true);
+        strategy.release.countDown();
+        assertTrue(strategy.finished.await(10, TimeUnit.SECONDS));
+
+        // La ricerca successiva scorre di nuovo la collezione e solo allora va in cache
+        int blocks = strategy.blocks.get();
+        List<LibraryItem> results = manager.search(strategy, "java");
+        assertEquals(blocks + 1, strategy.blocks.get());
+        assertEquals(manager.search(new TitleSearchStrategy(), "java"), results);
+        assertEquals(results, manager.search(strategy, "java"));
+        assertEquals(blocks + 1, strategy.blocks.get());
+    }
+
+    /**
+     * Aggiunge elementi sufficienti per più blocchi di scansione.
+     *
+     * @throws LibraryException se l'aggiunta fallisce
+     */
+    private void addScanItems() throws LibraryException {
+        List<SnapshotRecord> records = new ArrayList<>();
+        for (int i = 0; i < 4 * SearchContext.CHECK_INTERVAL; i++) {
+            records.add(new SnapshotRecord.BookEntry("SCAN-" + i, "Java extra " + i, "Autore", 100, true));
+        }
+        manager.addItems(records);
+    }
+
+    /**
+     * Strategia che scorre la collezione senza usare gli indici, con gli
+     * stessi risultati della ricerca per titolo e una propria chiave di cache.
+     */
+    private static final class ScanStrategy implements SearchStrategy {
+
+        private final TitleSearchStrategy delegate = new TitleSearchStrategy();
+
+        /** Numero di scansioni della collezione eseguite */
+        private final AtomicInteger scans = new AtomicInteger();
+
+        @Override
+        public List<LibraryItem> search(List<LibraryItem> items, String query) {
+            scans.incrementAndGet();
+            return delegate.search(items, query);
+        }
+
+        @Override
+        public String cacheKey(String query) {
+            return "scan:" + delegate.cacheKey(query);
+        }
+    }
+
+    /**
+     * Strategia decomponibile che si ferma sul primo blocco finché il test
+     * non la sblocca, per annullare la ricerca mentre è in corso.
+     */
+    private static final class BlockingStrategy implements SearchStrategy {
+
+        private final TitleSearchStrategy delegate = new TitleSearchStrategy();
+
+        /** Segnala l'inizio del primo blocco */
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        /** Sblocca il primo blocco */
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        /** Segnala il termine della ricerca con contesto, completata o interrotta */
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        /** Numero di blocchi esaminati */
+        private final AtomicInteger blocks = new AtomicInteger();
+
+        @Override
+        public List<LibraryItem> search(List<LibraryItem> items, String query) {
+            blocks.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.search(items, query);
+        }
+
+        @Override
+        public List<LibraryItem> search(List<LibraryItem> items, String query, SearchContext context) {
+            try {
+                return SearchStrategy.super.search(items, query, context);
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        @Override
+        public boolean isElementWise() {
+            return true;
+        }
+
+        @Override
+        public String cacheKey(String query) {
+            return "blocking:" + delegate.cacheKey(query);
+        }
+    }
+}
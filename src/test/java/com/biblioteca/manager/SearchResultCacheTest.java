@@ -0,0 +1,122 @@
+package com.biblioteca.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.strategy.IdSearchStrategy;
+import com.biblioteca.strategy.SearchStrategy;
+import com.biblioteca.strategy.TitleSearchStrategy;
+
+/**
+ * Test suite per la cache dei risultati di ricerca {@link SearchResultCache}.
+ *
+ * <p>Verifica la politica LRU, l'invalidazione limitata alle sole voci
+ * interessate da un inserimento o da un cambio di disponibilità e il
+ * conteggio delle statistiche.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class SearchResultCacheTest {
+
+    private List<LibraryItem> items;
+    private SearchStrategy titleStrategy;
+    private SearchStrategy idStrategy;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        items = new ArrayList<>();
+        items.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        items.add(LibraryItemFactory.createBook("978-0132350884", "Clean Code", "Robert Martin", 464));
+        titleStrategy = new TitleSearchStrategy();
+        idStrategy = new IdSearchStrategy();
+        cache = new SearchResultCache(2);
+    }
+
+    @Test
+    @DisplayName("Should share entries between queries with the same normalized form")
+    public void testNormalizedKeys() {
+        assertEquals(titleStrategy.cacheKey("JAVA"), titleStrategy.cacheKey("java"));
+        assertEquals(idStrategy.cacheKey(" 978-0134685991 "), idStrategy.cacheKey("978-0134685991"));
+        assertNull(new SearchStrategy() {
+            @Override
+            public List<LibraryItem> search(List<LibraryItem> list, String query) {
+                return list;
+            }
+        }.cacheKey("java"));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry")
+    public void testLruEviction() {
+        cache.put("a", titleStrategy, "java", List.of());
+        cache.put("b", titleStrategy, "code", List.of());
+        assertNotNull(cache.get("a"));
+        cache.put("c", titleStrategy, "clean", List.of());
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("Should invalidate only entries matching a new item")
+    public void testInvalidationOnAdd() throws InvalidDataException {
+        cache.put("java", titleStrategy, "java", titleStrategy.search(items, "java"));
+        cache.put("code", titleStrategy, "code", titleStrategy.search(items, "code"));
+
+        cache.itemAdded(LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45));
+
+        assertNull(cache.get("java"));
+        assertNotNull(cache.get("code"));
+        assertEquals(1, cache.getStatistics().invalidations());
+    }
+
+    @Test
+    @DisplayName("Should invalidate entries containing an item whose availability changed")
+    public void testInvalidationOnAvailabilityChange() {
+        cache.put("java", titleStrategy, "java", titleStrategy.search(items, "java"));
+        cache.put("code", titleStrategy, "code", titleStrategy.search(items, "code"));
+
+        LibraryItem cleanCode = items.get(1);
+        cleanCode.setAvailable(false);
+        cache.availabilityChanged(cleanCode);
+
+        assertNotNull(cache.get("java"));
+        assertNull(cache.get("code"));
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    public void testStatistics() {
+        cache.put("java", titleStrategy, "java", List.of());
+        cache.get("java");
+        cache.get("java");
+        cache.get("missing");
+
+        SearchResultCache.Statistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.hits());
+        assertEquals(1, statistics.misses());
+        assertEquals(1, statistics.size());
+        assertEquals(2.0 / 3.0, statistics.hitRate());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive capacity")
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchResultCache(0));
+    }
+}
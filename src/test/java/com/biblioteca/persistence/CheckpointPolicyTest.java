@@ -0,0 +1,49 @@
+package com.biblioteca.persistence;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite per le soglie dei checkpoint {@link CheckpointPolicy}.
+ *
+ * <p>Verifica la validazione delle soglie e la decisione di eseguire un
+ * checkpoint: per dimensione del log, oppure per tempo trascorso solo se
+ * il log contiene modifiche.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class CheckpointPolicyTest {
+
+    private final CheckpointPolicy policy = new CheckpointPolicy(1024, Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("Should reject invalid thresholds")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointPolicy(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointPolicy(1024, null));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointPolicy(1024, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointPolicy(1024, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    @DisplayName("Should be due when the log reaches the size threshold")
+    void testSizeThreshold() {
+        assertFalse(policy.isDue(1023, Duration.ZERO));
+        assertTrue(policy.isDue(1024, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should be due after the interval only if the log has changes")
+    void testTimeThreshold() {
+        assertFalse(policy.isDue(1, Duration.ofSeconds(29)));
+        assertTrue(policy.isDue(1, Duration.ofSeconds(30)));
+        assertFalse(policy.isDue(0, Duration.ofHours(1)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.biblioteca.persistence;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite per la lettura parallela {@link MappedTextFile}.
+ *
+ * <p>Verifica che le righe vengano restituite tutte e nell'ordine del file
+ * anche quando il file è diviso in più blocchi, con terminatori
+ * {@code \r\n}, caratteri multi-byte e l'ultima riga senza terminatore.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class MappedTextFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should parse all lines in file order across chunks")
+    void testChunkedParsing() throws IOException {
+        List<String> lines = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        // Più di 3 MB: almeno tre blocchi
+        for (int i = 0; content.length() < 3_500_000; i++) {
+            String line = "Book|ISBN-" + i + "|Città " + "à".repeat(i % 7) + "|" + i;
+            lines.add(line);
+            content.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        // Ultima riga senza terminatore
+        lines.add("Magazine|ISSN-LAST|Ultima|1");
+        content.append("Magazine|ISSN-LAST|Ultima|1");
+        Path path = directory.resolve("library.txt");
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+
+        assertEquals(lines, MappedTextFile.parseLines(path, line -> line, 8));
+        assertEquals(lines, MappedTextFile.parseLines(path, line -> line, 1));
+    }
+
+    @Test
+    @DisplayName("Should skip lines mapped to null and handle empty files")
+    void testFilteringAndEmptyFile() throws IOException {
+        Path path = directory.resolve("library.txt");
+        Files.writeString(path, "uno\n\nignora\ndue\n");
+        assertEquals(List.of("uno", "due"),
+                MappedTextFile.parseLines(path, line -> line.isEmpty() || line.equals("ignora") ? null : line));
+
+        Files.writeString(path, "");
+        assertTrue(MappedTextFile.parseLines(path, line -> line).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should propagate parser failures")
+    void testParserFailure() throws IOException {
+        Path path = directory.resolve("library.txt");
+        Files.writeString(path, "uno\ndue\n");
+        assertThrows(IllegalStateException.class, () -> MappedTextFile.parseLines(path, line -> {
+            throw new IllegalStateException(line);
+        }));
+    }
+}
@@ -0,0 +1,111 @@
+package com.biblioteca.persistence;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.biblioteca.model.Book;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.Magazine;
+
+/**
+ * Test suite per il formato binario degli snapshot {@link SnapshotFile}.
+ *
+ * <p>Verifica la rilettura degli elementi con la disponibilità salvata,
+ * anche quando i record attraversano i confini del buffer, e il rifiuto
+ * di file non validi, troncati o di una versione successiva.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class SnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back books and magazines with their availability")
+    void testWriteAndRead() throws IOException {
+        List<LibraryItem> items = List.of(
+                book("978-0134685991", "Effective Java", "Joshua Bloch", 416),
+                new Magazine("2345-6789", "Città e Società", 12));
+        Path path = directory.resolve("library.dat");
+
+        assertEquals(2, SnapshotFile.write(path, items, new boolean[] {false, true}));
+
+        assertEquals(List.of(
+                new SnapshotRecord.BookEntry("978-0134685991", "Effective Java", "Joshua Bloch", 416, false),
+                new SnapshotRecord.MagazineEntry("2345-6789", "Città e Società", 12, true)), read(path));
+    }
+
+    @Test
+    @DisplayName("Should handle records across buffer boundaries and larger than the buffer")
+    void testLargeSnapshot() throws IOException {
+        List<LibraryItem> items = new ArrayList<>();
+        boolean[] availability = new boolean[5000];
+        for (int i = 0; i < availability.length; i++) {
+            items.add(book("ISBN-" + i, "Titolo " + i, "Autore " + i, i + 1));
+            availability[i] = i % 3 == 0;
+        }
+        // Titolo più grande del buffer di lettura e scrittura
+        String longTitle = "x".repeat(200_000);
+        items.add(2500, new Magazine("ISSN-LONG", longTitle, 7));
+        boolean[] withLong = new boolean[items.size()];
+        System.arraycopy(availability, 0, withLong, 0, 2500);
+        withLong[2500] = true;
+        System.arraycopy(availability, 2500, withLong, 2501, availability.length - 2500);
+        Path path = directory.resolve("library.dat");
+
+        SnapshotFile.write(path, items, withLong);
+        List<SnapshotRecord> records = read(path);
+
+        assertEquals(items.size(), records.size());
+        assertEquals(new SnapshotRecord.MagazineEntry("ISSN-LONG", longTitle, 7, true), records.get(2500));
+        assertEquals(new SnapshotRecord.BookEntry("ISBN-4999", "Titolo 4999", "Autore 4999", 5000, false),
+                records.get(records.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid, newer or truncated snapshots")
+    void testInvalidFiles() throws IOException {
+        Path path = directory.resolve("library.dat");
+        Files.writeString(path, "Book|978-0134685991|Effective Java|Joshua Bloch|416|true\n");
+        assertThrows(IOException.class, () -> read(path));
+
+        SnapshotFile.write(path, List.of(book("978-0134685991", "Effective Java", "Joshua Bloch", 416)),
+                new boolean[] {true});
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(4);
+            file.writeInt(99);
+        }
+        assertThrows(IOException.class, () -> read(path));
+
+        SnapshotFile.write(path, List.of(book("978-0134685991", "Effective Java", "Joshua Bloch", 416)),
+                new boolean[] {true});
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 2);
+        }
+        assertThrows(IOException.class, () -> read(path));
+    }
+
+    private static Book book(String isbn, String title, String author, int pages) {
+        return new Book.BookBuilder().setIsbn(isbn).setTitle(title).setAuthor(author).setPages(pages).build();
+    }
+
+    private static List<SnapshotRecord> read(Path path) throws IOException {
+        List<SnapshotRecord> records = new ArrayList<>();
+        int count = SnapshotFile.read(path, records::add);
+        assertEquals(records.size(), count);
+        return records;
+    }
+}
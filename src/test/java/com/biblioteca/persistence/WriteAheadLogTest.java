@@ -0,0 +1,297 @@
+package com.biblioteca.persistence;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite per il log delle scritture {@link WriteAheadLog}.
+ *
+ * <p>Verifica la rilettura dei record nell'ordine di aggiunta e il recupero
+ * dopo un'interruzione: un record incompleto o corrotto in coda viene
+ * scartato e le aggiunte successive proseguono dall'ultimo record integro.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static final List<LogRecord> RECORDS = List.of(
+            new LogRecord.AddBook("978-0134685991", "Effective Java", "Joshua Bloch", 416),
+            new LogRecord.AddMagazine("2345-6789", "Città e Società", 12),
+            new LogRecord.Availability("978-0134685991", false),
+            new LogRecord.Availability("2345-6789", true));
+
+    @Test
+    @DisplayName("Should replay appended records in order")
+    void testAppendAndReplay() throws IOException {
+        Path path = directory.resolve("data").resolve("library.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            for (LogRecord record : RECORDS) {
+                log.append(record);
+            }
+            log.sync();
+            assertThrows(IllegalArgumentException.class, () -> log.append(null));
+        }
+
+        assertEquals(RECORDS, replay(path));
+
+        // Le aggiunte dopo una riapertura seguono i record esistenti
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            log.append(new LogRecord.Availability("2345-6789", false));
+        }
+        assertEquals(RECORDS.size() + 1, replay(path).size());
+        assertEquals(0, WriteAheadLog.replay(directory.resolve("missing.wal"), record -> { }));
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the end of the log")
+    void testTornTail() throws IOException {
+        Path path = directory.resolve("library.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            for (LogRecord record : RECORDS) {
+                log.append(record);
+            }
+        }
+        long fullLength = Files.size(path);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(fullLength - 3);
+        }
+
+        assertEquals(RECORDS.subList(0, RECORDS.size() - 1), replay(path));
+        long validLength = Files.size(path);
+
+        // Il record successivo viene aggiunto dopo l'ultimo record integro
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            assertEquals(validLength, log.size());
+            log.append(RECORDS.get(RECORDS.size() - 1));
+        }
+        assertEquals(RECORDS, replay(path));
+        assertEquals(fullLength, Files.size(path));
+    }
+
+    @Test
+    @DisplayName("Should stop at a record with a wrong checksum")
+    void testCorruptedRecord() throws IOException {
+        Path path = directory.resolve("library.wal");
+        long secondRecord;
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            log.append(RECORDS.get(0));
+            secondRecord = log.size();
+            log.append(RECORDS.get(1));
+            log.append(RECORDS.get(2));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            // Primo byte del contenuto del secondo record, dopo lunghezza e checksum
+            file.seek(secondRecord + 8);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        assertEquals(RECORDS.subList(0, 1), replay(path));
+        assertEquals(secondRecord, Files.size(path));
+    }
+
+    @Test
+    @DisplayName("Reset should empty the log")
+    void testReset() throws IOException {
+        Path path = directory.resolve("library.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            log.append(RECORDS.get(0));
+            log.reset();
+            log.append(RECORDS.get(1));
+        }
+        assertEquals(RECORDS.subList(1, 2), replay(path));
+    }
+
+    @Test
+    @DisplayName("Should append a batch of records in order")
+    void testAppendAll() throws IOException {
+        Path path = directory.resolve("library.wal");
+        List<LogRecord> batch = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            batch.add(new LogRecord.AddBook("ISBN-" + i, "Titolo " + i, "Autore", i + 1));
+        }
+        // Record più grande del buffer dei gruppi
+        String part = "x".repeat(30_000);
+        batch.add(new LogRecord.AddBook("978-0134685991", part, part, 1));
+
+        try (WriteAheadLog log = WriteAheadLog.open(path)) {
+            log.append(RECORDS.get(0));
+            log.appendAll(batch);
+            log.appendAll(List.of());
+            assertThrows(IllegalArgumentException.class, () -> log.appendAll(Arrays.asList(RECORDS.get(1), null)));
+            // Un gruppo non scrivibile non lascia record parziali
+            long size = log.size();
+            List<LogRecord> invalid = List.of(RECORDS.get(1), new LogRecord.AddMagazine("2345-6789", "x".repeat(70_000), 1));
+            assertThrows(IOException.class, () -> log.appendAll(invalid));
+            assertEquals(size, log.size());
+            log.append(RECORDS.get(2));
+        }
+
+        List<LogRecord> expected = new ArrayList<>();
+        expected.add(RECORDS.get(0));
+        expected.addAll(batch);
+        expected.add(RECORDS.get(2));
+        assertEquals(expected, replay(path));
+    }
+
+    @Test
+    @DisplayName("Should remove a partially written record so later appends survive replay")
+    void testFailedAppendRollback() throws IOException {
+        Path path = directory.resolve("library.wal");
+        TearingChannel channel = new TearingChannel(FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+        try (WriteAheadLog log = new WriteAheadLog(path, channel)) {
+            log.append(RECORDS.get(0));
+            long size = log.size();
+
+            // Scrittura interrotta a metà record
+            channel.tearNextWrite = true;
+            assertThrows(IOException.class, () -> log.append(RECORDS.get(1)));
+            assertEquals(size, log.size());
+
+            log.append(RECORDS.get(2));
+            channel.tearNextWrite = true;
+            assertThrows(IOException.class, () -> log.appendAll(List.of(RECORDS.get(1), RECORDS.get(3))));
+            log.append(RECORDS.get(3));
+        }
+
+        assertEquals(List.of(RECORDS.get(0), RECORDS.get(2), RECORDS.get(3)), replay(path));
+    }
+
+    private static List<LogRecord> replay(Path path) throws IOException {
+        List<LogRecord> records = new ArrayList<>();
+        int count = WriteAheadLog.replay(path, records::add);
+        assertEquals(records.size(), count);
+        return records;
+    }
+
+    /**
+     * Canale che, su richiesta, scrive solo metà del buffer e poi fallisce,
+     * come una scrittura interrotta da un disco pieno.
+     */
+    private static final class TearingChannel extends FileChannel {
+
+        private final FileChannel delegate;
+
+        /** Se impostato, la prossima scrittura viene interrotta */
+        private boolean tearNextWrite;
+
+        TearingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (tearNextWrite) {
+                tearNextWrite = false;
+                delegate.write(src.slice(src.position(), src.remaining() / 2));
+                throw new IOException("No space left on device");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.biblioteca.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Test suite per il modello delle query composte e il pianificatore {@link QueryPlanner}.
+ *
+ * <p>Verifica che i risultati del pianificatore coincidano, anche
+ * nell'ordine, con il filtro lineare basato su {@link Query#matches(LibraryItem)},
+ * qualunque sia l'ordine di valutazione scelto, e che le stime di costo
+ * riflettano la selettività degli indici.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class QueryPlannerTest {
+
+    private List<LibraryItem> items;
+    private LibraryIndex index;
+    private QueryPlanner planner;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        items = new ArrayList<>();
+        items.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        items.add(LibraryItemFactory.createBook("978-0132350884", "Clean Code", "Robert Martin", 464));
+        items.add(LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45));
+        items.add(LibraryItemFactory.createBook("978-0596009205", "Head First Java", "Kathy Sierra", 688));
+        items.add(LibraryItemFactory.createMagazine("2345-6789", "Città e Società", 12));
+        items.add(LibraryItemFactory.createBook("978-0321356680", "Java Concurrency in Practice", "Brian Goetz", 384));
+        items.get(3).setAvailable(false);
+
+        index = new LibraryIndex();
+        for (LibraryItem item : items) {
+            index.add(item);
+        }
+        planner = new QueryPlanner(index);
+    }
+
+    @Test
+    @DisplayName("Should match a linear filter for every query shape")
+    public void testPlannerMatchesLinearFilter() {
+        List<Query> queries = List.of(
+                Query.title("java"),
+                Query.title("ja"),
+                Query.title("CITTA"),
+                Query.id("978-0134685991"),
+                Query.id("9780"),
+                Query.author("bloch"),
+                Query.author("ierra"),
+                Query.type("magazine"),
+                Query.available(false),
+                Query.and(Query.title("java"), Query.type("Book"), Query.available(true)),
+                Query.and(Query.id("978"), Query.title("code")),
+                Query.or(Query.title("clean"), Query.title("magazine")),
+                Query.or(Query.title("clean"), Query.author("sierra")),
+                Query.not(Query.title("java")),
+                Query.not(Query.type("Book")),
+                Query.and(Query.title("java"), Query.not(Query.author("goetz"))),
+                Query.title("nessun risultato"));
+
+        for (Query query : queries) {
+            assertEquals(filter(query), planner.execute(query), "Query: " + query);
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat partial ID matches element by element")
+    public void testIdPredicateIsElementWise() {
+        // Un ID esatto non esclude le corrispondenze parziali degli altri elementi
+        List<LibraryItem> results = planner.execute(Query.id("9780134685991"));
+        assertEquals(1, results.size());
+        results = planner.execute(Query.or(Query.id("978-0134685991"), Query.id("0132350")));
+        assertEquals(List.of(items.get(0), items.get(1)), results);
+    }
+
+    @Test
+    @DisplayName("Should answer type and availability filters from bitmaps kept current")
+    public void testAttributeBitmaps() {
+        Query availableJavaBooks = Query.and(Query.title("java"), Query.type("BOOK"), Query.available(true));
+        assertEquals(List.of(items.get(0), items.get(5)), planner.execute(availableJavaBooks));
+        assertEquals(2, planner.estimate(Query.type("magazine")));
+
+        // Cambio di disponibilità riallineato nell'indice
+        items.get(0).setAvailable(false);
+        items.get(3).setAvailable(true);
+        assertTrue(index.updateAvailability(items.get(0)));
+        assertTrue(index.updateAvailability(items.get(3)));
+        assertEquals(List.of(items.get(3), items.get(5)), planner.execute(availableJavaBooks));
+        assertEquals(filter(Query.available(false)), planner.execute(Query.available(false)));
+    }
+
+    @Test
+    @DisplayName("Should estimate selective predicates below the collection size")
+    public void testEstimates() {
+        assertTrue(planner.estimate(Query.title("concurrency")) <= 1);
+        assertEquals(0, planner.estimate(Query.title("xyz")));
+        assertEquals(1, planner.estimate(Query.author("bloch")));
+        assertEquals(items.size(), planner.estimate(Query.not(Query.title("java"))));
+        assertTrue(planner.estimate(Query.and(Query.type("Book"), Query.title("clean"))) <= 1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    public void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Query.title(null));
+        assertThrows(IllegalArgumentException.class, () -> Query.and());
+        assertThrows(IllegalArgumentException.class, () -> Query.not(null));
+    }
+
+    private List<LibraryItem> filter(Query query) {
+        List<LibraryItem> results = new ArrayList<>();
+        for (LibraryItem item : items) {
+            if (query.matches(item)) {
+                results.add(item);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,68 @@
+package com.biblioteca.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+
+/**
+ * Test suite per il calcolo della rilevanza {@link Bm25Scorer}.
+ *
+ * <p>Verifica le proprietà del modello BM25 su cui si basa il ranking:
+ * titoli più corti e termini più rari ottengono punteggi maggiori.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class Bm25ScorerTest {
+
+    private LibraryIndex index;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createBook("978-0321349606", "Java Concurrency in Practice", "Brian Goetz", 384));
+        index.add(LibraryItemFactory.createBook("978-0596009205", "Head First Java", "Kathy Sierra", 688));
+        index.add(LibraryItemFactory.createBook("978-0132350884", "Clean Code", "Robert Martin", 464));
+    }
+
+    @Test
+    @DisplayName("Should score shorter titles higher for the same term")
+    public void testShorterTitleScoresHigher() {
+        Bm25Scorer scorer = new Bm25Scorer(index, "java");
+
+        assertTrue(scorer.score("effective java") > scorer.score("java concurrency in practice"));
+    }
+
+    @Test
+    @DisplayName("Should weight rare terms more than frequent ones")
+    public void testRareTermsWeighMore() {
+        Bm25Scorer scorer = new Bm25Scorer(index, "java concurrency");
+
+        assertTrue(scorer.score("concurrency") > scorer.score("java"));
+    }
+
+    @Test
+    @DisplayName("Should give zero score to titles without query terms")
+    public void testNoMatchingTerms() {
+        Bm25Scorer scorer = new Bm25Scorer(index, "java");
+
+        assertEquals(0.0, scorer.score("clean code"));
+        assertEquals(0.0, scorer.score(null));
+    }
+
+    @Test
+    @DisplayName("Should match whole tokens only")
+    public void testWholeTokensOnly() {
+        Bm25Scorer scorer = new Bm25Scorer(index, "java");
+
+        assertEquals(0.0, scorer.score("javascript"));
+    }
+}
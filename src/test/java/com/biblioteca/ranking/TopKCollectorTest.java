@@ -0,0 +1,73 @@
+package com.biblioteca.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite per il raccoglitore dei migliori risultati {@link TopKCollector}.
+ *
+ * <p>Verifica che vengano trattenuti solo i k punteggi più alti, restituiti
+ * dal migliore al peggiore, e che a parità di punteggio prevalga l'ordinale
+ * minore.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class TopKCollectorTest {
+
+    @Test
+    @DisplayName("Should keep only the k best results in descending order")
+    public void testKeepsBestResults() {
+        TopKCollector collector = new TopKCollector(3);
+        double[] offered = {0.5, 2.0, 1.0, 3.0, 0.1, 2.5};
+        for (int i = 0; i < offered.length; i++) {
+            collector.offer(i, offered[i]);
+        }
+
+        double[] scores = new double[3];
+        int[] ordinals = new int[3];
+        assertEquals(3, collector.drain(scores, ordinals));
+        assertEquals(3, ordinals[0]);
+        assertEquals(5, ordinals[1]);
+        assertEquals(1, ordinals[2]);
+        assertEquals(3.0, scores[0]);
+        assertEquals(0, collector.size());
+    }
+
+    @Test
+    @DisplayName("Should prefer lower ordinals on equal scores")
+    public void testTieBreakByOrdinal() {
+        TopKCollector collector = new TopKCollector(2);
+        collector.offer(0, 1.0);
+        collector.offer(1, 1.0);
+        collector.offer(2, 1.0);
+
+        double[] scores = new double[2];
+        int[] ordinals = new int[2];
+        collector.drain(scores, ordinals);
+        assertEquals(0, ordinals[0]);
+        assertEquals(1, ordinals[1]);
+    }
+
+    @Test
+    @DisplayName("Should return fewer results than capacity when fewer are offered")
+    public void testFewerResultsThanCapacity() {
+        TopKCollector collector = new TopKCollector(10);
+        collector.offer(7, 0.3);
+
+        assertEquals(1, collector.size());
+        double[] scores = new double[1];
+        int[] ordinals = new int[1];
+        assertEquals(1, collector.drain(scores, ordinals));
+        assertEquals(7, ordinals[0]);
+    }
+
+    @Test
+    @DisplayName("Should reject negative capacity")
+    public void testNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKCollector(-1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.biblioteca.strategy;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Test suite per la ricerca approssimata {@link FuzzySearchStrategy}.
+ *
+ * <p>Verifica la tolleranza agli errori di battitura, il limite di modifiche
+ * in base alla lunghezza dei termini e l'equivalenza dei risultati fra
+ * l'albero BK dell'indice e la scansione lineare, anche dopo inserimenti
+ * successivi alla costruzione dell'albero.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class FuzzySearchStrategyTest {
+
+    private LibraryIndex index;
+    private FuzzySearchStrategy strategy;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createBook("978-0132350884", "Clean Code", "Robert Martin", 464));
+        index.add(LibraryItemFactory.createBook("978-0201633610", "Design Patterns", "Erich Gamma", 395));
+        index.add(LibraryItemFactory.createMagazine("1234-5678", "Java Magazine", 45));
+        strategy = new FuzzySearchStrategy();
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos within the allowed edits")
+    void testTypos() {
+        List<LibraryItem> results = strategy.search(index, "Efective Jvaa");
+        assertEquals(1, results.size());
+        assertEquals("Effective Java", results.get(0).getTitle());
+
+        assertEquals(1, strategy.search(index, "patern").size());
+        assertEquals(2, strategy.search(index, "jva").size());
+        // Termini di 2 caratteri: solo corrispondenze esatte
+        assertTrue(strategy.search(index, "ja").isEmpty());
+        // Una sola modifica ammessa con il limite ridotto
+        assertTrue(new FuzzySearchStrategy(1).search(index, "patern").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new FuzzySearchStrategy(3));
+    }
+
+    @Test
+    @DisplayName("Indexed fuzzy search should match linear scan")
+    void testIndexedSearchMatchesLinearScan() throws InvalidDataException {
+        String[] queries = {"efective", "jvaa magazin", "cleen cod", "desing", "java", "xyz", "", "code java"};
+        for (String query : queries) {
+            assertEquals(strategy.search(index.getItems(), query), strategy.search(index, query),
+                    "Mismatch for query '" + query + "'");
+        }
+
+        // Inserimenti dopo la costruzione dell'albero
+        index.add(LibraryItemFactory.createBook("978-1617294945", "Clean Architecture", "Robert Martin", 432));
+        index.add(LibraryItemFactory.createBook("978-0596007126", "Head First Design Patterns", "Eric Freeman", 694));
+        for (String query : queries) {
+            assertEquals(strategy.search(index.getItems(), query), strategy.search(index, query),
+                    "Mismatch after insert for query '" + query + "'");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.biblioteca.strategy;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Test suite per il decoratore di ricerca parallela {@link ParallelSearchStrategy}.
+ *
+ * <p>Verifica che l'esecuzione parallela produca gli stessi risultati, nello
+ * stesso ordine, della ricerca sequenziale, e che le strategie non
+ * decomponibili per elemento restino sequenziali.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class ParallelSearchStrategyTest {
+
+    private List<LibraryItem> items;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        items = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String title = (i % 3 == 0 ? "Java Volume " : "Python Volume ") + i;
+            items.add(LibraryItemFactory.createMagazine(String.format("%04d-%04d", i / 10, i), title, 1));
+        }
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return the same results in the same order as sequential search")
+    public void testSameResultsAsSequential() {
+        TitleSearchStrategy sequential = new TitleSearchStrategy();
+        ParallelSearchStrategy parallel = new ParallelSearchStrategy(sequential, pool, 100);
+
+        for (String query : new String[] {"java", "volume 12", "python volume 4999", "missing", ""}) {
+            assertEquals(sequential.search(items, query), parallel.search(items, query));
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle lists without random access")
+    public void testLinkedList() {
+        TitleSearchStrategy sequential = new TitleSearchStrategy();
+        ParallelSearchStrategy parallel = new ParallelSearchStrategy(sequential, pool, 100);
+
+        assertEquals(sequential.search(items, "java"), parallel.search(new LinkedList<>(items), "java"));
+    }
+
+    @Test
+    @DisplayName("Should keep non element-wise strategies sequential")
+    public void testIdStrategyStaysSequential() {
+        IdSearchStrategy sequential = new IdSearchStrategy();
+        ParallelSearchStrategy parallel = new ParallelSearchStrategy(sequential, pool, 100);
+
+        assertFalse(parallel.isElementWise());
+        assertEquals(sequential.search(items, "0000-0000"), parallel.search(items, "0000-0000"));
+        assertEquals(sequential.search(items, "123"), parallel.search(items, "123"));
+    }
+
+    @Test
+    @DisplayName("Should expose the element-wise property of the delegate")
+    public void testElementWise() {
+        assertTrue(new ParallelSearchStrategy(new TitleSearchStrategy()).isElementWise());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSearchStrategy(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearchStrategy(new TitleSearchStrategy(), pool, 0));
+    }
+}
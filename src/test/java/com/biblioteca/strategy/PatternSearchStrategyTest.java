@@ -0,0 +1,69 @@
+package com.biblioteca.strategy;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Test suite per la ricerca con caratteri jolly {@link PatternSearchStrategy}.
+ *
+ * <p>Verifica la semantica di {@code *} e {@code ?}, il trattamento letterale
+ * dei metacaratteri delle espressioni regolari e l'equivalenza dei risultati
+ * fra il prefiltro sugli indici e la scansione lineare.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class PatternSearchStrategyTest {
+
+    private LibraryIndex index;
+    private PatternSearchStrategy strategy;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        index = new LibraryIndex();
+        index.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        index.add(LibraryItemFactory.createBook("978-0132350884", "Clean Code", "Robert Martin", 464));
+        index.add(LibraryItemFactory.createBook("978-0201633610", "Java Design Patterns", "Vaskaran Sarcar", 300));
+        index.add(LibraryItemFactory.createBook("978-0596009205", "Head First Java", "Kathy Sierra", 688));
+        index.add(LibraryItemFactory.createMagazine("1234-5678", "C++ (Modern) Magazine", 45));
+        index.add(LibraryItemFactory.createMagazine("2345-6789", "Città e Società", 12));
+        strategy = new PatternSearchStrategy();
+    }
+
+    @Test
+    @DisplayName("Should expand wildcards and treat other characters literally")
+    void testWildcards() {
+        List<LibraryItem> results = strategy.search(index, "Java*Patterns");
+        assertEquals(1, results.size());
+        assertEquals("Java Design Patterns", results.get(0).getTitle());
+
+        assertEquals(1, strategy.search(index, "c?de").size());
+        assertEquals(1, strategy.search(index, "head**java").size());
+        assertEquals(1, strategy.search(index, "c++ (mod*)").size());
+        assertEquals(1, strategy.search(index, "CITTA*SOCIETA").size());
+        assertEquals(6, strategy.search(index, "*").size());
+        assertTrue(strategy.search(index, "java?patterns").isEmpty());
+        assertTrue(strategy.search(index, "  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Indexed pattern search should match linear scan")
+    void testIndexedSearchMatchesLinearScan() {
+        String[] queries = {"java*", "*java", "j?va", "ava*ter", "e*e*e", "cl?an c*", "c++", "(m", "zz*", "a", "?", "??????????????????????????"};
+        for (String query : queries) {
+            assertEquals(strategy.search(index.getItems(), query), strategy.search(index, query),
+                    "Mismatch for query '" + query + "'");
+        }
+    }
+}
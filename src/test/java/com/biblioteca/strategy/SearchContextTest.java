@@ -0,0 +1,197 @@
+package com.biblioteca.strategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Test suite per le ricerche annullabili tramite {@link SearchContext}.
+ *
+ * <p>Verifica che le ricerche con un contesto attivo producano gli stessi
+ * risultati delle ricerche ordinarie, sia sulle liste sia sugli indici, che
+ * un annullamento interrompa la ricerca al punto di controllo successivo,
+ * anche durante l'esecuzione parallela, e che l'esaurimento del budget
+ * restituisca risultati parziali marcati come troncati.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class SearchContextTest {
+
+    private List<LibraryItem> items;
+    private LibraryIndex index;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        items = new ArrayList<>();
+        index = new LibraryIndex();
+        for (int i = 0; i < 5_000; i++) {
+            String title = (i % 3 == 0 ? "Java Volume " : "Python Volume ") + i;
+            LibraryItem item = LibraryItemFactory.createMagazine(String.format("%04d-%04d", i / 10, i), title, 1);
+            items.add(item);
+            index.add(item);
+        }
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Active context should not change the results")
+    public void testSameResultsWithActiveContext() {
+        TitleSearchStrategy title = new TitleSearchStrategy();
+        IdSearchStrategy id = new IdSearchStrategy();
+        ParallelSearchStrategy parallel = new ParallelSearchStrategy(title, pool, 100);
+
+        for (String query : new String[] {"java", "volume 12", "python volume 4999", "missing", ""}) {
+            assertEquals(title.search(items, query), title.search(items, query, new SearchContext()));
+            assertEquals(title.search(items, query), title.search(index, query, new SearchContext()));
+            assertEquals(title.search(items, query), parallel.search(items, query, new SearchContext()));
+        }
+        assertEquals(id.search(items, "0000-0000"), id.search(items, "0000-0000", new SearchContext()));
+        assertEquals(id.search(items, "123"), id.search(index, "123", new SearchContext()));
+    }
+
+    @Test
+    @DisplayName("Cancelled context should stop list, index and parallel searches")
+    public void testCancelledContext() {
+        SearchContext context = new SearchContext();
+        context.cancel();
+        TitleSearchStrategy title = new TitleSearchStrategy();
+
+        assertThrows(CancellationException.class, () -> title.search(items, "java", context));
+        assertThrows(CancellationException.class, () -> title.search(index, "java", context));
+        assertThrows(CancellationException.class,
+                () -> new ParallelSearchStrategy(title, pool, 100).search(items, "java", context));
+        assertThrows(CancellationException.class, () -> new IdSearchStrategy().search(items, "123", context));
+    }
+
+    @Test
+    @DisplayName("Cancellation during the scan should stop at the next checkpoint")
+    public void testCancellationDuringScan() {
+        SearchContext context = new SearchContext();
+        AtomicInteger chunks = new AtomicInteger();
+        SearchStrategy cancelling = new SearchStrategy() {
+            @Override
+            public List<LibraryItem> search(List<LibraryItem> chunk, String query) {
+                chunks.incrementAndGet();
+                context.cancel();
+                return List.of();
+            }
+
+            @Override
+            public boolean isElementWise() {
+                return true;
+            }
+        };
+
+        assertThrows(CancellationException.class, () -> cancelling.search(items, "java", context));
+        assertEquals(1, chunks.get());
+    }
+
+    @Test
+    @DisplayName("Exhausted work budget should return a truncated prefix of the results")
+    public void testWorkBudgetTruncates() {
+        TitleSearchStrategy title = new TitleSearchStrategy();
+        IdSearchStrategy id = new IdSearchStrategy();
+
+        SearchContext listContext = new SearchContext(SearchBudget.ofWork(2_000));
+        assertPrefix(title.search(items, "volume"), title.search(items, "volume", listContext));
+        assertTrue(listContext.isTruncated());
+        assertTrue(listContext.getWorkDone() < 2_000 + SearchContext.CHECK_INTERVAL);
+
+        SearchContext indexContext = new SearchContext(SearchBudget.ofWork(2_000));
+        assertPrefix(title.search(index, "volume"), title.search(index, "volume", indexContext));
+        assertTrue(indexContext.isTruncated());
+
+        // Ricerca parziale per ID: nessuna corrispondenza esatta, scansione delle cifre
+        SearchContext idContext = new SearchContext(SearchBudget.ofWork(6_000));
+        assertPrefix(id.search(items, "000"), id.search(items, "000", idContext));
+        assertTrue(idContext.isTruncated());
+    }
+
+    @Test
+    @DisplayName("Vectorized scan should honour the work budget and cancellation")
+    public void testVectorizedScanBudget() {
+        VectorizedTitleSearchStrategy vectorized = new VectorizedTitleSearchStrategy();
+        List<LibraryItem> expected = vectorized.search(index, "volume");
+        assertEquals(expected, vectorized.search(index, "volume", new SearchContext()));
+        assertEquals(vectorized.search(index, "java volume 4"), vectorized.search(index, "java volume 4", new SearchContext()));
+
+        SearchContext context = new SearchContext(SearchBudget.ofWork(2_000));
+        assertPrefix(expected, vectorized.search(index, "volume", context));
+        assertTrue(context.isTruncated());
+        assertTrue(context.getWorkDone() < 2_000 + SearchContext.CHECK_INTERVAL);
+
+        SearchContext cancelled = new SearchContext();
+        cancelled.cancel();
+        assertThrows(CancellationException.class, () -> vectorized.search(index, "volume", cancelled));
+    }
+
+    @Test
+    @DisplayName("Pattern scan without indexable fragments should honour the work budget")
+    public void testPatternScanBudget() {
+        PatternSearchStrategy pattern = new PatternSearchStrategy();
+        assertEquals(pattern.search(items, "y*n"), pattern.search(index, "y*n", new SearchContext()));
+
+        // Nessun frammento indicizzabile e nessun risultato: il budget limita i titoli verificati
+        SearchContext context = new SearchContext(SearchBudget.ofWork(2_000));
+        assertTrue(pattern.search(index, "z*q", context).isEmpty());
+        assertTrue(context.isTruncated());
+        assertTrue(context.getWorkDone() < 2_000 + SearchContext.CHECK_INTERVAL);
+
+        SearchContext cancelled = new SearchContext();
+        cancelled.cancel();
+        assertThrows(CancellationException.class, () -> pattern.search(index, "z*q", cancelled));
+    }
+
+    @Test
+    @DisplayName("Sufficient budget should return complete results")
+    public void testSufficientBudget() {
+        TitleSearchStrategy title = new TitleSearchStrategy();
+        SearchContext context = new SearchContext(new SearchBudget(Duration.ofMinutes(1), 100_000));
+
+        assertEquals(title.search(items, "java"), title.search(items, "java", context));
+        assertEquals(new IdSearchStrategy().search(items, "123"), new IdSearchStrategy().search(items, "123", context));
+        assertFalse(context.isTruncated());
+    }
+
+    @Test
+    @DisplayName("Expired deadline should stop the search")
+    public void testExpiredDeadline() {
+        SearchContext context = new SearchContext(SearchBudget.ofTime(Duration.ofNanos(1)));
+
+        assertTrue(new TitleSearchStrategy().search(items, "java", context).isEmpty());
+        assertTrue(context.isTruncated());
+        assertFalse(context.checkpoint(1));
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofTime(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofWork(0));
+    }
+
+    private static void assertPrefix(List<LibraryItem> expected, List<LibraryItem> partial) {
+        assertTrue(partial.size() < expected.size(), "Results should be truncated");
+        assertEquals(expected.subList(0, partial.size()), partial);
+    }
+}
@@ -1,7 +1,9 @@
 package com.biblioteca.strategy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import com.biblioteca.exceptions.InvalidDataException;
 import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
 import com.biblioteca.model.LibraryItem;
 
 /**
@@ -214,4 +217,61 @@ class SearchStrategyTest {
         // Should extract "12" which is less than 3 digits
         assertEquals(0, results.size());
     }
+
+    @Test
+    @DisplayName("Count should match the size of the search results")
+    void testCountMatchesSearchSize() {
+        String[] titleQueries = {"Java", "jav", "Programming", "x", "", null};
+        for (String query : titleQueries) {
+            assertEquals(titleSearchStrategy.search(testItems, query).size(),
+                    titleSearchStrategy.count(testItems, query));
+        }
+
+        String[] idQueries = {"978-0134685991", "123", "5678", "ab12cd", "", null};
+        for (String query : idQueries) {
+            assertEquals(idSearchStrategy.search(testItems, query).size(),
+                    idSearchStrategy.count(testItems, query));
+        }
+    }
+
+    @Test
+    @DisplayName("Indexed count should match the linear count")
+    void testIndexedCountMatchesLinearCount() {
+        LibraryIndex index = new LibraryIndex();
+        testItems.forEach(index::add);
+
+        String[] titleQueries = {"Java", "jav", "a m", "Programming", "x", ""};
+        for (String query : titleQueries) {
+            assertEquals(titleSearchStrategy.count(testItems, query), titleSearchStrategy.count(index, query));
+        }
+
+        String[] idQueries = {"978-0134685991", "123", "987", "5678", "ab12cd", ""};
+        for (String query : idQueries) {
+            assertEquals(idSearchStrategy.count(testItems, query), idSearchStrategy.count(index, query));
+        }
+    }
+
+    @Test
+    @DisplayName("Batch search should match individual searches for every query")
+    void testSearchAllMatchesIndividualSearches() {
+        LibraryIndex index = new LibraryIndex();
+        testItems.forEach(index::add);
+
+        List<String> idQueries = Arrays.asList("978-0134685991", "978-0134685991", "1234-5678", "123",
+                "ab12cd", "", null, "000-0000000");
+        Map<String, List<LibraryItem>> idResults = idSearchStrategy.searchAll(testItems, idQueries);
+        assertEquals(7, idResults.size());
+        for (String query : idQueries) {
+            assertEquals(idSearchStrategy.search(testItems, query), idResults.get(query));
+        }
+        assertEquals(idResults, idSearchStrategy.searchAll(index, idQueries));
+
+        List<String> titleQueries = Arrays.asList("Java", "java", "Programming", "x", "", null);
+        Map<String, List<LibraryItem>> titleResults = titleSearchStrategy.searchAll(testItems, titleQueries);
+        assertEquals(6, titleResults.size());
+        for (String query : titleQueries) {
+            assertEquals(titleSearchStrategy.search(testItems, query), titleResults.get(query));
+        }
+        assertEquals(titleResults, titleSearchStrategy.searchAll(index, titleQueries));
+    }
 }
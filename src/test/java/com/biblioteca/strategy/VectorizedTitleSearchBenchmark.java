@@ -0,0 +1,93 @@
+package com.biblioteca.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.Magazine;
+
+/**
+ * Benchmark della scansione non indicizzata dei titoli su un milione di elementi.
+ *
+ * <p>Confronta la scansione lineare di {@link TitleSearchStrategy} (un
+ * confronto fra stringhe per titolo) con quella di
+ * {@link VectorizedTitleSearchStrategy} (un'unica passata sui byte contigui
+ * dei titoli). Non è un test: va eseguito manualmente, con e senza il modulo
+ * della Vector API:</p>
+ *
+ * <pre>{@code
+ * mvn -q test-compile
+ * java --add-modules jdk.incubator.vector \
+ *      -cp target/classes:target/test-classes:<classpath slf4j> \
+ *      com.biblioteca.strategy.VectorizedTitleSearchBenchmark
+ * }</pre>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+public class VectorizedTitleSearchBenchmark {
+
+    private static final int ITEMS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final String[] WORDS = {
+        "java", "programming", "advanced", "patterns", "design", "effective", "concurrency",
+        "practice", "modern", "systems", "data", "structures", "algorithms", "weekly", "edition"
+    };
+    private static final String[] QUERIES = {"java", "concurrency in", "rns des", "zzz"};
+
+    public static void main(String[] args) {
+        List<LibraryItem> items = createItems();
+        LibraryIndex index = new LibraryIndex();
+        items.forEach(index::add);
+        TitleSearchStrategy strings = new TitleSearchStrategy();
+        VectorizedTitleSearchStrategy bytes = new VectorizedTitleSearchStrategy();
+        System.out.printf("Items: %,d - Vector API: %s%n", ITEMS, VectorizedTitleSearchStrategy.isVectorized());
+
+        for (String query : QUERIES) {
+            double stringMillis = measure(() -> strings.search(items, query).size());
+            double byteMillis = measure(() -> bytes.search(index, query).size());
+            System.out.printf("%-16s strings %8.2f ms   bytes %8.2f ms   speedup %.2fx%n",
+                    "\"" + query + "\"", stringMillis, byteMillis, stringMillis / byteMillis);
+        }
+    }
+
+    private static List<LibraryItem> createItems() {
+        Random random = new Random(7);
+        List<LibraryItem> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            StringBuilder title = new StringBuilder();
+            int words = 2 + random.nextInt(6);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    title.append(' ');
+                }
+                String word = WORDS[random.nextInt(WORDS.length)];
+                title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            }
+            items.add(new Magazine(String.format("%04d-%04d", i / 10_000, i % 10_000), title.toString(), 1));
+        }
+        return items;
+    }
+
+    private static double measure(IntSupplier search) {
+        int matches = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            matches += search.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            matches += search.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        // Uso del risultato per evitare che la ricerca venga eliminata dal JIT
+        if (matches < 0) {
+            System.out.println(matches);
+        }
+        return elapsed / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+}
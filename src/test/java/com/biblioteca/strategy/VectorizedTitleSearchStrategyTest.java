@@ -0,0 +1,116 @@
+package com.biblioteca.strategy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.index.LibraryIndex;
+import com.biblioteca.model.LibraryItem;
+
+/**
+ * Test suite per la ricerca per titolo vettorizzata {@link VectorizedTitleSearchStrategy}.
+ *
+ * <p>Verifica che la scansione dei byte dei titoli restituisca esattamente
+ * gli stessi risultati di {@link TitleSearchStrategy}, anche per titoli più
+ * lunghi di un vettore, con caratteri accentati o non rappresentabili in
+ * Latin-1, e che le implementazioni scalare e vettoriale dello scanner
+ * coincidano.</p>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class VectorizedTitleSearchStrategyTest {
+
+    private List<LibraryItem> items;
+    private LibraryIndex index;
+    private TitleSearchStrategy reference;
+    private VectorizedTitleSearchStrategy vectorized;
+
+    @BeforeEach
+    public void setUp() throws InvalidDataException {
+        items = new ArrayList<>();
+        items.add(LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416));
+        items.add(LibraryItemFactory.createBook("978-0596009205", "Café Programming", "Eric Freeman", 694));
+        items.add(LibraryItemFactory.createMagazine("1234-5678", "Ωmega Java Weekly", 45));
+        items.add(LibraryItemFactory.createMagazine("9876-5432",
+                "A Very Long Title About Concurrency, Collections and the Java Memory Model, Second Edition", 12));
+        index = new LibraryIndex();
+        items.forEach(index::add);
+        reference = new TitleSearchStrategy();
+        vectorized = new VectorizedTitleSearchStrategy();
+    }
+
+    @Test
+    @DisplayName("Should return the same results as TitleSearchStrategy")
+    public void testSameResultsAsTitleSearch() {
+        String[] queries = {"java", "JAVA", "cafe", "café", "ωmega", "ω", "edition", "model, second",
+                "a", "", "  ", null, "missing"};
+        for (String query : queries) {
+            assertEquals(reference.search(items, query), vectorized.search(index, query));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the title arena up to date after new insertions")
+    public void testArenaUpdatedOnAdd() throws InvalidDataException {
+        assertEquals(1, vectorized.search(index, "java weekly").size());
+
+        LibraryItem added = LibraryItemFactory.createMagazine("5555-6666", "Java Weekly Digest", 3);
+        items.add(added);
+        index.add(added);
+
+        assertEquals(reference.search(items, "java weekly"), vectorized.search(index, "java weekly"));
+        assertEquals(2, vectorized.search(index, "java weekly").size());
+    }
+
+    @Test
+    @DisplayName("Should not match across title boundaries")
+    public void testNoMatchAcrossTitles() {
+        // "Effective Java" è seguito da "Café Programming": "javacafe" non deve corrispondere
+        assertTrue(vectorized.search(index, "javacafe").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Scalar and vector scanners should agree on random inputs")
+    public void testScannersAgree() {
+        Random random = new Random(42);
+        ByteScanner scalar = new ScalarByteScanner();
+        ByteScanner scanner = VectorizedTitleSearchStrategy.isVectorized() ? new VectorByteScanner() : scalar;
+        for (int round = 0; round < 2_000; round++) {
+            byte[] text = randomBytes(random, random.nextInt(200));
+            byte[] pattern = randomBytes(random, 1 + random.nextInt(4));
+            int from = random.nextInt(text.length + 1);
+            int to = from + random.nextInt(text.length - from + 1);
+            String window = new String(text, from, to - from, StandardCharsets.ISO_8859_1);
+            int found = window.indexOf(new String(pattern, StandardCharsets.ISO_8859_1));
+            int expected = found < 0 ? -1 : from + found;
+            assertEquals(expected, scalar.indexOf(text, pattern, from, to));
+            assertEquals(expected, scanner.indexOf(text, pattern, from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("Should inherit the list search of TitleSearchStrategy")
+    public void testElementWise() {
+        assertTrue(vectorized.isElementWise());
+        assertEquals(reference.search(items, "java"), vectorized.search(items, "java"));
+    }
+
+    private byte[] randomBytes(Random random, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(3));
+        }
+        return bytes;
+    }
+}
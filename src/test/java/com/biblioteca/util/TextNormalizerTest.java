@@ -0,0 +1,88 @@
+package com.biblioteca.util;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.biblioteca.exceptions.InvalidDataException;
+import com.biblioteca.factory.LibraryItemFactory;
+import com.biblioteca.model.Book;
+import com.biblioteca.model.LibraryItem;
+import com.biblioteca.model.SearchKeys;
+import com.biblioteca.strategy.TitleSearchStrategy;
+
+/**
+ * Test suite per la classe di utilità TextNormalizer e per le chiavi di ricerca.
+ *
+ * <p>Verifica le regole di normalizzazione condivise da strategie e indici
+ * e il riuso delle chiavi precalcolate da {@link Book} e dalle riviste.</p>
+ *
+ * <p><strong>Aree testate:</strong></p>
+ * <ul>
+ *   <li><strong>Titoli:</strong> Conversione in minuscolo e rimozione dei diacritici</li>
+ *   <li><strong>ID:</strong> Estrazione delle cifre e chiave case-insensitive</li>
+ *   <li><strong>SearchKeys:</strong> Calcolo unico per elemento</li>
+ * </ul>
+ *
+ * @author Sistema Biblioteca
+ * @version 1.0
+ * @since 1.0
+ */
+class TextNormalizerTest {
+
+    @Test
+    @DisplayName("Should lowercase and strip accents")
+    void testNormalizeStripsAccents() {
+        assertEquals("effective java", TextNormalizer.normalize("Effective Java"));
+        assertEquals("cafe creme", TextNormalizer.normalize("Café Crème"));
+        assertEquals("perche", TextNormalizer.normalize("PERCHÉ"));
+        assertNull(TextNormalizer.normalize(null));
+    }
+
+    @Test
+    @DisplayName("Should extract digits without regex")
+    void testDigitsOnly() {
+        assertEquals("9780134685991", TextNormalizer.digitsOnly("978-0134685991"));
+        assertEquals("123456", TextNormalizer.digitsOnly("abc123def456"));
+        assertEquals("", TextNormalizer.digitsOnly("ISSN"));
+        assertNull(TextNormalizer.digitsOnly(null));
+    }
+
+    @Test
+    @DisplayName("Folded keys should agree with equalsIgnoreCase")
+    void testFoldCase() {
+        assertEquals(TextNormalizer.foldCase("080442957X"), TextNormalizer.foldCase("080442957x"));
+        assertTrue("080442957X".equalsIgnoreCase("080442957x"));
+        assertNull(TextNormalizer.foldCase(null));
+    }
+
+    @Test
+    @DisplayName("Books should reuse precomputed search keys")
+    void testSearchKeysAreCached() throws InvalidDataException {
+        LibraryItem book = LibraryItemFactory.createBook("978-0134685991", "Effective Java", "Joshua Bloch", 416);
+
+        SearchKeys keys = SearchKeys.forItem(book);
+
+        assertSame(keys, SearchKeys.forItem(book));
+        assertEquals("effective java", keys.getNormalizedTitle());
+        assertEquals("9780134685991", keys.getIdDigits());
+    }
+
+    @Test
+    @DisplayName("Title search should ignore accents")
+    void testTitleSearchIgnoresAccents() throws InvalidDataException {
+        List<LibraryItem> items = List.of(
+                LibraryItemFactory.createMagazine("1234-5678", "Café Magazine", 3),
+                LibraryItemFactory.createMagazine("8765-4321", "Cafeteria News", 1));
+
+        TitleSearchStrategy strategy = new TitleSearchStrategy();
+
+        assertEquals(2, strategy.search(items, "cafe").size());
+        assertEquals(2, strategy.search(items, "CAFÉ").size());
+    }
+}